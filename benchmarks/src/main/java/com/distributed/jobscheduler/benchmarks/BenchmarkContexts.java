@@ -0,0 +1,40 @@
+package com.distributed.jobscheduler.benchmarks;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Starts a service's Spring context without its web server, on a private H2 database and with logging turned down
+ * so that neither SQL nor DEBUG output ends up in the measurements. Every service jar on the classpath ships an
+ * {@code application.yml}, so none is read; benchmarks pass the properties they need.
+ */
+final class BenchmarkContexts {
+
+    /** Interval for background tasks that should run once at startup and then stay out of the way. */
+    static final long ONE_DAY_MILLIS = 86_400_000L;
+
+    private BenchmarkContexts() {
+    }
+
+    static ConfigurableApplicationContext start(Class<?> application, String database, Map<String, Object> properties) {
+        Map<String, Object> defaults = new HashMap<>();
+        defaults.put("spring.config.name", "benchmark");
+        defaults.put("spring.application.name", database);
+        defaults.put("spring.datasource.url",
+                "jdbc:h2:mem:" + database + ";MODE=PostgreSQL;DATABASE_TO_UPPER=false;DB_CLOSE_DELAY=-1");
+        defaults.put("spring.jpa.show-sql", "false");
+        defaults.put("spring.jpa.properties.hibernate.format_sql", "false");
+        defaults.put("logging.level.root", "WARN");
+        defaults.put("logging.level.org.hibernate.SQL", "OFF");
+        defaults.put("logging.level.com.distributed.jobscheduler", "OFF");
+        defaults.putAll(properties);
+        return new SpringApplicationBuilder(application)
+                .web(WebApplicationType.NONE)
+                .properties(defaults)
+                .run();
+    }
+}
@@ -0,0 +1,108 @@
+package com.distributed.jobscheduler.benchmarks;
+
+import com.distributed.jobscheduler.common.dto.JobDispatchEvent;
+import com.distributed.jobscheduler.common.dto.ScheduledJobResponse;
+import com.distributed.jobscheduler.common.enums.JobFrequency;
+import com.distributed.jobscheduler.common.enums.JobStatus;
+import com.distributed.jobscheduler.common.enums.WorkloadType;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * JSON encoding of the objects on the dispatch path: a due schedule as the job store returns it, and dispatch events
+ * singly and in the batches sent to {@code /dispatch/batch}. The mapper is configured like Spring Boot's.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class DispatchSerializationBenchmark {
+
+    @Param({"64", "4096"})
+    public int payloadBytes;
+
+    @Param("200")
+    public int batchSize;
+
+    private ObjectMapper objectMapper;
+    private ScheduledJobResponse schedule;
+    private JobDispatchEvent event;
+    private List<JobDispatchEvent> batch;
+    private byte[] scheduleJson;
+    private byte[] eventJson;
+    private byte[] batchJson;
+    private JavaType batchType;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        String payload = "{\"data\":\"" + "x".repeat(Math.max(0, payloadBytes - 11)) + "\"}";
+        Instant runAt = Instant.parse("2026-01-01T00:00:00Z");
+        schedule = new ScheduledJobResponse(42L, 4242L, "nightly-report", JobFrequency.CRON, JobStatus.PENDING, runAt,
+                17, 113, payload, "0 2 * * *", "Europe/Berlin", WorkloadType.IO_BOUND, "step=3");
+        batch = IntStream.range(0, batchSize)
+                .mapToObj(i -> JobDispatchEvent.builder()
+                        .jobId((long) i)
+                        .jobName("job-" + i)
+                        .payload(payload)
+                        .scheduledTime(runAt)
+                        .workloadType(WorkloadType.IO_BOUND)
+                        .build())
+                .toList();
+        event = batch.get(0);
+        scheduleJson = objectMapper.writeValueAsBytes(schedule);
+        eventJson = objectMapper.writeValueAsBytes(event);
+        batchJson = objectMapper.writeValueAsBytes(batch);
+        batchType = objectMapper.getTypeFactory().constructCollectionType(List.class, JobDispatchEvent.class);
+    }
+
+    @Benchmark
+    public byte[] writeScheduledJob() throws Exception {
+        return objectMapper.writeValueAsBytes(schedule);
+    }
+
+    @Benchmark
+    public ScheduledJobResponse readScheduledJob() throws Exception {
+        return objectMapper.readValue(scheduleJson, ScheduledJobResponse.class);
+    }
+
+    @Benchmark
+    public byte[] writeDispatchEvent() throws Exception {
+        return objectMapper.writeValueAsBytes(event);
+    }
+
+    @Benchmark
+    public JobDispatchEvent readDispatchEvent() throws Exception {
+        return objectMapper.readValue(eventJson, JobDispatchEvent.class);
+    }
+
+    @Benchmark
+    public byte[] writeDispatchBatch() throws Exception {
+        return objectMapper.writeValueAsBytes(batch);
+    }
+
+    @Benchmark
+    public List<JobDispatchEvent> readDispatchBatch() throws Exception {
+        return objectMapper.readValue(batchJson, batchType);
+    }
+}
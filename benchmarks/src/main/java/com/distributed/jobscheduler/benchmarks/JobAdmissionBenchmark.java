@@ -0,0 +1,85 @@
+package com.distributed.jobscheduler.benchmarks;
+
+import com.distributed.jobscheduler.agent.WorkerAgentApplication;
+import com.distributed.jobscheduler.agent.service.JobExecutionService;
+import com.distributed.jobscheduler.common.dto.JobDispatchEvent;
+import com.distributed.jobscheduler.common.enums.WorkloadType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Admission cost of {@link JobExecutionService#executeJob} called from many threads at once, which is how dispatch
+ * requests arrive at an agent. It measures the accept-or-refuse decision, not job execution: with
+ * {@code simulatedJobMillis = 0} the runs finish at once and nearly every call is accepted, while with 1000 the
+ * executors fill within the first iteration and nearly every call is refused. The adaptive limiter is disabled so the
+ * bounds stay fixed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 5)
+@Threads(8)
+@Fork(1)
+public class JobAdmissionBenchmark {
+
+    @Param({"IO_BOUND", "CPU_BOUND"})
+    public WorkloadType workloadType;
+
+    @Param({"0", "1000"})
+    public long simulatedJobMillis;
+
+    private ConfigurableApplicationContext context;
+    private JobExecutionService jobExecutionService;
+    private final AtomicLong jobIds = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContexts.start(WorkerAgentApplication.class, "bench_agent", Map.of(
+                "worker.agent.worker-id", "bench-agent",
+                "worker.agent.concurrency-limit", 256,
+                "worker.agent.queue-capacity", 4096,
+                "worker.agent.limiter.enabled", false,
+                "worker.agent.simulated-job-millis", simulatedJobMillis,
+                // Nothing listens here; status and history writes fail fast off the measured path
+                "worker.agent.job-store-url", "http://localhost:1",
+                "worker.agent.execution-coordinator-url", "http://localhost:1",
+                "worker.agent.heartbeat-interval-millis", BenchmarkContexts.ONE_DAY_MILLIS,
+                "worker.agent.assignments.report-millis", BenchmarkContexts.ONE_DAY_MILLIS));
+        jobExecutionService = context.getBean(JobExecutionService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public boolean executeJob() {
+        long jobId = jobIds.incrementAndGet();
+        return jobExecutionService.executeJob(JobDispatchEvent.builder()
+                .jobId(jobId)
+                .jobName("bench")
+                .scheduledTime(Instant.now())
+                .workloadType(workloadType)
+                .build());
+    }
+}
@@ -0,0 +1,94 @@
+package com.distributed.jobscheduler.benchmarks;
+
+import com.distributed.jobscheduler.common.dto.ScheduledJobResponse;
+import com.distributed.jobscheduler.common.dto.SegmentRange;
+import com.distributed.jobscheduler.jobstore.JobStoreServiceApplication;
+import com.distributed.jobscheduler.jobstore.service.JobStoreService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * {@link JobStoreService#getScheduledJobs} against an H2 job store seeded with {@code scheduleCount} recurring jobs
+ * spread over 100 segments, half of them due.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class ScheduledJobsQueryBenchmark {
+
+    private static final int TOTAL_SEGMENTS = 100;
+
+    @Param("1000000")
+    public int scheduleCount;
+
+    @Param({"1", "10"})
+    public int segmentCount;
+
+    @Param({"100", "1000"})
+    public int limit;
+
+    private ConfigurableApplicationContext context;
+    private JobStoreService jobStoreService;
+    private List<SegmentRange> segments;
+    private Instant now;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContexts.start(JobStoreServiceApplication.class, "bench_jobstore", Map.of(
+                "jobstore.retention.maintenance-interval-millis", BenchmarkContexts.ONE_DAY_MILLIS,
+                "jobstore.metrics.backlog-refresh-millis", BenchmarkContexts.ONE_DAY_MILLIS));
+        jobStoreService = context.getBean(JobStoreService.class);
+        now = Instant.now();
+        seed(context.getBean(JdbcTemplate.class));
+        segments = IntStream.range(0, segmentCount).mapToObj(SegmentRange::whole).toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ScheduledJobResponse> getScheduledJobs() {
+        return jobStoreService.getScheduledJobs(now, segments, limit);
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        Timestamp seededAt = Timestamp.from(now);
+        jdbcTemplate.update("INSERT INTO jobs (id, job_name, frequency, payload, workload_type, execution_time, "
+                        + "retry_count, max_retries, status, version, created_at, updated_at) "
+                        + "SELECT X, 'bench-job-' || X, 'DAILY', '{\"n\":' || X || '}', 'IO_BOUND', ?, 0, 3, "
+                        + "'PENDING', 0, ?, ? FROM SYSTEM_RANGE(1, ?)",
+                seededAt, seededAt, seededAt, scheduleCount);
+        // Next run times span one day either side of now, so half the schedules are due
+        jdbcTemplate.update("INSERT INTO job_schedules (id, job_id, next_run_time, segment, slot) "
+                        + "SELECT X, X, DATEADD('SECOND', MOD(X * 7919, 172800) - 86400, ?), "
+                        + "MOD(X, ?), MOD(X * 131, ?) "
+                        + "FROM SYSTEM_RANGE(1, ?)",
+                seededAt, TOTAL_SEGMENTS, SegmentRange.SLOTS, scheduleCount);
+        jdbcTemplate.execute("ANALYZE");
+    }
+}
@@ -0,0 +1,84 @@
+package com.distributed.jobscheduler.benchmarks;
+
+import com.distributed.jobscheduler.common.dto.SegmentRange;
+import com.distributed.jobscheduler.coordinator.SchedulerCoordinatorApplication;
+import com.distributed.jobscheduler.coordinator.election.LeaderElection;
+import com.distributed.jobscheduler.coordinator.service.SegmentAssignmentService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Segment churn among {@code workerCount} scheduler workers, half of them online: each operation takes the worker
+ * that joined first out of the assignment and brings the next idle one in, rebalancing segments both times.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class SegmentAssignmentBenchmark {
+
+    @Param("1000")
+    public int workerCount;
+
+    @Param({"1", "10"})
+    public int segmentsPerWorker;
+
+    private ConfigurableApplicationContext context;
+    private SegmentAssignmentService segmentAssignmentService;
+    private String[] workers;
+    private int holders;
+    private int oldest;
+
+    @Setup(Level.Trial)
+    public void setUp() throws InterruptedException {
+        context = BenchmarkContexts.start(SchedulerCoordinatorApplication.class, "bench_coordinator", Map.of(
+                "coordinator.segments.heartbeat-timeout-millis", BenchmarkContexts.ONE_DAY_MILLIS,
+                "coordinator.segments.membership-check-millis", BenchmarkContexts.ONE_DAY_MILLIS));
+        segmentAssignmentService = context.getBean(SegmentAssignmentService.class);
+        // Only the leader rebalances; the single node takes the lease on its first renewal pass
+        LeaderElection leaderElection = context.getBean(LeaderElection.class);
+        while (!leaderElection.isLeader()) {
+            Thread.sleep(50);
+        }
+        workers = new String[workerCount];
+        for (int i = 0; i < workerCount; i++) {
+            workers[i] = "worker-" + i;
+        }
+        holders = workerCount / 2;
+        for (int i = 0; i < holders; i++) {
+            segmentAssignmentService.assignSegments(workers[i], segmentsPerWorker);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<SegmentRange> rotateAssignment() {
+        segmentAssignmentService.releaseSegments(workers[oldest]);
+        List<SegmentRange> assigned = segmentAssignmentService.assignSegments(
+                workers[(oldest + holders) % workerCount], segmentsPerWorker);
+        oldest = (oldest + 1) % workerCount;
+        return assigned;
+    }
+}
@@ -0,0 +1,95 @@
+package com.distributed.jobscheduler.common.batch;
+
+import com.distributed.jobscheduler.common.dto.JobStatusUpdate;
+import com.distributed.jobscheduler.common.enums.JobStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Coalesces job status transitions and hands them to {@code flusher} every {@code flushIntervalMillis} or as soon
+ * as {@code maxEntries} jobs are pending. Only the latest status per job is kept, so RUNNING followed by COMPLETED
+ * within one interval is sent as COMPLETED. Flushes run one at a time on a single thread, which keeps them in
+ * submission order; a failed flush is retried with the next one unless a newer status arrived meanwhile.
+ */
+public class JobStatusBatcher implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(JobStatusBatcher.class);
+
+    private final Map<Long, JobStatus> pending = new ConcurrentHashMap<>();
+    private final Consumer<List<JobStatusUpdate>> flusher;
+    private final int maxEntries;
+    private final ScheduledExecutorService flushExecutor;
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    public JobStatusBatcher(String name, long flushIntervalMillis, int maxEntries,
+                            Consumer<List<JobStatusUpdate>> flusher) {
+        if (flushIntervalMillis <= 0 || maxEntries <= 0) {
+            throw new IllegalArgumentException("Flush interval and batch size must be positive");
+        }
+        this.flusher = flusher;
+        this.maxEntries = maxEntries;
+        this.flushExecutor = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name(name).daemon().factory());
+        flushExecutor.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    public void submit(Long jobId, JobStatus status) {
+        pending.put(jobId, status);
+        if (pending.size() >= maxEntries && flushRequested.compareAndSet(false, true)) {
+            flushExecutor.execute(this::flush);
+        }
+    }
+
+    /**
+     * Flushes what is pending and stops the flush thread.
+     */
+    @Override
+    public void close() {
+        flushExecutor.shutdown();
+        try {
+            if (!flushExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+                flushExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    private void flush() {
+        flushRequested.set(false);
+        while (!pending.isEmpty()) {
+            List<JobStatusUpdate> batch = new ArrayList<>(Math.min(pending.size(), maxEntries));
+            for (Long jobId : pending.keySet()) {
+                JobStatus status = pending.remove(jobId);
+                if (status != null) {
+                    batch.add(new JobStatusUpdate(jobId, status));
+                }
+                if (batch.size() >= maxEntries) {
+                    break;
+                }
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+            try {
+                flusher.accept(batch);
+            } catch (Exception e) {
+                log.error("Failed to flush {} job status updates, retrying with the next flush", batch.size(), e);
+                batch.forEach(update -> pending.putIfAbsent(update.getJobId(), update.getStatus()));
+                return;
+            }
+        }
+    }
+}
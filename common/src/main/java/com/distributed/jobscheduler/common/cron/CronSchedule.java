@@ -0,0 +1,360 @@
+package com.distributed.jobscheduler.common.cron;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cron expression compiled into one bitset per field.
+ * Accepts the five-field Unix form {@code minute hour day-of-month month day-of-week}, an optional leading seconds
+ * field, {@code * ? , - /}, month and weekday names and the {@code @daily}-style macros. When both day fields are
+ * restricted a day matches if either does, as in Vixie cron.
+ * {@link #nextFireTime(long)} works on primitives only and does not allocate for fixed-offset zones such as UTC.
+ */
+public final class CronSchedule {
+
+    public static final long NO_FIRE_TIME = Long.MIN_VALUE;
+
+    private static final int CACHE_SIZE = 4096;
+    // Bounded because expressions and zones come straight from client requests; hits only read the map
+    private static final Map<String, CacheEntry> CACHE = new ConcurrentHashMap<>();
+    private static final String[] MONTH_NAMES = {
+            "JAN", "FEB", "MAR", "APR", "MAY", "JUN", "JUL", "AUG", "SEP", "OCT", "NOV", "DEC"};
+    private static final String[] DAY_NAMES = {"SUN", "MON", "TUE", "WED", "THU", "FRI", "SAT"};
+    private static final long SECONDS_PER_DAY = 86400L;
+    // Expressions that can never match, such as 30 FEB, give up after this much searching
+    private static final long MAX_SEARCH_SECONDS = 5 * 366 * SECONDS_PER_DAY;
+
+    private final String expression;
+    private final ZoneRules rules;
+    private final boolean fixedOffset;
+    private final int fixedOffsetSeconds;
+    private final long seconds;
+    private final long minutes;
+    private final long hours;
+    private final long daysOfMonth;
+    private final long months;
+    private final long daysOfWeek;
+    private final boolean dayOfMonthWildcard;
+    private final boolean dayOfWeekWildcard;
+
+    private CronSchedule(String expression, ZoneId zone) {
+        this.expression = expression;
+        this.rules = zone.getRules();
+        this.fixedOffset = rules.isFixedOffset();
+        this.fixedOffsetSeconds = fixedOffset ? rules.getOffset(Instant.EPOCH).getTotalSeconds() : 0;
+
+        String[] fields = expandMacro(expression).trim().split("\\s+");
+        if (fields.length != 5 && fields.length != 6) {
+            throw new IllegalArgumentException("Cron expression must have 5 or 6 fields: " + expression);
+        }
+        int i = 0;
+        this.seconds = fields.length == 6 ? parseField(fields[i++], 0, 59, null, 0) : 1L;
+        this.minutes = parseField(fields[i++], 0, 59, null, 0);
+        this.hours = parseField(fields[i++], 0, 23, null, 0);
+        String dayOfMonthField = fields[i++];
+        this.daysOfMonth = parseField(dayOfMonthField, 1, 31, null, 0);
+        this.months = parseField(fields[i++], 1, 12, MONTH_NAMES, 1);
+        String dayOfWeekField = fields[i];
+        long dayOfWeekBits = parseField(dayOfWeekField, 0, 7, DAY_NAMES, 0);
+        // 7 is an alias for Sunday
+        this.daysOfWeek = (dayOfWeekBits | (dayOfWeekBits >>> 7)) & 0x7F;
+        this.dayOfMonthWildcard = isWildcard(dayOfMonthField);
+        this.dayOfWeekWildcard = isWildcard(dayOfWeekField);
+    }
+
+    /**
+     * Returns the compiled schedule for {@code expression} in {@code timeZone} (UTC when blank), compiling it on
+     * first use. Up to {@value #CACHE_SIZE} recently used schedules are kept compiled.
+     */
+    public static CronSchedule of(String expression, String timeZone) {
+        if (expression == null || expression.isBlank()) {
+            throw new IllegalArgumentException("Cron expression is required");
+        }
+        String zone = timeZone == null || timeZone.isBlank() ? "UTC" : timeZone;
+        String key = zone + ' ' + expression;
+        CacheEntry cached = CACHE.get(key);
+        if (cached != null) {
+            cached.touch();
+            return cached.schedule;
+        }
+        CronSchedule compiled;
+        try {
+            compiled = new CronSchedule(expression.trim(), ZoneId.of(zone));
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("Unknown time zone: " + zone, e);
+        }
+        cached = CACHE.putIfAbsent(key, new CacheEntry(compiled));
+        if (cached != null) {
+            return cached.schedule;
+        }
+        if (CACHE.size() > CACHE_SIZE) {
+            evictOverflow(key);
+        }
+        return compiled;
+    }
+
+    /**
+     * Second-chance (CLOCK) eviction: an entry used since the last sweep passed it loses its mark and stays, an
+     * unmarked one is dropped, so schedules that keep firing stay compiled while one-off ones age out.
+     */
+    private static void evictOverflow(String justAdded) {
+        for (int sweep = 0; sweep < 2 && CACHE.size() > CACHE_SIZE; sweep++) {
+            Iterator<Map.Entry<String, CacheEntry>> entries = CACHE.entrySet().iterator();
+            while (CACHE.size() > CACHE_SIZE && entries.hasNext()) {
+                Map.Entry<String, CacheEntry> entry = entries.next();
+                if (entry.getKey().equals(justAdded)) {
+                    continue;
+                }
+                if (entry.getValue().referenced) {
+                    entry.getValue().referenced = false;
+                } else {
+                    entries.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * First fire time strictly after {@code afterEpochMillis}, in epoch millis, or {@link #NO_FIRE_TIME}.
+     */
+    public long nextFireTime(long afterEpochMillis) {
+        long fromSecond = Math.floorDiv(afterEpochMillis, 1000L) + 1;
+        if (fixedOffset) {
+            long local = nextLocalSecond(fromSecond + fixedOffsetSeconds);
+            return local == NO_FIRE_TIME ? NO_FIRE_TIME : (local - fixedOffsetSeconds) * 1000L;
+        }
+
+        // Search local time and map each match to an instant the way ZonedDateTime.ofLocal does: a time in a DST gap
+        // moves forward by the gap, and a time in an overlap takes the earlier offset, so it fires only once
+        long local = fromSecond + offsetAt(fromSecond);
+        while (true) {
+            local = nextLocalSecond(local);
+            if (local == NO_FIRE_TIME) {
+                return NO_FIRE_TIME;
+            }
+            long instant = local - offsetBeforeLocal(local);
+            if (instant >= fromSecond) {
+                return instant * 1000L;
+            }
+            // The earlier occurrence of an overlapped local time has already passed
+            local++;
+        }
+    }
+
+    public Instant next(Instant after) {
+        long next = nextFireTime(after.toEpochMilli());
+        return next == NO_FIRE_TIME ? null : Instant.ofEpochMilli(next);
+    }
+
+    /**
+     * First fire time at or after {@code notBefore}.
+     */
+    public Instant firstAtOrAfter(Instant notBefore) {
+        return next(notBefore.minusMillis(1));
+    }
+
+    public String getExpression() {
+        return expression;
+    }
+
+    private long nextLocalSecond(long start) {
+        long limit = start + MAX_SEARCH_SECONDS;
+        long second = start;
+        while (second < limit) {
+            long day = Math.floorDiv(second, SECONDS_PER_DAY);
+            int secondOfDay = (int) (second - day * SECONDS_PER_DAY);
+            long dayStart = day * SECONDS_PER_DAY;
+
+            // Civil date from day number (Howard Hinnant's algorithm)
+            long shifted = day + 719468;
+            long era = Math.floorDiv(shifted, 146097);
+            long dayOfEra = shifted - era * 146097;
+            long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+            long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+            long monthIndex = (5 * dayOfYear + 2) / 153;
+            int dayOfMonth = (int) (dayOfYear - (153 * monthIndex + 2) / 5 + 1);
+            int month = (int) (monthIndex < 10 ? monthIndex + 3 : monthIndex - 9);
+            long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+
+            if ((months & (1L << month)) == 0) {
+                second = month == 12
+                        ? daysFromCivil(year + 1, 1, 1) * SECONDS_PER_DAY
+                        : daysFromCivil(year, month + 1, 1) * SECONDS_PER_DAY;
+                continue;
+            }
+            int dayOfWeek = (int) Math.floorMod(day + 4, 7L);
+            if (!dayMatches(dayOfMonth, dayOfWeek)) {
+                second = dayStart + SECONDS_PER_DAY;
+                continue;
+            }
+
+            int hour = secondOfDay / 3600;
+            int nextHour = nextBit(hours, hour);
+            if (nextHour < 0) {
+                second = dayStart + SECONDS_PER_DAY;
+                continue;
+            }
+            if (nextHour != hour) {
+                second = dayStart + nextHour * 3600L;
+                continue;
+            }
+
+            int minute = (secondOfDay / 60) % 60;
+            int nextMinute = nextBit(minutes, minute);
+            if (nextMinute < 0) {
+                second = dayStart + (hour + 1) * 3600L;
+                continue;
+            }
+            if (nextMinute != minute) {
+                second = dayStart + hour * 3600L + nextMinute * 60L;
+                continue;
+            }
+
+            int nextSecond = nextBit(seconds, secondOfDay % 60);
+            if (nextSecond < 0) {
+                second = dayStart + hour * 3600L + (minute + 1) * 60L;
+                continue;
+            }
+            return dayStart + hour * 3600L + minute * 60L + nextSecond;
+        }
+        return NO_FIRE_TIME;
+    }
+
+    private boolean dayMatches(int dayOfMonth, int dayOfWeek) {
+        boolean monthDayMatches = (daysOfMonth & (1L << dayOfMonth)) != 0;
+        boolean weekDayMatches = (daysOfWeek & (1L << dayOfWeek)) != 0;
+        if (dayOfMonthWildcard || dayOfWeekWildcard) {
+            return monthDayMatches && weekDayMatches;
+        }
+        return monthDayMatches || weekDayMatches;
+    }
+
+    private int offsetAt(long epochSecond) {
+        return rules.getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+    }
+
+    /**
+     * Offset for the local second {@code localSecond}, taking the offset before the transition when the local time
+     * falls in a gap or an overlap.
+     */
+    private int offsetBeforeLocal(long localSecond) {
+        LocalDateTime localTime = LocalDateTime.ofEpochSecond(localSecond, 0, ZoneOffset.UTC);
+        ZoneOffsetTransition transition = rules.getTransition(localTime);
+        return transition != null
+                ? transition.getOffsetBefore().getTotalSeconds()
+                : rules.getOffset(localTime).getTotalSeconds();
+    }
+
+    private static int nextBit(long mask, int from) {
+        long remaining = mask & (-1L << from);
+        return remaining == 0 ? -1 : Long.numberOfTrailingZeros(remaining);
+    }
+
+    private static long daysFromCivil(long year, int month, int dayOfMonth) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(y, 400);
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153L * (month > 2 ? month - 3 : month + 9) + 2) / 5 + dayOfMonth - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    private static boolean isWildcard(String field) {
+        return field.startsWith("*") || field.equals("?");
+    }
+
+    private static String expandMacro(String expression) {
+        return switch (expression.toLowerCase(Locale.ROOT)) {
+            case "@yearly", "@annually" -> "0 0 1 1 *";
+            case "@monthly" -> "0 0 1 * *";
+            case "@weekly" -> "0 0 * * 0";
+            case "@daily", "@midnight" -> "0 0 * * *";
+            case "@hourly" -> "0 * * * *";
+            default -> expression;
+        };
+    }
+
+    private long parseField(String field, int min, int max, String[] names, int nameOffset) {
+        long bits = 0;
+        for (String part : field.split(",")) {
+            int step = 1;
+            String range = part;
+            int slash = part.indexOf('/');
+            if (slash >= 0) {
+                step = parseValue(part.substring(slash + 1), null, 0);
+                range = part.substring(0, slash);
+                if (step <= 0) {
+                    throw invalid();
+                }
+            }
+
+            int low;
+            int high;
+            if (range.equals("*") || range.equals("?")) {
+                low = min;
+                high = max;
+            } else {
+                int dash = range.indexOf('-');
+                if (dash >= 0) {
+                    low = parseValue(range.substring(0, dash), names, nameOffset);
+                    high = parseValue(range.substring(dash + 1), names, nameOffset);
+                } else {
+                    low = parseValue(range, names, nameOffset);
+                    high = slash >= 0 ? max : low;
+                }
+            }
+            if (low < min || high > max || low > high) {
+                throw invalid();
+            }
+            for (int value = low; value <= high; value += step) {
+                bits |= 1L << value;
+            }
+        }
+        return bits;
+    }
+
+    private int parseValue(String value, String[] names, int nameOffset) {
+        if (names != null) {
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equalsIgnoreCase(value)) {
+                    return i + nameOffset;
+                }
+            }
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw invalid();
+        }
+    }
+
+    private IllegalArgumentException invalid() {
+        return new IllegalArgumentException("Invalid cron expression: " + expression);
+    }
+
+    private static final class CacheEntry {
+
+        private final CronSchedule schedule;
+        private volatile boolean referenced;
+
+        private CacheEntry(CronSchedule schedule) {
+            this.schedule = schedule;
+        }
+
+        private void touch() {
+            // Read first so hits on an already marked entry do not write the shared cache line
+            if (!referenced) {
+                referenced = true;
+            }
+        }
+    }
+}
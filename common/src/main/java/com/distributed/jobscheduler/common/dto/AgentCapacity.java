@@ -0,0 +1,20 @@
+package com.distributed.jobscheduler.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AgentCapacity {
+    private String workerId;
+    /** Jobs the agent runs at once. */
+    private int concurrencyLimit;
+    /** Admitted jobs the agent holds waiting for a run slot, on top of {@link #concurrencyLimit}. */
+    private int queueCapacity;
+    /** Jobs the agent would still admit right now, to run or to queue. */
+    private int availableSlots;
+}
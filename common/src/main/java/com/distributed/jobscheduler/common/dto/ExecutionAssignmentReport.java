@@ -0,0 +1,22 @@
+package com.distributed.jobscheduler.common.dto;
+
+import com.distributed.jobscheduler.common.enums.JobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * What a worker agent tells the execution coordinator about one of its jobs. A report with {@code dispatch} set
+ * means the agent started the job; without it, the report moves the job's checkpoint or final status on.
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExecutionAssignmentReport {
+    private Long jobId;
+    private JobStatus status;
+    private String checkpointData;
+    private JobDispatchEvent dispatch;
+}
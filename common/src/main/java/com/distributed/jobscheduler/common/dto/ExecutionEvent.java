@@ -0,0 +1,30 @@
+package com.distributed.jobscheduler.common.dto;
+
+import com.distributed.jobscheduler.common.enums.ExecutionEventType;
+import com.distributed.jobscheduler.common.enums.JobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * One step of a job run as reported by the agent; all events of a run share its {@code executionKey}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExecutionEvent {
+    private String executionKey;
+    private Long jobId;
+    private String workerId;
+    private ExecutionEventType type;
+    private Instant timestamp;
+    /** Occurrence the run belongs to; set on STARTED. */
+    private Instant scheduledTime;
+    private JobStatus status;
+    private String checkpointData;
+    private String errorMessage;
+}
@@ -0,0 +1,32 @@
+package com.distributed.jobscheduler.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.BitSet;
+import java.util.Map;
+
+/**
+ * Outcome of a batched dispatch. Bit {@code i} of {@code acceptedBitmap} is set when the {@code i}-th event of the
+ * request was taken; {@code rejected} gives, by index, why an event was refused as invalid rather than for lack of
+ * room; {@code availableSlots} is the agent's free capacity after the batch.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobDispatchBatchResult {
+    private int size;
+    private long[] acceptedBitmap;
+    private Map<Integer, String> rejected;
+    private int availableSlots;
+
+    public static JobDispatchBatchResult of(int size, BitSet accepted, Map<Integer, String> rejected,
+                                            int availableSlots) {
+        return new JobDispatchBatchResult(size, accepted.toLongArray(), rejected, availableSlots);
+    }
+
+    public BitSet toBitSet() {
+        return acceptedBitmap == null ? new BitSet() : BitSet.valueOf(acceptedBitmap);
+    }
+}
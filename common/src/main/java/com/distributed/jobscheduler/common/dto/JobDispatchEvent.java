@@ -1,5 +1,7 @@
 package com.distributed.jobscheduler.common.dto;
 
+import com.distributed.jobscheduler.common.enums.WorkloadType;
+import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -12,10 +14,13 @@ import java.time.Instant;
 @NoArgsConstructor
 @AllArgsConstructor
 public class JobDispatchEvent {
+    @NotNull(message = "Job id is required")
     private Long jobId;
     private String jobName;
     private String payload;
     private Instant scheduledTime;
     private Integer maxRetries;
     private Integer currentRetryCount;
+    private WorkloadType workloadType;
+    private String checkpointData;
 }
@@ -0,0 +1,16 @@
+package com.distributed.jobscheduler.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobPlacement {
+    private Long jobId;
+    private String workerId;
+    private String url;
+}
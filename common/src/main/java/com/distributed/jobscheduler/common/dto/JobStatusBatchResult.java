@@ -0,0 +1,13 @@
+package com.distributed.jobscheduler.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobStatusBatchResult {
+    private int requested;
+    private int applied;
+}
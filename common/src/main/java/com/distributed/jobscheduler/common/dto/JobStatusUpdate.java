@@ -0,0 +1,14 @@
+package com.distributed.jobscheduler.common.dto;
+
+import com.distributed.jobscheduler.common.enums.JobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobStatusUpdate {
+    private Long jobId;
+    private JobStatus status;
+}
@@ -0,0 +1,19 @@
+package com.distributed.jobscheduler.common.dto;
+
+import com.distributed.jobscheduler.common.enums.PlacementStrategy;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlacementRequest {
+    private List<Long> jobIds;
+    /** Defaults to the coordinator's configured strategy. */
+    private PlacementStrategy strategy;
+}
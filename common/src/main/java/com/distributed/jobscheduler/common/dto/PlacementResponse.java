@@ -0,0 +1,21 @@
+package com.distributed.jobscheduler.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Agents chosen for a batch of jobs, in request order. Jobs no agent had a free slot for are listed in
+ * {@code unplaced}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlacementResponse {
+    private List<JobPlacement> placements;
+    private List<Long> unplaced;
+}
@@ -0,0 +1,32 @@
+package com.distributed.jobscheduler.common.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Keyset position {@code (nextRunTime, scheduleId)} in the due-schedule scan, encoded as an opaque URL-safe token.
+ */
+public record ScheduleCursor(Instant nextRunTime, Long scheduleId) {
+
+    public static ScheduleCursor after(ScheduledJobResponse lastRow) {
+        return new ScheduleCursor(lastRow.getNextRunTime(), lastRow.getScheduleId());
+    }
+
+    public static ScheduleCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII);
+            String[] parts = raw.split(":");
+            return new ScheduleCursor(
+                    Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1])),
+                    Long.parseLong(parts[2]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid schedule cursor", e);
+        }
+    }
+
+    public String encode() {
+        String raw = nextRunTime.getEpochSecond() + ":" + nextRunTime.getNano() + ":" + scheduleId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+}
@@ -0,0 +1,18 @@
+package com.distributed.jobscheduler.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduledJobPage {
+    private List<ScheduledJobResponse> items;
+    private String nextCursor;
+    private boolean hasMore;
+}
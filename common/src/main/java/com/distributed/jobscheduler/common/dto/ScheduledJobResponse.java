@@ -2,6 +2,7 @@ package com.distributed.jobscheduler.common.dto;
 
 import com.distributed.jobscheduler.common.enums.JobFrequency;
 import com.distributed.jobscheduler.common.enums.JobStatus;
+import com.distributed.jobscheduler.common.enums.WorkloadType;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -10,7 +11,7 @@ import lombok.NoArgsConstructor;
 import java.time.Instant;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class ScheduledJobResponse {
@@ -21,5 +22,10 @@ public class ScheduledJobResponse {
     private JobStatus status;
     private Instant nextRunTime;
     private Integer segment;
+    private Integer slot;
     private String payload;
+    private String cronExpression;
+    private String timeZone;
+    private WorkloadType workloadType;
+    private String checkpointData;
 }
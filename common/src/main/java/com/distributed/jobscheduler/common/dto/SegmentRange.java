@@ -0,0 +1,95 @@
+package com.distributed.jobscheduler.common.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * Slots {@code [fromSlot, toSlot)} of one segment. Every schedule sits in one of {@link #SLOTS} slots of its segment,
+ * derived from its job id, so a hot segment can be split into ranges owned by different scheduler workers and merged
+ * back once it cools down. A whole segment is the range {@code [0, SLOTS)}.
+ */
+public record SegmentRange(int segment, int fromSlot, int toSlot) {
+
+    public static final int SLOTS = 256;
+
+    public SegmentRange {
+        if (segment < 0 || fromSlot < 0 || toSlot > SLOTS || fromSlot >= toSlot) {
+            throw new IllegalArgumentException("Invalid segment range " + segment + ":" + fromSlot + "-" + toSlot);
+        }
+    }
+
+    public static SegmentRange whole(int segment) {
+        return new SegmentRange(segment, 0, SLOTS);
+    }
+
+    public static int slotOf(long jobId) {
+        long h = jobId * 0x9E3779B97F4A7C15L;
+        return (int) ((h ^ (h >>> 32)) & (SLOTS - 1));
+    }
+
+    /**
+     * Parses the {@link #toParam()} form, {@code segment} or {@code segment:fromSlot-toSlot}.
+     */
+    public static SegmentRange parse(String value) {
+        try {
+            int colon = value.indexOf(':');
+            if (colon < 0) {
+                return whole(Integer.parseInt(value.trim()));
+            }
+            int dash = value.indexOf('-', colon);
+            return new SegmentRange(Integer.parseInt(value.substring(0, colon).trim()),
+                    Integer.parseInt(value.substring(colon + 1, dash).trim()),
+                    Integer.parseInt(value.substring(dash + 1).trim()));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid segment range " + value, e);
+        }
+    }
+
+    public String toParam() {
+        return isWhole() ? Integer.toString(segment) : segment + ":" + fromSlot + "-" + toSlot;
+    }
+
+    @JsonIgnore
+    public boolean isWhole() {
+        return fromSlot == 0 && toSlot == SLOTS;
+    }
+
+    public int width() {
+        return toSlot - fromSlot;
+    }
+
+    public boolean contains(int segment, int slot) {
+        return this.segment == segment && slot >= fromSlot && slot < toSlot;
+    }
+
+    /**
+     * Stable identity used to place the range on a worker. The lower half of a split keeps its parent's key, so it
+     * stays where the parent was.
+     */
+    public long key() {
+        return (long) segment * SLOTS + fromSlot;
+    }
+
+    public SegmentRange lowerHalf() {
+        return new SegmentRange(segment, fromSlot, fromSlot + width() / 2);
+    }
+
+    public SegmentRange upperHalf() {
+        return new SegmentRange(segment, fromSlot + width() / 2, toSlot);
+    }
+
+    /**
+     * Whether this range and {@code other} are the two halves of one aligned parent range.
+     */
+    public boolean isSiblingOf(SegmentRange other) {
+        int parentWidth = width() * 2;
+        return other.segment == segment && other.width() == width() && parentWidth <= SLOTS
+                && Math.min(fromSlot, other.fromSlot) % parentWidth == 0
+                && Math.abs(fromSlot - other.fromSlot) == width();
+    }
+
+    public SegmentRange parent() {
+        int parentWidth = width() * 2;
+        int parentFrom = fromSlot - fromSlot % parentWidth;
+        return new SegmentRange(segment, parentFrom, parentFrom + parentWidth);
+    }
+}
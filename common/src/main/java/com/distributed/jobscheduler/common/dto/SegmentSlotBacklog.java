@@ -0,0 +1,17 @@
+package com.distributed.jobscheduler.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Number of schedules of one slot of a segment that come due by a given time.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SegmentSlotBacklog {
+    private Integer segment;
+    private Integer slot;
+    private Long dueJobs;
+}
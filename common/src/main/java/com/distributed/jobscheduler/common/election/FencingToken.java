@@ -0,0 +1,14 @@
+package com.distributed.jobscheduler.common.election;
+
+/**
+ * The term number of a coordinator leader. Every leader draws a token greater than all earlier ones and sends it
+ * with its segment pushes, so a worker can refuse pushes from a leader that has since been replaced.
+ */
+public final class FencingToken {
+
+    public static final String HEADER = "X-Fencing-Token";
+    public static final long NONE = -1;
+
+    private FencingToken() {
+    }
+}
@@ -0,0 +1,7 @@
+package com.distributed.jobscheduler.common.enums;
+
+public enum ExecutionEventType {
+    STARTED,
+    CHECKPOINT,
+    FINISHED
+}
@@ -4,5 +4,6 @@ public enum JobFrequency {
     ONE_TIME,
     DAILY,
     WEEKLY,
-    MONTHLY
+    MONTHLY,
+    CRON
 }
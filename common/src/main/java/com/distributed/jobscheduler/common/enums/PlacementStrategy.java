@@ -0,0 +1,8 @@
+package com.distributed.jobscheduler.common.enums;
+
+public enum PlacementStrategy {
+    /** The agent with the most free slots of all. */
+    LEAST_LOADED,
+    /** The freer of two agents picked at random, which spreads load almost as evenly with far less contention. */
+    POWER_OF_TWO_CHOICES
+}
@@ -2,6 +2,8 @@ package com.distributed.jobscheduler.common.enums;
 
 public enum WorkerStatus {
     ONLINE,
+    /** Heartbeats are overdue; the worker is still a member but should not be given new work. */
+    SUSPECT,
     OFFLINE,
     UNASSIGNED,
     UNHEALTHY
@@ -0,0 +1,6 @@
+package com.distributed.jobscheduler.common.enums;
+
+public enum WorkloadType {
+    IO_BOUND,
+    CPU_BOUND
+}
@@ -0,0 +1,70 @@
+package com.distributed.jobscheduler.common.liveness;
+
+import com.distributed.jobscheduler.common.metrics.SchedulerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Writes the beats a {@link LivenessTable} received since its last flush to the members' rows, as JDBC batches in
+ * one transaction. Only the SQL and how a beat binds to it differ between tables. Beats that fail to flush stay
+ * unflushed and go out with the next flush.
+ */
+public final class HeartbeatFlusher {
+
+    private static final Logger log = LoggerFactory.getLogger(HeartbeatFlusher.class);
+    private static final int BATCH_SIZE = 500;
+
+    private final LivenessTable liveness;
+    private final String table;
+    private final String sql;
+    private final BeatBinder binder;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Timer flushTimer;
+
+    public HeartbeatFlusher(LivenessTable liveness, String table, String sql, BeatBinder binder,
+                            JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                            MeterRegistry meterRegistry) {
+        this.liveness = liveness;
+        this.table = table;
+        this.sql = sql;
+        this.binder = binder;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.flushTimer = SchedulerMetrics.timer(meterRegistry, SchedulerMetrics.HEARTBEAT_FLUSH,
+                "Time to write a batch of buffered heartbeats", "table", table);
+    }
+
+    public void flush() {
+        List<LivenessTable.Beat> beats = liveness.unflushed();
+        if (beats.isEmpty()) {
+            return;
+        }
+        long started = System.nanoTime();
+        Timestamp flushedAt = Timestamp.from(Instant.now());
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql, beats, BATCH_SIZE,
+                    (ps, beat) -> binder.bind(ps, beat, flushedAt)));
+            liveness.markFlushed(beats);
+        } catch (DataAccessException e) {
+            log.warn("Failed to flush {} heartbeats to {}: {}", beats.size(), table, e.getMessage());
+        }
+        SchedulerMetrics.recordSince(flushTimer, started);
+    }
+
+    @FunctionalInterface
+    public interface BeatBinder {
+        void bind(PreparedStatement ps, LivenessTable.Beat beat, Timestamp flushedAt) throws SQLException;
+    }
+}
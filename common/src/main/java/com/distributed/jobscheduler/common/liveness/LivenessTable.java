@@ -0,0 +1,138 @@
+package com.distributed.jobscheduler.common.liveness;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Latest heartbeat of every known member, kept in memory so that recording a beat is a map lookup and a few
+ * volatile writes instead of a database transaction. Failure detection reads the timestamps from here; the owner
+ * copies beats received since the last flush to the database in batches with {@link #unflushed()} and
+ * {@link #markFlushed}. Members enter the table through {@link #register}, normally right after the caller has
+ * loaded or written their row, and {@link #beat} refuses ids it does not know so callers can take that slow path.
+ */
+public final class LivenessTable {
+
+    public static final long UNKNOWN = -1;
+
+    private final Map<String, Member> members = new ConcurrentHashMap<>();
+
+    /**
+     * Adds {@code id} or resets its entry, treating a beat at {@code beatMillis} as already persisted.
+     */
+    public Member register(String id, long beatMillis) {
+        Member member = new Member(beatMillis);
+        members.put(id, member);
+        return member;
+    }
+
+    /**
+     * Records a beat of {@code id} at {@code nowMillis}. Returns {@code null}, and records nothing, when the member
+     * is not in the table.
+     */
+    public Member beat(String id, long nowMillis) {
+        Member member = members.get(id);
+        if (member != null) {
+            member.beat(nowMillis);
+        }
+        return member;
+    }
+
+    public Member get(String id) {
+        return members.get(id);
+    }
+
+    public long lastBeatMillis(String id) {
+        Member member = members.get(id);
+        return member == null ? UNKNOWN : member.lastBeatMillis;
+    }
+
+    public void remove(String id) {
+        members.remove(id);
+    }
+
+    public int size() {
+        return members.size();
+    }
+
+    /**
+     * Snapshot of every member that beat since its last flush.
+     */
+    public List<Beat> unflushed() {
+        List<Beat> beats = new ArrayList<>();
+        members.forEach((id, member) -> {
+            long lastBeat = member.lastBeatMillis;
+            if (lastBeat > member.flushedMillis) {
+                beats.add(new Beat(id, lastBeat, member.load, member.capacity, member.scanMillis));
+            }
+        });
+        return beats;
+    }
+
+    /**
+     * Records that {@code beats} reached the database. Beats that arrived after the snapshot stay unflushed.
+     */
+    public void markFlushed(List<Beat> beats) {
+        for (Beat beat : beats) {
+            Member member = members.get(beat.id());
+            if (member != null && member.flushedMillis < beat.lastBeatMillis()) {
+                member.flushedMillis = beat.lastBeatMillis();
+            }
+        }
+    }
+
+    /**
+     * Per-member state. Optional values reported with a beat are {@code -1} until first set; setting one before
+     * {@link LivenessTable#beat} makes sure the next flush carries it.
+     */
+    public static final class Member {
+
+        private volatile long lastBeatMillis;
+        private volatile long flushedMillis;
+        private volatile int load = -1;
+        private volatile int capacity = -1;
+        private volatile long scanMillis = -1;
+
+        private Member(long beatMillis) {
+            this.lastBeatMillis = beatMillis;
+            this.flushedMillis = beatMillis;
+        }
+
+        private void beat(long nowMillis) {
+            if (nowMillis > lastBeatMillis) {
+                lastBeatMillis = nowMillis;
+            }
+        }
+
+        public long getLastBeatMillis() {
+            return lastBeatMillis;
+        }
+
+        public int getLoad() {
+            return load;
+        }
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        public void setLoad(int load) {
+            this.load = load;
+        }
+
+        public void setCapacity(int capacity) {
+            this.capacity = capacity;
+        }
+
+        public void setScanMillis(long scanMillis) {
+            this.scanMillis = scanMillis;
+        }
+    }
+
+    /**
+     * A member's beat as of an {@link #unflushed()} snapshot; optional values are {@code -1} when never reported.
+     */
+    public record Beat(String id, long lastBeatMillis, int load, int capacity, long scanMillis) {
+    }
+}
@@ -0,0 +1,133 @@
+package com.distributed.jobscheduler.common.liveness;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Phi accrual failure detector (Hayashibara et al.). For each member it keeps a sliding window of heartbeat
+ * inter-arrival times and turns the silence since the last beat into a suspicion level phi: phi = 1 means a 10%
+ * chance that a beat this late is still coming, phi = 2 a 1% chance, and so on. Callers pick their own thresholds.
+ *
+ * <p>{@code acceptablePauseMillis} is added to the mean interval, so pauses up to that long, such as a collector
+ * pause on either side, barely move phi, and {@code minStdDeviationMillis} keeps very regular members from being
+ * suspected after a few milliseconds of jitter.
+ */
+public final class PhiAccrualDetector {
+
+    private final int windowSize;
+    private final double minStdDeviationMillis;
+    private final long acceptablePauseMillis;
+    private final long firstIntervalEstimateMillis;
+    private final Map<String, History> histories = new ConcurrentHashMap<>();
+
+    public PhiAccrualDetector(int windowSize, double minStdDeviationMillis, long acceptablePauseMillis,
+                              long firstIntervalEstimateMillis) {
+        if (windowSize < 2 || minStdDeviationMillis <= 0 || acceptablePauseMillis < 0
+                || firstIntervalEstimateMillis <= 0) {
+            throw new IllegalArgumentException("Invalid failure detector settings");
+        }
+        this.windowSize = windowSize;
+        this.minStdDeviationMillis = minStdDeviationMillis;
+        this.acceptablePauseMillis = acceptablePauseMillis;
+        this.firstIntervalEstimateMillis = firstIntervalEstimateMillis;
+    }
+
+    public void heartbeat(String id, long nowMillis) {
+        histories.computeIfAbsent(id, key -> new History(windowSize)).record(nowMillis);
+    }
+
+    /**
+     * Suspicion level of {@code id} at {@code nowMillis}, or {@code NaN} if it has never beaten since it was added
+     * or last removed.
+     */
+    public double phi(String id, long nowMillis) {
+        History history = histories.get(id);
+        return history == null ? Double.NaN : history.phi(nowMillis);
+    }
+
+    /**
+     * Number of intervals actually observed for {@code id}, not counting the seeded estimate.
+     */
+    public int observedIntervals(String id) {
+        History history = histories.get(id);
+        return history == null ? 0 : history.observedIntervals();
+    }
+
+    /**
+     * Forgets the member's history, so the next beat starts a fresh one from the first interval estimate.
+     */
+    public void remove(String id) {
+        histories.remove(id);
+    }
+
+    private final class History {
+
+        private final double[] intervals;
+        private int size;
+        private int next;
+        private int observed;
+        private double sum;
+        private double sumOfSquares;
+        private long lastBeatMillis = -1;
+
+        private History(int windowSize) {
+            this.intervals = new double[windowSize];
+        }
+
+        synchronized void record(long nowMillis) {
+            if (lastBeatMillis < 0) {
+                // Seed with two intervals around the estimate, giving a quarter of it as standard deviation
+                double deviation = firstIntervalEstimateMillis / 4.0;
+                add(firstIntervalEstimateMillis - deviation);
+                add(firstIntervalEstimateMillis + deviation);
+            } else if (nowMillis > lastBeatMillis) {
+                add(nowMillis - lastBeatMillis);
+                observed++;
+            } else {
+                return;
+            }
+            lastBeatMillis = nowMillis;
+        }
+
+        synchronized double phi(long nowMillis) {
+            if (lastBeatMillis < 0) {
+                return Double.NaN;
+            }
+            double mean = sum / size;
+            double variance = Math.max(0, sumOfSquares / size - mean * mean);
+            double deviation = Math.max(Math.sqrt(variance), minStdDeviationMillis);
+            return phiOf(nowMillis - lastBeatMillis, mean + acceptablePauseMillis, deviation);
+        }
+
+        synchronized int observedIntervals() {
+            return observed;
+        }
+
+        private void add(double interval) {
+            if (size == intervals.length) {
+                double evicted = intervals[next];
+                sum -= evicted;
+                sumOfSquares -= evicted * evicted;
+            } else {
+                size++;
+            }
+            intervals[next] = interval;
+            next = (next + 1) % intervals.length;
+            sum += interval;
+            sumOfSquares += interval * interval;
+        }
+    }
+
+    /**
+     * -log10 of the probability that a normally distributed interval exceeds {@code elapsed}, using the logistic
+     * approximation of the normal CDF so that the tail does not round to zero.
+     */
+    static double phiOf(double elapsed, double mean, double deviation) {
+        double y = (elapsed - mean) / deviation;
+        double e = Math.exp(-y * (1.5976 + 0.070566 * y * y));
+        if (elapsed > mean) {
+            return -Math.log10(e / (1.0 + e));
+        }
+        return -Math.log10(1.0 - 1.0 / (1.0 + e));
+    }
+}
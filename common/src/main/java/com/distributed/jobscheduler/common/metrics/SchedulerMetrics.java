@@ -0,0 +1,70 @@
+package com.distributed.jobscheduler.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Meter names shared by all services, and factories for the timers recorded on hot paths.
+ * Callers build each timer once and keep it in a field; recording is then {@code long start = System.nanoTime()}
+ * followed by {@link #recordSince}, which neither allocates nor looks up tags.
+ */
+public final class SchedulerMetrics {
+
+    public static final String SCAN_DURATION = "scheduler.scan.duration";
+    public static final String DUE_JOBS_FETCH = "jobstore.due.jobs.fetch";
+    public static final String SEGMENT_BACKLOG = "jobstore.segment.backlog";
+    public static final String JOB_SUBMIT = "agent.job.submit";
+    public static final String DISPATCH_LAG = "agent.dispatch.lag";
+    public static final String AGENT_RUNNING = "agent.executor.running";
+    public static final String AGENT_QUEUED = "agent.executor.queued";
+    public static final String AGENT_LIMIT = "agent.executor.limit";
+    public static final String AGENT_IN_FLIGHT = "scheduler.agent.in.flight";
+    public static final String AGENT_HEADROOM = "scheduler.agent.headroom";
+    public static final String STATUS_FLUSH = "status.update.flush";
+    public static final String SEGMENT_ASSIGN = "coordinator.segments.assign";
+    public static final String SEGMENT_REBALANCE = "coordinator.segments.rebalance";
+    public static final String SEGMENTS_MOVED = "coordinator.segments.moved";
+    public static final String SEGMENT_SPLITS = "coordinator.segments.splits";
+    public static final String SEGMENT_MERGES = "coordinator.segments.merges";
+    public static final String WORKER_HEALTH_CHECK = "execution.worker.health.check";
+    public static final String HEARTBEAT_FLUSH = "heartbeat.flush";
+    public static final String JOB_REASSIGN = "execution.jobs.reassign";
+    public static final String JOBS_REASSIGNED = "execution.jobs.reassigned";
+    public static final String JOB_PLACEMENT = "execution.jobs.placement";
+
+    private SchedulerMetrics() {
+    }
+
+    /**
+     * Timer for work that normally takes milliseconds to seconds, published as a Prometheus histogram.
+     */
+    public static Timer timer(MeterRegistry registry, String name, String description, String... tags) {
+        return Timer.builder(name)
+                .description(description)
+                .tags(tags)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofMinutes(1))
+                .register(registry);
+    }
+
+    /**
+     * Timer for delays that may grow to hours, such as how late a job started.
+     */
+    public static Timer lagTimer(MeterRegistry registry, String name, String description, String... tags) {
+        return Timer.builder(name)
+                .description(description)
+                .tags(tags)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofHours(1))
+                .register(registry);
+    }
+
+    public static void recordSince(Timer timer, long startNanos) {
+        timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,19 @@
+package com.distributed.jobscheduler.common.partition;
+
+/**
+ * Compacts expiring history rows into a summary table with one row per job and hour. {@code columns} lists the
+ * summary's counters that follow {@code job_id, hour_start}, and {@code aggregates} computes them, in the same
+ * order, over the history rows of that hour.
+ */
+public record HourlyRollup(String table, String columns, String aggregates) {
+
+    /**
+     * The rollup of {@code source} rows whose {@code timeColumn} falls in {@code [?, ?)}.
+     */
+    String sql(String source, String timeColumn) {
+        String hour = "DATE_TRUNC('hour', " + timeColumn + ")";
+        return "INSERT INTO " + table + " (job_id, hour_start, " + columns + ") "
+                + "SELECT job_id, " + hour + ", " + aggregates + " FROM " + source
+                + " WHERE " + timeColumn + " >= ? AND " + timeColumn + " < ? GROUP BY job_id, " + hour;
+    }
+}
@@ -0,0 +1,20 @@
+package com.distributed.jobscheduler.common.partition;
+
+import lombok.Data;
+
+@Data
+public class RetentionPolicy {
+    private PartitionMode mode = PartitionMode.ROLLING_DELETE;
+    private int retentionDays = 7;
+    private int precreateDays = 3;
+    /** Compact expired rows into the per-job hourly rollup before dropping them. */
+    private boolean rollup = true;
+    private long maintenanceIntervalMillis = 3600000;
+
+    public enum PartitionMode {
+        /** Daily declarative partitions that expire with DROP TABLE; requires PostgreSQL. */
+        NATIVE,
+        /** One table per history, expired a whole day at a time with ranged DELETEs; works on any database. */
+        ROLLING_DELETE
+    }
+}
@@ -0,0 +1,196 @@
+package com.distributed.jobscheduler.common.partition;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps an append-mostly history table split into UTC days and expires whole days once they fall out of the
+ * retention window. Before a day goes, an {@link HourlyRollup} may compact it into a per-job hourly summary in the
+ * same transaction, so the summary never double counts or misses a day.
+ * <p>
+ * In {@link RetentionPolicy.PartitionMode#NATIVE} mode the table must already be declared
+ * {@code PARTITION BY RANGE (timeColumn)}; partitions named {@code <table>_pYYYYMMDD} are created
+ * {@code precreateDays} ahead and dropped when they expire. {@link #start} creates today's and tomorrow's
+ * partitions before the application takes traffic, and a {@code <table>_default} partition catches rows for days
+ * that have none yet; they are moved into their day's partition when it is created, and expired with ranged
+ * DELETEs like the rest of the retention window. In
+ * {@link RetentionPolicy.PartitionMode#ROLLING_DELETE} mode each expired day is removed with one ranged DELETE on
+ * {@code timeColumn}, which must be indexed.
+ */
+public class TimePartitionedTable {
+
+    private static final Logger log = LoggerFactory.getLogger(TimePartitionedTable.class);
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final String table;
+    private final String timeColumn;
+    private final String rollupSql;
+    private final RetentionPolicy policy;
+    private final String defaultPartition;
+    private final Pattern partitionName;
+
+    public TimePartitionedTable(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, String table,
+                                String timeColumn, HourlyRollup rollup, RetentionPolicy policy) {
+        if (policy.getRetentionDays() < 1) {
+            throw new IllegalArgumentException("Retention for " + table + " must be at least one day");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.table = table;
+        this.timeColumn = timeColumn;
+        this.rollupSql = policy.isRollup() && rollup != null ? rollup.sql(table, timeColumn) : null;
+        this.policy = policy;
+        this.defaultPartition = table + "_default";
+        this.partitionName = Pattern.compile(Pattern.quote(table) + "_p(\\d{8})");
+    }
+
+    /**
+     * Creates the default partition and the partitions for today and the next days, so that writes made right after
+     * startup never depend on the first maintenance run. Does nothing outside
+     * {@link RetentionPolicy.PartitionMode#NATIVE} mode.
+     */
+    public void start(Instant now) {
+        if (policy.getMode() == RetentionPolicy.PartitionMode.NATIVE) {
+            createPartitions(LocalDate.ofInstant(now, ZoneOffset.UTC));
+        }
+    }
+
+    /**
+     * Creates upcoming partitions and expires every day older than the retention window. Returns the number of days
+     * expired.
+     */
+    public int maintain(Instant now) {
+        LocalDate today = LocalDate.ofInstant(now, ZoneOffset.UTC);
+        LocalDate firstRetained = today.minusDays(policy.getRetentionDays());
+        return policy.getMode() == RetentionPolicy.PartitionMode.NATIVE
+                ? maintainPartitions(today, firstRetained)
+                : expireByRange(firstRetained);
+    }
+
+    private int maintainPartitions(LocalDate today, LocalDate firstRetained) {
+        createPartitions(today);
+
+        List<String> partitions = jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+                        + "JOIN pg_class p ON p.oid = i.inhparent WHERE p.relname = ? ORDER BY c.relname",
+                String.class, table);
+        int expired = 0;
+        for (String partition : partitions) {
+            Matcher matcher = partitionName.matcher(partition);
+            if (!matcher.matches()) {
+                continue;
+            }
+            LocalDate day = LocalDate.parse(matcher.group(1), PARTITION_SUFFIX);
+            if (!day.isBefore(firstRetained)) {
+                break;
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                lockTable();
+                rollup(startOf(day), startOf(day.plusDays(1)));
+                jdbcTemplate.execute("DROP TABLE IF EXISTS " + partition);
+            });
+            log.info("Dropped partition {} of {}", partition, table);
+            expired++;
+        }
+        return expired + expireByRange(defaultPartition, firstRetained);
+    }
+
+    /**
+     * Creates the default partition and the dated ones from {@code today} through {@code precreateDays} ahead, never
+     * fewer than today's and tomorrow's. A new partition is filled with its day's rows from the default partition
+     * before it is attached, since PostgreSQL refuses to attach a range that the default partition still holds.
+     */
+    private void createPartitions(LocalDate today) {
+        transactionTemplate.executeWithoutResult(status -> {
+            lockTable();
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + defaultPartition + " PARTITION OF " + table
+                    + " DEFAULT");
+            for (int i = 0; i <= Math.max(1, policy.getPrecreateDays()); i++) {
+                createPartition(today.plusDays(i));
+            }
+        });
+    }
+
+    private void createPartition(LocalDate day) {
+        String partition = partitionOf(day);
+        Boolean exists = jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, partition);
+        if (Boolean.TRUE.equals(exists)) {
+            return;
+        }
+        Timestamp from = Timestamp.from(startOf(day));
+        Timestamp to = Timestamp.from(startOf(day.plusDays(1)));
+        jdbcTemplate.execute("CREATE TABLE " + partition + " (LIKE " + table
+                + " INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+        int moved = jdbcTemplate.update("WITH moved AS (DELETE FROM " + defaultPartition + " WHERE " + timeColumn
+                + " >= ? AND " + timeColumn + " < ? RETURNING *) INSERT INTO " + partition
+                + " SELECT * FROM moved", from, to);
+        jdbcTemplate.execute("ALTER TABLE " + table + " ATTACH PARTITION " + partition
+                + " FOR VALUES FROM ('" + from.toInstant() + "') TO ('" + to.toInstant() + "')");
+        if (moved > 0) {
+            log.info("Created partition {} of {} with {} rows from the default partition", partition, table, moved);
+        }
+    }
+
+    private int expireByRange(LocalDate firstRetained) {
+        return expireByRange(table, firstRetained);
+    }
+
+    /**
+     * Deletes every day of {@code target}, the table itself or its default partition, that is older than
+     * {@code firstRetained}.
+     */
+    private int expireByRange(String target, LocalDate firstRetained) {
+        Instant cutoff = startOf(firstRetained);
+        int expired = 0;
+        Timestamp oldest;
+        while ((oldest = jdbcTemplate.queryForObject(
+                "SELECT MIN(" + timeColumn + ") FROM " + target + " WHERE " + timeColumn + " < ?",
+                Timestamp.class, Timestamp.from(cutoff))) != null) {
+            Instant from = oldest.toInstant().truncatedTo(ChronoUnit.DAYS);
+            Instant to = from.plus(1, ChronoUnit.DAYS);
+            Integer deleted = transactionTemplate.execute(status -> {
+                rollup(from, to);
+                return jdbcTemplate.update("DELETE FROM " + target + " WHERE " + timeColumn + " >= ? AND "
+                        + timeColumn + " < ?", Timestamp.from(from), Timestamp.from(to));
+            });
+            log.info("Expired {} rows of {} from {}", deleted, target, from);
+            expired++;
+        }
+        return expired;
+    }
+
+    private void rollup(Instant from, Instant to) {
+        if (rollupSql != null) {
+            jdbcTemplate.update(rollupSql, Timestamp.from(from), Timestamp.from(to));
+        }
+    }
+
+    /**
+     * Serializes maintenance across replicas for the rest of the transaction.
+     */
+    private void lockTable() {
+        jdbcTemplate.queryForList("SELECT pg_advisory_xact_lock(hashtext(?))", table);
+    }
+
+    private String partitionOf(LocalDate day) {
+        return table + "_p" + PARTITION_SUFFIX.format(day);
+    }
+
+    private static Instant startOf(LocalDate day) {
+        return day.atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+}
@@ -1,5 +1,8 @@
 package com.distributed.jobscheduler.common.response;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import java.time.Instant;
 
 public class ResponseData<T> {
@@ -11,11 +14,20 @@ public class ResponseData<T> {
     private final Instant timestamp;
 
     private ResponseData(boolean success, T data, String message, String errorCode) {
+        this(success, data, message, errorCode, Instant.now());
+    }
+
+    @JsonCreator
+    private ResponseData(@JsonProperty("success") boolean success,
+                         @JsonProperty("data") T data,
+                         @JsonProperty("message") String message,
+                         @JsonProperty("errorCode") String errorCode,
+                         @JsonProperty("timestamp") Instant timestamp) {
         this.success = success;
         this.data = data;
         this.message = message;
         this.errorCode = errorCode;
-        this.timestamp = Instant.now();
+        this.timestamp = timestamp;
     }
 
     public static <T> ResponseData<T> success(T data) {
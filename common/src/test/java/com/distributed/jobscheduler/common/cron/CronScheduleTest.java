@@ -0,0 +1,79 @@
+package com.distributed.jobscheduler.common.cron;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CronScheduleTest {
+
+    @Test
+    void nextFiresAtTheNextMatchingMinuteInUtc() {
+        CronSchedule schedule = CronSchedule.of("0 9 * * MON", "UTC");
+
+        assertThat(schedule.next(Instant.parse("2026-10-16T00:00:00Z")))
+                .isEqualTo(Instant.parse("2026-10-19T09:00:00Z"));
+        assertThat(schedule.next(Instant.parse("2026-10-19T09:00:00Z")))
+                .isEqualTo(Instant.parse("2026-10-26T09:00:00Z"));
+    }
+
+    @Test
+    void timeInSpringForwardGapMovesForwardByTheGap() {
+        CronSchedule schedule = CronSchedule.of("30 2 * * *", "America/New_York");
+
+        // 02:30 does not exist on 2026-03-08; it runs at 03:30 EDT, as ZonedDateTime.ofLocal resolves it
+        assertThat(schedule.next(Instant.parse("2026-03-07T12:00:00Z")))
+                .isEqualTo(Instant.parse("2026-03-08T07:30:00Z"));
+        assertThat(schedule.next(Instant.parse("2026-03-08T07:30:00Z")))
+                .isEqualTo(Instant.parse("2026-03-09T06:30:00Z"));
+    }
+
+    @Test
+    void timeInFallBackOverlapFiresOnceAtTheEarlierOffset() {
+        CronSchedule schedule = CronSchedule.of("30 1 * * *", "America/New_York");
+
+        List<Instant> fires = new ArrayList<>();
+        Instant after = Instant.parse("2026-10-31T12:00:00Z");
+        for (int i = 0; i < 3; i++) {
+            after = schedule.next(after);
+            fires.add(after);
+        }
+
+        // 01:30 EDT on 2026-11-01; the repeated 01:30 EST an hour later is skipped
+        assertThat(fires).containsExactly(
+                Instant.parse("2026-11-01T05:30:00Z"),
+                Instant.parse("2026-11-02T06:30:00Z"),
+                Instant.parse("2026-11-03T06:30:00Z"));
+    }
+
+    @Test
+    void searchStartingInsideTheRepeatedHourSkipsTheOverlappedTime() {
+        CronSchedule schedule = CronSchedule.of("30 1 * * *", "America/New_York");
+
+        // 06:10Z is 01:10 EST, after the 01:30 EDT firing
+        assertThat(schedule.next(Instant.parse("2026-11-01T06:10:00Z")))
+                .isEqualTo(Instant.parse("2026-11-02T06:30:00Z"));
+    }
+
+    @Test
+    void expressionThatNeverMatchesHasNoFireTime() {
+        CronSchedule schedule = CronSchedule.of("0 0 30 2 *", "UTC");
+
+        assertThat(schedule.nextFireTime(0L)).isEqualTo(CronSchedule.NO_FIRE_TIME);
+    }
+
+    @Test
+    void compiledSchedulesAreShared() {
+        assertThat(CronSchedule.of("@daily", "Europe/Paris")).isSameAs(CronSchedule.of("@daily", "Europe/Paris"));
+    }
+
+    @Test
+    void unknownZoneIsRejected() {
+        assertThatThrownBy(() -> CronSchedule.of("* * * * *", "Mars/Olympus"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,85 @@
+package com.distributed.jobscheduler.common.dto;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SegmentRangeTest {
+
+    @Test
+    void splitHalvesCoverTheParentAndLowerHalfKeepsItsKey() {
+        SegmentRange whole = SegmentRange.whole(7);
+
+        SegmentRange lower = whole.lowerHalf();
+        SegmentRange upper = whole.upperHalf();
+
+        assertThat(lower).isEqualTo(new SegmentRange(7, 0, 128));
+        assertThat(upper).isEqualTo(new SegmentRange(7, 128, 256));
+        assertThat(lower.key()).isEqualTo(whole.key());
+        assertThat(upper.key()).isNotEqualTo(whole.key());
+    }
+
+    @Test
+    void halvesAreSiblingsAndMergeBackIntoTheirParent() {
+        SegmentRange parent = new SegmentRange(3, 64, 128);
+        SegmentRange lower = parent.lowerHalf();
+        SegmentRange upper = parent.upperHalf();
+
+        assertThat(lower.isSiblingOf(upper)).isTrue();
+        assertThat(upper.isSiblingOf(lower)).isTrue();
+        assertThat(lower.parent()).isEqualTo(parent);
+        assertThat(upper.parent()).isEqualTo(parent);
+    }
+
+    @Test
+    void adjacentRangesFromDifferentParentsAreNotSiblings() {
+        // [64, 128) and [128, 192) touch but belong to [0, 128) and [128, 256)
+        SegmentRange left = new SegmentRange(1, 64, 128);
+        SegmentRange right = new SegmentRange(1, 128, 192);
+
+        assertThat(left.isSiblingOf(right)).isFalse();
+    }
+
+    @Test
+    void rangesOfDifferentWidthsOrSegmentsAreNotSiblings() {
+        SegmentRange range = new SegmentRange(1, 0, 64);
+
+        assertThat(range.isSiblingOf(new SegmentRange(1, 64, 96))).isFalse();
+        assertThat(range.isSiblingOf(new SegmentRange(2, 64, 128))).isFalse();
+        assertThat(range.isSiblingOf(range)).isFalse();
+    }
+
+    @Test
+    void wholeSegmentHasNoSibling() {
+        assertThat(SegmentRange.whole(1).isSiblingOf(SegmentRange.whole(1))).isFalse();
+    }
+
+    @Test
+    void paramFormRoundTrips() {
+        assertThat(SegmentRange.parse("5")).isEqualTo(SegmentRange.whole(5));
+        assertThat(SegmentRange.whole(5).toParam()).isEqualTo("5");
+        SegmentRange range = new SegmentRange(5, 32, 64);
+        assertThat(range.toParam()).isEqualTo("5:32-64");
+        assertThat(SegmentRange.parse(range.toParam())).isEqualTo(range);
+    }
+
+    @Test
+    void invalidRangesAreRejected() {
+        assertThatThrownBy(() -> new SegmentRange(1, 10, 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SegmentRange(1, 0, SegmentRange.SLOTS + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SegmentRange.parse("1:x-2")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void everyJobFallsIntoOneSlotOfItsRanges() {
+        SegmentRange lower = SegmentRange.whole(0).lowerHalf();
+        SegmentRange upper = SegmentRange.whole(0).upperHalf();
+        for (long jobId = 0; jobId < 10_000; jobId++) {
+            int slot = SegmentRange.slotOf(jobId);
+            assertThat(slot).isBetween(0, SegmentRange.SLOTS - 1);
+            assertThat(lower.contains(0, slot)).isNotEqualTo(upper.contains(0, slot));
+        }
+    }
+}
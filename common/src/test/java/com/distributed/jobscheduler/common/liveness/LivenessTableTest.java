@@ -0,0 +1,79 @@
+package com.distributed.jobscheduler.common.liveness;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LivenessTableTest {
+
+    private final LivenessTable table = new LivenessTable();
+
+    @Test
+    void beatOfUnknownMemberIsRefused() {
+        assertThat(table.beat("a", 1000)).isNull();
+        assertThat(table.lastBeatMillis("a")).isEqualTo(LivenessTable.UNKNOWN);
+        assertThat(table.unflushed()).isEmpty();
+    }
+
+    @Test
+    void registeredBeatCountsAsFlushed() {
+        table.register("a", 1000);
+
+        assertThat(table.unflushed()).isEmpty();
+        assertThat(table.lastBeatMillis("a")).isEqualTo(1000);
+    }
+
+    @Test
+    void beatsAreFlushedOnceWithTheirLatestValues() {
+        table.register("a", 1000);
+        table.register("b", 1000);
+        LivenessTable.Member a = table.beat("a", 2000);
+        a.setLoad(3);
+        a.setCapacity(8);
+        table.beat("a", 3000);
+
+        List<LivenessTable.Beat> beats = table.unflushed();
+
+        assertThat(beats).containsExactly(new LivenessTable.Beat("a", 3000, 3, 8, -1));
+
+        table.markFlushed(beats);
+
+        assertThat(table.unflushed()).isEmpty();
+    }
+
+    @Test
+    void beatAfterTheSnapshotStaysUnflushed() {
+        table.register("a", 1000);
+        table.beat("a", 2000);
+        List<LivenessTable.Beat> beats = table.unflushed();
+        table.beat("a", 2500);
+
+        table.markFlushed(beats);
+
+        assertThat(table.unflushed()).extracting(LivenessTable.Beat::lastBeatMillis).containsExactly(2500L);
+    }
+
+    @Test
+    void olderBeatsDoNotMoveTheMemberBack() {
+        table.register("a", 1000);
+        table.beat("a", 3000);
+        table.beat("a", 2000);
+
+        assertThat(table.lastBeatMillis("a")).isEqualTo(3000);
+    }
+
+    @Test
+    void flushOfRemovedMemberIsIgnored() {
+        table.register("a", 1000);
+        table.beat("a", 2000);
+        List<LivenessTable.Beat> beats = table.unflushed();
+        table.remove("a");
+
+        table.markFlushed(beats);
+
+        assertThat(table.size()).isZero();
+        assertThat(table.unflushed()).isEmpty();
+    }
+}
@@ -0,0 +1,99 @@
+package com.distributed.jobscheduler.common.liveness;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class PhiAccrualDetectorTest {
+
+    @Test
+    void phiOfMatchesTheNormalTail() {
+        // -log10 of P(X > mean + k sigma) for a normal X: 0.5, 0.1587, 0.0228, 0.00135
+        assertThat(PhiAccrualDetector.phiOf(1000, 1000, 100)).isCloseTo(0.301, within(0.01));
+        assertThat(PhiAccrualDetector.phiOf(1100, 1000, 100)).isCloseTo(0.799, within(0.02));
+        assertThat(PhiAccrualDetector.phiOf(1200, 1000, 100)).isCloseTo(1.641, within(0.03));
+        assertThat(PhiAccrualDetector.phiOf(1300, 1000, 100)).isCloseTo(2.870, within(0.05));
+    }
+
+    @Test
+    void phiOfGrowsWithTheSilence() {
+        double previous = 0;
+        for (int elapsed = 0; elapsed <= 2000; elapsed += 50) {
+            double phi = PhiAccrualDetector.phiOf(elapsed, 1000, 100);
+            assertThat(phi).isGreaterThanOrEqualTo(previous);
+            previous = phi;
+        }
+
+        // Past the double range the level saturates at infinity, above any threshold
+        assertThat(PhiAccrualDetector.phiOf(10_000, 1000, 100)).isEqualTo(Double.POSITIVE_INFINITY);
+    }
+
+    @Test
+    void normallyDistributedIntervalsGiveTheNormalPhi() {
+        PhiAccrualDetector detector = new PhiAccrualDetector(1000, 1, 0, 1000);
+        Random random = new Random(42);
+        long now = 0;
+        detector.heartbeat("a", now);
+        for (int i = 0; i < 1000; i++) {
+            now += Math.round(1000 + 100 * random.nextGaussian());
+            detector.heartbeat("a", now);
+        }
+
+        // The seeded estimate has fallen out of the window, leaving mean ~1000 and deviation ~100
+        assertThat(detector.phi("a", now + 1000)).isCloseTo(0.301, within(0.05));
+        assertThat(detector.phi("a", now + 1200)).isCloseTo(1.641, within(0.15));
+        assertThat(detector.phi("a", now + 1300)).isCloseTo(2.870, within(0.3));
+    }
+
+    @Test
+    void regularIntervalsAreJudgedWithTheMinimumDeviation() {
+        PhiAccrualDetector detector = new PhiAccrualDetector(10, 100, 0, 500);
+        for (long now = 0; now <= 20_000; now += 1000) {
+            detector.heartbeat("a", now);
+        }
+
+        // Ten identical intervals: zero variance, so the 100 ms floor is the deviation
+        assertThat(detector.phi("a", 21_000)).isCloseTo(0.301, within(0.01));
+        assertThat(detector.phi("a", 21_300)).isCloseTo(2.870, within(0.05));
+    }
+
+    @Test
+    void acceptablePauseShiftsTheExpectedInterval() {
+        PhiAccrualDetector detector = new PhiAccrualDetector(10, 100, 3000, 500);
+        for (long now = 0; now <= 20_000; now += 1000) {
+            detector.heartbeat("a", now);
+        }
+
+        assertThat(detector.phi("a", 20_000 + 4000)).isCloseTo(0.301, within(0.01));
+    }
+
+    @Test
+    void firstBeatUsesTheIntervalEstimate() {
+        PhiAccrualDetector detector = new PhiAccrualDetector(10, 1, 0, 1000);
+        detector.heartbeat("a", 5000);
+
+        // Seeded with 750 and 1250 ms: mean 1000, deviation 250
+        assertThat(detector.phi("a", 6000)).isCloseTo(0.301, within(0.01));
+        assertThat(detector.phi("a", 6500)).isCloseTo(1.641, within(0.03));
+        assertThat(detector.observedIntervals("a")).isZero();
+    }
+
+    @Test
+    void unknownAndRemovedMembersHaveNoPhi() {
+        PhiAccrualDetector detector = new PhiAccrualDetector(10, 100, 0, 1000);
+        detector.heartbeat("a", 0);
+        detector.heartbeat("a", 1000);
+        detector.heartbeat("a", 1000);
+
+        assertThat(detector.observedIntervals("a")).isEqualTo(1);
+        assertThat(detector.phi("b", 1000)).isNaN();
+
+        detector.remove("a");
+
+        assertThat(detector.phi("a", 2000)).isNaN();
+        assertThat(detector.observedIntervals("a")).isZero();
+    }
+}
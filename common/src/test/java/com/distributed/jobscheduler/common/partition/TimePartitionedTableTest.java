@@ -0,0 +1,94 @@
+package com.distributed.jobscheduler.common.partition;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class TimePartitionedTableTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-16T12:00:00Z");
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final TransactionTemplate transactionTemplate =
+            new TransactionTemplate(mock(PlatformTransactionManager.class));
+
+    @Test
+    void startCreatesTheDefaultTodayAndTomorrowPartitions() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), anyString())).thenReturn(false);
+
+        table(RetentionPolicy.PartitionMode.NATIVE, 0).start(NOW);
+
+        verify(jdbcTemplate).execute("CREATE TABLE IF NOT EXISTS history_default PARTITION OF history DEFAULT");
+        verify(jdbcTemplate).execute(startsWith("CREATE TABLE history_p20261016 (LIKE history"));
+        verify(jdbcTemplate).execute("ALTER TABLE history ATTACH PARTITION history_p20261016 "
+                + "FOR VALUES FROM ('2026-10-16T00:00:00Z') TO ('2026-10-17T00:00:00Z')");
+        verify(jdbcTemplate).execute(startsWith("CREATE TABLE history_p20261017 (LIKE history"));
+        verify(jdbcTemplate, never()).execute(contains("history_p20261018"));
+    }
+
+    @Test
+    void newPartitionTakesItsRowsFromTheDefaultPartitionBeforeAttaching() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), anyString())).thenReturn(false);
+
+        table(RetentionPolicy.PartitionMode.NATIVE, 0).start(NOW);
+
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).update("WITH moved AS (DELETE FROM history_default WHERE created_at >= ? AND "
+                        + "created_at < ? RETURNING *) INSERT INTO history_p20261016 SELECT * FROM moved",
+                Timestamp.from(Instant.parse("2026-10-16T00:00:00Z")),
+                Timestamp.from(Instant.parse("2026-10-17T00:00:00Z")));
+        inOrder.verify(jdbcTemplate).execute(startsWith("ALTER TABLE history ATTACH PARTITION history_p20261016"));
+    }
+
+    @Test
+    void existingPartitionsAreLeftAlone() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), anyString())).thenReturn(true);
+
+        table(RetentionPolicy.PartitionMode.NATIVE, 3).start(NOW);
+
+        verify(jdbcTemplate, never()).execute(startsWith("CREATE TABLE history_p"));
+        verify(jdbcTemplate, never()).execute(startsWith("ALTER TABLE"));
+    }
+
+    @Test
+    void startDoesNothingInRollingDeleteMode() {
+        table(RetentionPolicy.PartitionMode.ROLLING_DELETE, 3).start(NOW);
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void hourlyRollupGroupsByJobAndHourOfTheTimeColumn() {
+        HourlyRollup rollup = new HourlyRollup("history_rollups", "runs", "COUNT(*)");
+
+        assertThat(rollup.sql("history", "created_at")).isEqualTo(
+                "INSERT INTO history_rollups (job_id, hour_start, runs) "
+                        + "SELECT job_id, DATE_TRUNC('hour', created_at), COUNT(*) FROM history "
+                        + "WHERE created_at >= ? AND created_at < ? GROUP BY job_id, DATE_TRUNC('hour', created_at)");
+    }
+
+    private TimePartitionedTable table(RetentionPolicy.PartitionMode mode, int precreateDays) {
+        RetentionPolicy policy = new RetentionPolicy();
+        policy.setMode(mode);
+        policy.setPrecreateDays(precreateDays);
+        return new TimePartitionedTable(jdbcTemplate, transactionTemplate, "history", "created_at",
+                new HourlyRollup("history_rollups", "runs", "COUNT(*)"), policy);
+    }
+}
@@ -0,0 +1,74 @@
+package com.distributed.jobscheduler.execution.client;
+
+import com.distributed.jobscheduler.common.dto.JobDispatchBatchResult;
+import com.distributed.jobscheduler.common.dto.JobDispatchEvent;
+import com.distributed.jobscheduler.common.response.ResponseData;
+import com.distributed.jobscheduler.execution.config.AssignmentConfig;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.ConnectException;
+import java.util.BitSet;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class WorkerAgentClient {
+
+    private static final Logger log = LoggerFactory.getLogger(WorkerAgentClient.class);
+    private static final ParameterizedTypeReference<ResponseData<JobDispatchBatchResult>> BATCH_RESULT_TYPE =
+            new ParameterizedTypeReference<>() {
+            };
+
+    private final AssignmentConfig assignmentConfig;
+    private RestTemplate restTemplate;
+
+    @PostConstruct
+    public void init() {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout((int) assignmentConfig.getDispatchConnectTimeoutMillis());
+        requestFactory.setReadTimeout((int) assignmentConfig.getDispatchReadTimeoutMillis());
+        restTemplate = new RestTemplate(requestFactory);
+    }
+
+    /**
+     * Sends {@code events} to the agent's batch dispatch endpoint. Bit {@code i} of the outcome is set when the agent
+     * took event {@code i}. An agent that could not be connected to or that answered with an error took none; when
+     * the request may have reached the agent but no answer came back, such as on a read timeout, the outcome is not
+     * {@link BatchOutcome#answered() answered} and the agent may hold any of the events.
+     */
+    public BatchOutcome dispatchBatch(String workerId, String agentUrl, List<JobDispatchEvent> events) {
+        try {
+            ResponseData<JobDispatchBatchResult> response = restTemplate.exchange(
+                    agentUrl + "/api/worker-agent/dispatch/batch", HttpMethod.POST, new HttpEntity<>(events),
+                    BATCH_RESULT_TYPE).getBody();
+            return new BatchOutcome(response == null || response.getData() == null
+                    ? new BitSet() : response.getData().toBitSet(), true);
+        } catch (ResourceAccessException e) {
+            boolean neverSent = e.getCause() instanceof ConnectException;
+            log.warn("Failed to dispatch {} jobs to worker {} at {}{}: {}", events.size(), workerId, agentUrl,
+                    neverSent ? "" : ", outcome unknown", e.getMessage());
+            return new BatchOutcome(new BitSet(), neverSent);
+        } catch (RestClientException e) {
+            log.warn("Failed to dispatch {} jobs to worker {} at {}: {}", events.size(), workerId, agentUrl,
+                    e.getMessage());
+            return new BatchOutcome(new BitSet(), true);
+        }
+    }
+
+    /**
+     * Which events of a batch the agent took, and whether it said so. When it did not, {@code taken} is empty.
+     */
+    public record BatchOutcome(BitSet taken, boolean answered) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.distributed.jobscheduler.execution.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "execution.assignments")
+@Data
+public class AssignmentConfig {
+    /** Running jobs of failed workers moved per health check; the rest follow on the next checks. */
+    private int reassignBatchSize = 10000;
+    /** Jobs per dispatch request to one agent. */
+    private int dispatchBatchSize = 1000;
+    private long dispatchConnectTimeoutMillis = 2000;
+    private long dispatchReadTimeoutMillis = 10000;
+}
@@ -0,0 +1,27 @@
+package com.distributed.jobscheduler.execution.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "execution.failure-detector")
+@Data
+public class FailureDetectorConfig {
+    private long checkIntervalMillis = 1000;
+    /** Heartbeat intervals kept per worker. */
+    private int windowSize = 100;
+    /** Suspicion level at which a worker is marked SUSPECT; it goes back to ONLINE with its next heartbeat. */
+    private double suspectPhi = 5.0;
+    /** Suspicion level at which a worker is marked UNHEALTHY and its jobs are reassigned. */
+    private double unhealthyPhi = 8.0;
+    /** Silence tolerated on top of the mean interval, to ride out collector pauses on the agent or here. */
+    private long acceptablePauseMillis = 3000;
+    private double minStdDeviationMillis = 200;
+    /** Expected interval until a worker has sent two heartbeats; should match the agents' heartbeat interval. */
+    private long firstIntervalEstimateMillis = 1000;
+    /** Heartbeats an UNHEALTHY worker must send in a row before it is considered ONLINE again. */
+    private int recoveryHeartbeats = 3;
+    /** Fixed timeout for workers this node has no heartbeat history for, e.g. right after a restart. */
+    private long heartbeatTimeoutMillis = 8000;
+}
@@ -0,0 +1,19 @@
+package com.distributed.jobscheduler.execution.config;
+
+import com.distributed.jobscheduler.common.enums.PlacementStrategy;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "execution.placement")
+@Data
+public class PlacementConfig {
+    /** Used when a placement request names no strategy. */
+    private PlacementStrategy defaultStrategy = PlacementStrategy.POWER_OF_TWO_CHOICES;
+    /** Lock stripes of the agent index; placements only contend when they land in the same stripe. */
+    private int stripes = 16;
+    private int maxBatchSize = 10000;
+    /** How long a placed job holds its slot, covering its dispatch and the agent's next heartbeats. */
+    private long reservationTtlMillis = 5000;
+}
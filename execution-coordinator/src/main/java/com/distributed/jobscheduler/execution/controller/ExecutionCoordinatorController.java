@@ -1,13 +1,20 @@
 package com.distributed.jobscheduler.execution.controller;
 
+import com.distributed.jobscheduler.common.dto.ExecutionAssignmentReport;
+import com.distributed.jobscheduler.common.dto.PlacementRequest;
+import com.distributed.jobscheduler.common.dto.PlacementResponse;
 import com.distributed.jobscheduler.common.response.ResponseData;
 import com.distributed.jobscheduler.common.response.ResponseUtils;
+import com.distributed.jobscheduler.execution.entity.ExecutionAssignmentEntity;
 import com.distributed.jobscheduler.execution.entity.ExecutionWorkerEntity;
 import com.distributed.jobscheduler.execution.repository.ExecutionWorkerRepository;
+import com.distributed.jobscheduler.execution.service.ExecutionAssignmentService;
+import com.distributed.jobscheduler.execution.service.PlacementService;
+import com.distributed.jobscheduler.execution.service.WorkerHeartbeatService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
-import java.time.Instant;
 import java.util.List;
 
 @RestController
@@ -16,33 +23,23 @@ import java.util.List;
 public class ExecutionCoordinatorController {
 
     private final ExecutionWorkerRepository workerRepository;
+    private final WorkerHeartbeatService workerHeartbeatService;
+    private final ExecutionAssignmentService executionAssignmentService;
+    private final PlacementService placementService;
 
     @PostMapping("/workers/{workerId}")
     public ResponseData<ExecutionWorkerEntity> registerWorker(@PathVariable String workerId,
-                                                               @RequestParam(required = false) Integer capacity) {
-        ExecutionWorkerEntity worker = workerRepository.findByWorkerId(workerId)
-                .orElseGet(() -> {
-                    ExecutionWorkerEntity entity = new ExecutionWorkerEntity();
-                    entity.setWorkerId(workerId);
-                    return entity;
-                });
-        worker.setCapacity(capacity);
-        worker.setCurrentLoad(0);
-        worker.setLastHeartbeat(Instant.now());
-        workerRepository.save(worker);
+                                                               @RequestParam(required = false) Integer capacity,
+                                                               @RequestParam(required = false) String url) {
+        ExecutionWorkerEntity worker = workerHeartbeatService.register(workerId, capacity, url);
         return ResponseUtils.success(worker);
     }
 
     @PostMapping("/workers/{workerId}/heartbeat")
     public ResponseData<String> heartbeat(@PathVariable String workerId,
-                                          @RequestParam(required = false) Integer currentLoad) {
-        ExecutionWorkerEntity worker = workerRepository.findByWorkerId(workerId)
-                .orElseThrow(() -> new IllegalArgumentException("Worker not found"));
-        worker.setLastHeartbeat(Instant.now());
-        if (currentLoad != null) {
-            worker.setCurrentLoad(currentLoad);
-        }
-        workerRepository.save(worker);
+                                          @RequestParam(required = false) Integer currentLoad,
+                                          @RequestParam(required = false) Integer capacity) {
+        workerHeartbeatService.heartbeat(workerId, currentLoad, capacity);
         return ResponseUtils.success("Heartbeat recorded");
     }
 
@@ -50,4 +47,35 @@ public class ExecutionCoordinatorController {
     public ResponseData<List<ExecutionWorkerEntity>> listWorkers() {
         return ResponseUtils.success(workerRepository.findAll());
     }
+
+    @PostMapping("/workers/{workerId}/assignments")
+    public ResponseData<String> reportAssignments(@PathVariable String workerId,
+                                                  @RequestBody List<ExecutionAssignmentReport> reports) {
+        executionAssignmentService.report(workerId, reports);
+        return ResponseUtils.success("Assignments recorded");
+    }
+
+    @GetMapping("/workers/{workerId}/assignments")
+    public ResponseData<List<ExecutionAssignmentEntity>> getWorkerAssignments(@PathVariable String workerId) {
+        return ResponseUtils.success(executionAssignmentService.getAssignments(workerId));
+    }
+
+    @GetMapping("/assignments/{jobId}")
+    public ResponseData<ExecutionAssignmentEntity> getAssignment(@PathVariable Long jobId) {
+        return ResponseUtils.success(executionAssignmentService.getAssignment(jobId));
+    }
+
+    @PostMapping("/place")
+    public ResponseData<PlacementResponse> place(@RequestBody PlacementRequest request) {
+        return ResponseUtils.success(placementService.place(request.getJobIds(), request.getStrategy()));
+    }
+
+    /**
+     * Oversize placement batches and unknown jobs are the caller's mistake, not a server error.
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ResponseData<Void> handleInvalidRequest(IllegalArgumentException e) {
+        return ResponseUtils.failure(e.getMessage(), "INVALID_REQUEST");
+    }
 }
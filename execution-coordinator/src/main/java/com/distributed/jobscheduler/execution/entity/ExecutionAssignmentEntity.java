@@ -1,6 +1,8 @@
 package com.distributed.jobscheduler.execution.entity;
 
+import com.distributed.jobscheduler.common.dto.JobDispatchEvent;
 import com.distributed.jobscheduler.common.enums.JobStatus;
+import com.distributed.jobscheduler.common.enums.WorkloadType;
 import jakarta.persistence.*;
 import lombok.Data;
 import org.hibernate.annotations.CreationTimestamp;
@@ -9,7 +11,9 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.Instant;
 
 @Entity
-@Table(name = "execution_assignments")
+@Table(name = "execution_assignments",
+        uniqueConstraints = @UniqueConstraint(name = "uk_execution_assignments_job", columnNames = "job_id"),
+        indexes = @Index(name = "idx_execution_assignments_worker", columnList = "worker_id, status"))
 @Data
 public class ExecutionAssignmentEntity {
 
@@ -30,6 +34,26 @@ public class ExecutionAssignmentEntity {
     @Column(name = "checkpoint_data", columnDefinition = "TEXT")
     private String checkpointData;
 
+    /** The dispatch of the current run, replayed with the latest checkpoint when the job moves to another worker. */
+    @Column(name = "job_name", length = 255)
+    private String jobName;
+
+    @Column(name = "payload", columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "workload_type", length = 20)
+    private WorkloadType workloadType;
+
+    @Column(name = "scheduled_time")
+    private Instant scheduledTime;
+
+    @Column(name = "max_retries")
+    private Integer maxRetries;
+
+    @Column(name = "current_retry_count")
+    private Integer currentRetryCount;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
@@ -37,4 +61,26 @@ public class ExecutionAssignmentEntity {
     @UpdateTimestamp
     @Column(name = "updated_at", nullable = false)
     private Instant updatedAt;
+
+    public void applyDispatch(JobDispatchEvent event) {
+        jobName = event.getJobName();
+        payload = event.getPayload();
+        workloadType = event.getWorkloadType();
+        scheduledTime = event.getScheduledTime();
+        maxRetries = event.getMaxRetries();
+        currentRetryCount = event.getCurrentRetryCount();
+    }
+
+    public JobDispatchEvent toDispatchEvent() {
+        return JobDispatchEvent.builder()
+                .jobId(jobId)
+                .jobName(jobName)
+                .payload(payload)
+                .scheduledTime(scheduledTime)
+                .maxRetries(maxRetries)
+                .currentRetryCount(currentRetryCount)
+                .workloadType(workloadType)
+                .checkpointData(checkpointData)
+                .build();
+    }
 }
@@ -24,6 +24,10 @@ public class ExecutionWorkerEntity {
     @Column(nullable = false)
     private WorkerStatus status = WorkerStatus.ONLINE;
 
+    /** Base URL jobs of failed workers are dispatched to; workers without one are not given any. */
+    @Column(name = "url", length = 255)
+    private String url;
+
     @Column(name = "capacity")
     private Integer capacity;
 
@@ -0,0 +1,270 @@
+package com.distributed.jobscheduler.execution.placement;
+
+import com.distributed.jobscheduler.common.enums.PlacementStrategy;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * In-memory index of the agents that can take jobs, ordered by free slots. Agents are spread over lock stripes, each
+ * holding its agents in a tree ordered by free slots, so placing a job only locks the stripe of the agent it goes to.
+ * A placement reserves the slot for {@code reservationTtl}, long enough for the job to be dispatched and show up in
+ * the load the agent's heartbeats report. Reservations are not dropped on every heartbeat, since one sent before the
+ * job arrived would otherwise free its slot for another placement.
+ *
+ * <p>Least-loaded placement compares the freest agent of every stripe, read without locking, and then takes a slot
+ * from the winner under its stripe's lock. Power-of-two-choices placement compares two agents picked at random and
+ * falls back to least-loaded when neither has room.
+ */
+public final class AgentPlacementIndex {
+
+    private static final Comparator<Agent> BY_FREE_SLOTS = Comparator.comparingInt((Agent agent) -> -agent.free)
+            .thenComparing(agent -> agent.workerId);
+
+    private final Stripe[] stripes;
+    private final long reservationTtlNanos;
+    private final LongSupplier nanoClock;
+    private final Map<String, Agent> agents = new ConcurrentHashMap<>();
+    private volatile Agent[] members = new Agent[0];
+
+    public AgentPlacementIndex(int stripeCount, Duration reservationTtl) {
+        this(stripeCount, reservationTtl, System::nanoTime);
+    }
+
+    AgentPlacementIndex(int stripeCount, Duration reservationTtl, LongSupplier nanoClock) {
+        if (stripeCount <= 0 || reservationTtl.isNegative()) {
+            throw new IllegalArgumentException("Stripe count must be positive and reservation TTL not negative");
+        }
+        this.reservationTtlNanos = reservationTtl.toNanos();
+        this.nanoClock = nanoClock;
+        stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    /**
+     * Adds the agent or replaces what is known about it, dropping its reservations.
+     */
+    public void put(String workerId, String url, int capacity, int load) {
+        Agent agent = agents.computeIfAbsent(workerId,
+                id -> new Agent(id, stripes[Math.floorMod(id.hashCode(), stripes.length)]));
+        Stripe stripe = agent.stripe;
+        stripe.lock.lock();
+        try {
+            if (agents.get(workerId) != agent) {
+                // Removed meanwhile
+                return;
+            }
+            boolean added = !agent.indexed;
+            stripe.detach(agent);
+            agent.url = url;
+            agent.capacity = capacity;
+            agent.load = load;
+            agent.reservations.clear();
+            stripe.attach(agent);
+            if (added) {
+                refreshMembers();
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * Applies a heartbeat of an indexed agent and drops its expired reservations. Null values leave the known ones
+     * as they are, and agents not in the index are ignored.
+     */
+    public void update(String workerId, Integer capacity, Integer load) {
+        Agent agent = agents.get(workerId);
+        if (agent == null) {
+            return;
+        }
+        Stripe stripe = agent.stripe;
+        stripe.lock.lock();
+        try {
+            if (!agent.indexed) {
+                return;
+            }
+            stripe.detach(agent);
+            if (capacity != null) {
+                agent.capacity = capacity;
+            }
+            if (load != null) {
+                agent.load = load;
+            }
+            expireReservations(agent);
+            stripe.attach(agent);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    public void remove(String workerId) {
+        Agent agent = agents.remove(workerId);
+        if (agent == null) {
+            return;
+        }
+        agent.stripe.lock.lock();
+        try {
+            agent.stripe.detach(agent);
+        } finally {
+            agent.stripe.lock.unlock();
+        }
+        refreshMembers();
+    }
+
+    public int size() {
+        return agents.size();
+    }
+
+    /**
+     * Reserves a slot for one job and returns the agent it went to, or {@code null} when no agent has one free.
+     */
+    public Placement place(PlacementStrategy strategy) {
+        Agent agent = strategy == PlacementStrategy.POWER_OF_TWO_CHOICES ? twoChoices() : leastLoaded();
+        return agent == null ? null : new Placement(agent.workerId, agent.url);
+    }
+
+    private Agent twoChoices() {
+        Agent[] candidates = members;
+        if (candidates.length > 1) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int first = random.nextInt(candidates.length);
+            int second = random.nextInt(candidates.length - 1);
+            if (second >= first) {
+                second++;
+            }
+            Agent preferred = candidates[first];
+            Agent other = candidates[second];
+            if (other.free > preferred.free) {
+                preferred = other;
+                other = candidates[first];
+            }
+            if (reserve(preferred)) {
+                return preferred;
+            }
+            if (reserve(other)) {
+                return other;
+            }
+        }
+        return leastLoaded();
+    }
+
+    private Agent leastLoaded() {
+        // Each failed attempt means a stripe's freest agent filled up meanwhile; give up once all could have
+        for (int attempt = 0; attempt <= stripes.length; attempt++) {
+            Stripe freest = null;
+            int mostFree = 0;
+            for (Stripe stripe : stripes) {
+                Agent head = stripe.head;
+                if (head != null && head.free > mostFree) {
+                    freest = stripe;
+                    mostFree = head.free;
+                }
+            }
+            if (freest == null) {
+                return null;
+            }
+            freest.lock.lock();
+            try {
+                Agent head = freest.agents.isEmpty() ? null : freest.agents.first();
+                if (head != null && freest.take(head, nanoClock.getAsLong())) {
+                    return head;
+                }
+            } finally {
+                freest.lock.unlock();
+            }
+        }
+        return null;
+    }
+
+    private boolean reserve(Agent agent) {
+        agent.stripe.lock.lock();
+        try {
+            return agent.indexed && agent.stripe.take(agent, nanoClock.getAsLong());
+        } finally {
+            agent.stripe.lock.unlock();
+        }
+    }
+
+    /** Caller holds the agent's stripe lock. */
+    private void expireReservations(Agent agent) {
+        long expiredBefore = nanoClock.getAsLong() - reservationTtlNanos;
+        while (!agent.reservations.isEmpty() && agent.reservations.peekFirst() - expiredBefore <= 0) {
+            agent.reservations.pollFirst();
+        }
+    }
+
+    private synchronized void refreshMembers() {
+        members = agents.values().toArray(new Agent[0]);
+    }
+
+    public record Placement(String workerId, String url) {
+    }
+
+    private static final class Stripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final TreeSet<Agent> agents = new TreeSet<>(BY_FREE_SLOTS);
+        /** Freest agent of the stripe, for lock-free comparison across stripes. */
+        private volatile Agent head;
+
+        /** Takes a slot of {@code agent}, which must be attached, reserved at {@code nowNanos}. Caller holds the lock. */
+        private boolean take(Agent agent, long nowNanos) {
+            if (agent.free <= 0) {
+                return false;
+            }
+            agents.remove(agent);
+            agent.reservations.addLast(nowNanos);
+            agent.free = Math.max(0, agent.capacity - agent.load - agent.reservations.size());
+            agents.add(agent);
+            head = agents.first();
+            return true;
+        }
+
+        private void attach(Agent agent) {
+            agent.free = Math.max(0, agent.capacity - agent.load - agent.reservations.size());
+            agents.add(agent);
+            agent.indexed = true;
+            head = agents.first();
+        }
+
+        private void detach(Agent agent) {
+            if (agent.indexed) {
+                agents.remove(agent);
+                agent.indexed = false;
+                head = agents.isEmpty() ? null : agents.first();
+            }
+        }
+    }
+
+    /**
+     * Fields other than {@code workerId} and {@code stripe} are guarded by the stripe's lock; {@code free} is also
+     * read without it to compare candidates, and {@code indexed} decides whether the agent is in the stripe's tree.
+     */
+    private static final class Agent {
+
+        private final String workerId;
+        private final Stripe stripe;
+        /** Times the unexpired reservations were made, oldest first. */
+        private final ArrayDeque<Long> reservations = new ArrayDeque<>();
+        private volatile String url;
+        private volatile int free;
+        private int capacity;
+        private int load;
+        private boolean indexed;
+
+        private Agent(String workerId, Stripe stripe) {
+            this.workerId = workerId;
+            this.stripe = stripe;
+        }
+    }
+}
@@ -1,13 +1,40 @@
 package com.distributed.jobscheduler.execution.repository;
 
+import com.distributed.jobscheduler.common.enums.JobStatus;
 import com.distributed.jobscheduler.execution.entity.ExecutionAssignmentEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface ExecutionAssignmentRepository extends JpaRepository<ExecutionAssignmentEntity, Long> {
 
     List<ExecutionAssignmentEntity> findByWorkerId(String workerId);
 
-    List<ExecutionAssignmentEntity> findByJobId(Long jobId);
+    Optional<ExecutionAssignmentEntity> findByJobId(Long jobId);
+
+    List<ExecutionAssignmentEntity> findByJobIdIn(Collection<Long> jobIds);
+
+    List<ExecutionAssignmentEntity> findByWorkerIdInAndStatusOrderById(Collection<String> workerIds, JobStatus status,
+                                                                       Limit limit);
+
+    @Query("SELECT a.id FROM ExecutionAssignmentEntity a WHERE a.id IN :ids AND a.workerId = :workerId")
+    List<Long> findIdsOnWorker(@Param("ids") Collection<Long> ids, @Param("workerId") String workerId);
+
+    /**
+     * Moves running assignments that are still on one of {@code fromWorkerIds} to {@code workerId}, so a job that
+     * finished or was claimed elsewhere in the meantime is left alone.
+     */
+    @Modifying
+    @Query("UPDATE ExecutionAssignmentEntity a SET a.workerId = :workerId, a.updatedAt = :now " +
+            "WHERE a.id IN :ids AND a.workerId IN :fromWorkerIds " +
+            "AND a.status = com.distributed.jobscheduler.common.enums.JobStatus.RUNNING")
+    int reassign(@Param("ids") Collection<Long> ids, @Param("fromWorkerIds") Collection<String> fromWorkerIds,
+                 @Param("workerId") String workerId, @Param("now") Instant now);
 }
@@ -4,6 +4,7 @@ import com.distributed.jobscheduler.common.enums.WorkerStatus;
 import com.distributed.jobscheduler.execution.entity.ExecutionWorkerEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,4 +13,6 @@ public interface ExecutionWorkerRepository extends JpaRepository<ExecutionWorker
     Optional<ExecutionWorkerEntity> findByWorkerId(String workerId);
 
     List<ExecutionWorkerEntity> findByStatus(WorkerStatus status);
+
+    List<ExecutionWorkerEntity> findByStatusIn(Collection<WorkerStatus> statuses);
 }
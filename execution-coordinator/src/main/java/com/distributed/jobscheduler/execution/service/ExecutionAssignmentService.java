@@ -0,0 +1,285 @@
+package com.distributed.jobscheduler.execution.service;
+
+import com.distributed.jobscheduler.common.dto.ExecutionAssignmentReport;
+import com.distributed.jobscheduler.common.dto.JobDispatchEvent;
+import com.distributed.jobscheduler.common.dto.JobPlacement;
+import com.distributed.jobscheduler.common.dto.PlacementResponse;
+import com.distributed.jobscheduler.common.enums.JobStatus;
+import com.distributed.jobscheduler.common.enums.PlacementStrategy;
+import com.distributed.jobscheduler.common.metrics.SchedulerMetrics;
+import com.distributed.jobscheduler.execution.client.WorkerAgentClient;
+import com.distributed.jobscheduler.execution.config.AssignmentConfig;
+import com.distributed.jobscheduler.execution.config.PlacementConfig;
+import com.distributed.jobscheduler.execution.entity.ExecutionAssignmentEntity;
+import com.distributed.jobscheduler.execution.placement.AgentPlacementIndex;
+import com.distributed.jobscheduler.execution.repository.ExecutionAssignmentRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Owns the execution assignment table: which worker agent runs which job, with the dispatch and latest checkpoint
+ * needed to run it elsewhere. Agents report their jobs in batches; when an agent fails, its running jobs are spread
+ * over the online agents by free capacity and sent to each in batched dispatches. Each batch is moved to its new
+ * agent before it is sent, so the agent's reports are accepted as soon as it runs the jobs, and moved back if the
+ * agent does not take them.
+ */
+@Service
+@RequiredArgsConstructor
+public class ExecutionAssignmentService {
+
+    private static final Logger log = LoggerFactory.getLogger(ExecutionAssignmentService.class);
+
+    private final ExecutionAssignmentRepository assignmentRepository;
+    private final PlacementService placementService;
+    private final WorkerAgentClient workerAgentClient;
+    private final AssignmentConfig assignmentConfig;
+    private final PlacementConfig placementConfig;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private ExecutorService dispatchExecutor;
+    private Timer reassignTimer;
+    private Counter reassignedCounter;
+
+    @PostConstruct
+    public void init() {
+        dispatchExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        reassignTimer = SchedulerMetrics.timer(meterRegistry, SchedulerMetrics.JOB_REASSIGN,
+                "Time to move a batch of running jobs off failed workers");
+        reassignedCounter = Counter.builder(SchedulerMetrics.JOBS_REASSIGNED)
+                .description("Running jobs dispatched to another worker after theirs failed")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatchExecutor.shutdown();
+    }
+
+    /**
+     * Applies a batch of reports from {@code workerId}. A started job is claimed by the reporting worker when
+     * {@link #mayClaim} allows it; checkpoints and final statuses only count while the job is still assigned to it,
+     * so a worker wrongly declared dead cannot overwrite the run that replaced its own.
+     */
+    @Transactional
+    public void report(String workerId, List<ExecutionAssignmentReport> reports) {
+        Map<Long, ExecutionAssignmentEntity> assignments = new HashMap<>();
+        for (ExecutionAssignmentEntity assignment : assignmentRepository.findByJobIdIn(
+                reports.stream().map(ExecutionAssignmentReport::getJobId).toList())) {
+            assignments.put(assignment.getJobId(), assignment);
+        }
+        Map<Long, ExecutionAssignmentEntity> changed = new LinkedHashMap<>();
+        for (ExecutionAssignmentReport report : reports) {
+            if (report.getJobId() == null || report.getStatus() == null) {
+                continue;
+            }
+            ExecutionAssignmentEntity assignment = assignments.get(report.getJobId());
+            if (report.getDispatch() != null) {
+                if (assignment == null) {
+                    assignment = new ExecutionAssignmentEntity();
+                    assignment.setJobId(report.getJobId());
+                    assignments.put(report.getJobId(), assignment);
+                } else if (!mayClaim(assignment, workerId, report.getDispatch())) {
+                    continue;
+                }
+                assignment.setWorkerId(workerId);
+                assignment.applyDispatch(report.getDispatch());
+            } else if (assignment == null || !workerId.equals(assignment.getWorkerId())) {
+                continue;
+            }
+            assignment.setStatus(report.getStatus());
+            if (report.getStatus() == JobStatus.RUNNING) {
+                assignment.setCheckpointData(report.getCheckpointData());
+            }
+            changed.put(assignment.getJobId(), assignment);
+        }
+        assignmentRepository.saveAll(changed.values());
+    }
+
+    /**
+     * Moves up to {@code reassign-batch-size} running jobs of {@code failedWorkerIds} to online workers and returns
+     * how many the new workers took. Jobs nobody had room for stay put and are picked up by a later call.
+     */
+    public int reassignFrom(Collection<String> failedWorkerIds) {
+        if (failedWorkerIds.isEmpty()) {
+            return 0;
+        }
+        List<ExecutionAssignmentEntity> orphans = assignmentRepository.findByWorkerIdInAndStatusOrderById(
+                failedWorkerIds, JobStatus.RUNNING, Limit.of(assignmentConfig.getReassignBatchSize()));
+        if (orphans.isEmpty()) {
+            return 0;
+        }
+        long started = System.nanoTime();
+        Map<AgentPlacementIndex.Placement, List<ExecutionAssignmentEntity>> plan = plan(orphans);
+        if (plan.isEmpty()) {
+            log.warn("No online worker has room for {} running jobs of failed workers {}", orphans.size(),
+                    failedWorkerIds);
+            return 0;
+        }
+
+        List<CompletableFuture<Integer>> dispatches = new ArrayList<>(plan.size());
+        plan.forEach((target, jobs) -> dispatches.add(
+                CompletableFuture.supplyAsync(() -> dispatch(target, jobs, failedWorkerIds), dispatchExecutor)));
+        int dispatched = dispatches.stream().mapToInt(CompletableFuture::join).sum();
+        reassignedCounter.increment(dispatched);
+        SchedulerMetrics.recordSince(reassignTimer, started);
+        log.info("Moved {} of {} running jobs of failed workers {} to {} workers", dispatched, orphans.size(),
+                failedWorkerIds, plan.size());
+        return dispatched;
+    }
+
+    public ExecutionAssignmentEntity getAssignment(Long jobId) {
+        return assignmentRepository.findByJobId(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("No assignment for job " + jobId));
+    }
+
+    public List<ExecutionAssignmentEntity> getAssignments(String workerId) {
+        return assignmentRepository.findByWorkerId(workerId);
+    }
+
+    /**
+     * Whether a start report may take over an existing row. A run of an older occurrence than the row's never may.
+     * Otherwise the worker already holding the row may, any worker may retry a failed run, and another worker may
+     * only start a later occurrence. A start report for the same occurrence from another worker is usually one that
+     * a worker declared dead flushed late, and taking the row would move the job back from its replacement.
+     */
+    private static boolean mayClaim(ExecutionAssignmentEntity assignment, String workerId,
+                                    JobDispatchEvent dispatch) {
+        Instant held = assignment.getScheduledTime();
+        Instant claimed = dispatch.getScheduledTime();
+        if (held != null && claimed != null && claimed.isBefore(held)) {
+            return false;
+        }
+        if (workerId.equals(assignment.getWorkerId()) || assignment.getStatus() == JobStatus.FAILED) {
+            return true;
+        }
+        return held == null || (claimed != null && claimed.isAfter(held));
+    }
+
+    /**
+     * Hands each job to the online worker with the most free slots left, which fills the emptiest workers first and
+     * leaves free capacity even across them. The slots stay reserved in the placement index long enough for the
+     * workers' heartbeats to report the jobs they actually took.
+     */
+    private Map<AgentPlacementIndex.Placement, List<ExecutionAssignmentEntity>> plan(
+            List<ExecutionAssignmentEntity> jobs) {
+        Map<Long, ExecutionAssignmentEntity> byId = new HashMap<>();
+        jobs.forEach(job -> byId.put(job.getId(), job));
+        Map<AgentPlacementIndex.Placement, List<ExecutionAssignmentEntity>> plan = new HashMap<>();
+        // Placed in chunks, since reassign-batch-size may exceed what one placement request accepts
+        int chunkSize = placementConfig.getMaxBatchSize();
+        for (int from = 0; from < jobs.size(); from += chunkSize) {
+            List<Long> chunk = jobs.subList(from, Math.min(jobs.size(), from + chunkSize)).stream()
+                    .map(ExecutionAssignmentEntity::getId).toList();
+            PlacementResponse response = placementService.place(chunk, PlacementStrategy.LEAST_LOADED);
+            for (JobPlacement placement : response.getPlacements()) {
+                plan.computeIfAbsent(new AgentPlacementIndex.Placement(placement.getWorkerId(), placement.getUrl()),
+                        target -> new ArrayList<>()).add(byId.get(placement.getJobId()));
+            }
+            if (!response.getUnplaced().isEmpty()) {
+                // Every agent is full
+                break;
+            }
+        }
+        return plan;
+    }
+
+    /**
+     * Moves {@code jobs} to {@code target} and sends them to it, one batch at a time, and returns how many it took.
+     * A batch is moved before it is sent, so that a job the worker finishes right away is not reported against a row
+     * still on the failed worker; jobs the worker refuses are moved back for a later call to place. Stops at the
+     * first batch the worker did not take in full, since it is then out of room or unreachable.
+     *
+     * <p>A batch whose answer was lost is sent once more, since agents treat a resent occurrence as taken. If that
+     * answer is lost too, the batch stays on the target rather than risk running its jobs twice: the target's
+     * reports confirm the jobs it runs, and if it is really gone it is declared failed and the batch moves again.
+     */
+    private int dispatch(AgentPlacementIndex.Placement target, List<ExecutionAssignmentEntity> jobs,
+                         Collection<String> failedWorkerIds) {
+        int accepted = 0;
+        for (int from = 0; from < jobs.size(); from += assignmentConfig.getDispatchBatchSize()) {
+            List<ExecutionAssignmentEntity> chunk = moveTo(target.workerId(), failedWorkerIds, jobs.subList(from,
+                    Math.min(jobs.size(), from + assignmentConfig.getDispatchBatchSize())));
+            if (chunk.isEmpty()) {
+                continue;
+            }
+            List<JobDispatchEvent> events = chunk.stream().map(ExecutionAssignmentEntity::toDispatchEvent).toList();
+            WorkerAgentClient.BatchOutcome outcome = workerAgentClient.dispatchBatch(target.workerId(), target.url(),
+                    events);
+            if (!outcome.answered()) {
+                outcome = workerAgentClient.dispatchBatch(target.workerId(), target.url(), events);
+            }
+            if (!outcome.answered()) {
+                log.warn("Leaving {} jobs on worker {}, which may have taken them without answering", chunk.size(),
+                        target.workerId());
+                break;
+            }
+            BitSet taken = outcome.taken();
+            accepted += taken.cardinality();
+            if (taken.cardinality() < chunk.size()) {
+                moveBack(target.workerId(), chunk, taken);
+                break;
+            }
+        }
+        return accepted;
+    }
+
+    /**
+     * Moves the rows of {@code jobs} that are still running on a failed worker to {@code workerId} and returns the
+     * jobs that moved. The rest finished or were claimed elsewhere since they were loaded and are not sent.
+     */
+    private List<ExecutionAssignmentEntity> moveTo(String workerId, Collection<String> failedWorkerIds,
+                                                   List<ExecutionAssignmentEntity> jobs) {
+        List<Long> ids = jobs.stream().map(ExecutionAssignmentEntity::getId).toList();
+        Instant now = Instant.now();
+        List<Long> moved = transactionTemplate.execute(status -> {
+            if (assignmentRepository.reassign(ids, failedWorkerIds, workerId, now) == ids.size()) {
+                return ids;
+            }
+            return assignmentRepository.findIdsOnWorker(ids, workerId);
+        });
+        if (moved == null || moved.size() == ids.size()) {
+            return moved == null ? List.of() : jobs;
+        }
+        Set<Long> movedIds = new HashSet<>(moved);
+        return jobs.stream().filter(job -> movedIds.contains(job.getId())).toList();
+    }
+
+    /**
+     * Moves the jobs of {@code chunk} that {@code workerId} did not take back to the failed workers they came from.
+     * Rows that are no longer running on {@code workerId} are left alone.
+     */
+    private void moveBack(String workerId, List<ExecutionAssignmentEntity> chunk, BitSet taken) {
+        Map<String, List<Long>> refusedByWorker = new HashMap<>();
+        for (int i = taken.nextClearBit(0); i < chunk.size(); i = taken.nextClearBit(i + 1)) {
+            ExecutionAssignmentEntity job = chunk.get(i);
+            refusedByWorker.computeIfAbsent(job.getWorkerId(), key -> new ArrayList<>()).add(job.getId());
+        }
+        Instant now = Instant.now();
+        transactionTemplate.executeWithoutResult(status -> refusedByWorker.forEach((failedWorkerId, ids) ->
+                assignmentRepository.reassign(ids, List.of(workerId), failedWorkerId, now)));
+    }
+}
@@ -1,57 +1,132 @@
 package com.distributed.jobscheduler.execution.service;
 
 import com.distributed.jobscheduler.common.enums.WorkerStatus;
-import com.distributed.jobscheduler.execution.entity.ExecutionAssignmentEntity;
+import com.distributed.jobscheduler.common.metrics.SchedulerMetrics;
+import com.distributed.jobscheduler.execution.config.FailureDetectorConfig;
 import com.distributed.jobscheduler.execution.entity.ExecutionWorkerEntity;
-import com.distributed.jobscheduler.execution.repository.ExecutionAssignmentRepository;
 import com.distributed.jobscheduler.execution.repository.ExecutionWorkerRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Moves worker agents between ONLINE, SUSPECT and UNHEALTHY by the suspicion level of their phi accrual failure
+ * detector. A SUSPECT worker is back ONLINE with its next heartbeat, while an UNHEALTHY one first has to send
+ * {@code recovery-heartbeats} heartbeats on a fresh history, so a worker that keeps stalling does not flap. Every
+ * check also moves running jobs still assigned to UNHEALTHY workers to healthy ones.
+ */
 @Service
 @RequiredArgsConstructor
 public class ExecutionMonitoringService {
 
     private static final Logger log = LoggerFactory.getLogger(ExecutionMonitoringService.class);
-    private static final int HEARTBEAT_TIMEOUT_SECONDS = 60;
+    private static final List<WorkerStatus> MONITORED =
+            List.of(WorkerStatus.ONLINE, WorkerStatus.SUSPECT, WorkerStatus.UNHEALTHY);
 
     private final ExecutionWorkerRepository executionWorkerRepository;
-    private final ExecutionAssignmentRepository executionAssignmentRepository;
+    private final ExecutionAssignmentService executionAssignmentService;
+    private final WorkerHeartbeatService workerHeartbeatService;
+    private final PlacementService placementService;
+    private final FailureDetectorConfig failureDetectorConfig;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private Timer healthCheckTimer;
 
-    @Scheduled(fixedRate = 30000)
-    @Transactional
-    public void monitorWorkerHealth() {
-        log.debug("Monitoring worker health");
-
-        List<ExecutionWorkerEntity> workers = executionWorkerRepository.findByStatus(WorkerStatus.ONLINE);
-        Instant now = Instant.now();
+    @PostConstruct
+    public void init() {
+        healthCheckTimer = SchedulerMetrics.timer(meterRegistry, SchedulerMetrics.WORKER_HEALTH_CHECK,
+                "Time to check worker heartbeats and reassign jobs of unhealthy workers");
+    }
 
-        for (ExecutionWorkerEntity worker : workers) {
-            if (worker.getLastHeartbeat() != null &&
-                    Duration.between(worker.getLastHeartbeat(), now).getSeconds() > HEARTBEAT_TIMEOUT_SECONDS) {
+    @Scheduled(fixedDelayString = "${execution.failure-detector.check-interval-millis:1000}")
+    public void monitorWorkerHealth() {
+        long started = System.nanoTime();
+        List<String> unhealthy = transactionTemplate.execute(status -> updateWorkerStatuses());
+        // Outside the transaction: moving jobs waits on the agents they go to
+        executionAssignmentService.reassignFrom(unhealthy);
+        SchedulerMetrics.recordSince(healthCheckTimer, started);
+    }
 
-                log.warn("Worker {} is unhealthy. Last heartbeat: {}", worker.getWorkerId(), worker.getLastHeartbeat());
-                worker.setStatus(WorkerStatus.UNHEALTHY);
-                executionWorkerRepository.save(worker);
+    /**
+     * Applies the detector's verdict to every monitored worker and returns the ids of those now UNHEALTHY.
+     */
+    private List<String> updateWorkerStatuses() {
+        long now = System.currentTimeMillis();
+        List<String> unhealthy = new ArrayList<>();
 
-                reassignJobsFromWorker(worker.getWorkerId());
+        for (ExecutionWorkerEntity worker : executionWorkerRepository.findByStatusIn(MONITORED)) {
+            double phi = suspicion(worker, now);
+            WorkerStatus status = nextStatus(worker, phi);
+            if (status == WorkerStatus.UNHEALTHY) {
+                unhealthy.add(worker.getWorkerId());
+            }
+            if (status == worker.getStatus()) {
+                continue;
+            }
+            if (status == WorkerStatus.UNHEALTHY) {
+                log.warn("Worker {} is unhealthy, phi {}. Last heartbeat: {}", worker.getWorkerId(),
+                        String.format("%.1f", phi), Instant.ofEpochMilli(lastHeartbeatMillis(worker)));
+            } else {
+                log.info("Worker {} is now {} (was {}), phi {}", worker.getWorkerId(), status, worker.getStatus(),
+                        String.format("%.1f", phi));
+            }
+            worker.setStatus(status);
+            executionWorkerRepository.save(worker);
+            if (status == WorkerStatus.UNHEALTHY) {
+                workerHeartbeatService.resetSuspicion(worker.getWorkerId());
+            }
+            if (status == WorkerStatus.ONLINE) {
+                placementService.add(worker);
+            } else {
+                placementService.remove(worker.getWorkerId());
             }
         }
+        return unhealthy;
     }
 
-    private void reassignJobsFromWorker(String workerId) {
-        List<ExecutionAssignmentEntity> assignments = executionAssignmentRepository.findByWorkerId(workerId);
+    private WorkerStatus nextStatus(ExecutionWorkerEntity worker, double phi) {
+        if (worker.getStatus() == WorkerStatus.UNHEALTHY) {
+            boolean recovered = workerHeartbeatService.getObservedHeartbeats(worker.getWorkerId())
+                    >= failureDetectorConfig.getRecoveryHeartbeats()
+                    && phi < failureDetectorConfig.getSuspectPhi();
+            return recovered ? WorkerStatus.ONLINE : WorkerStatus.UNHEALTHY;
+        }
+        if (phi >= failureDetectorConfig.getUnhealthyPhi()) {
+            return WorkerStatus.UNHEALTHY;
+        }
+        return phi >= failureDetectorConfig.getSuspectPhi() ? WorkerStatus.SUSPECT : WorkerStatus.ONLINE;
+    }
 
-        for (ExecutionAssignmentEntity assignment : assignments) {
-            log.info("Reassigning job {} from failed worker {}", assignment.getJobId(), workerId);
+    /**
+     * Phi of the worker's detector. Workers this node has no heartbeat history for, e.g. right after a restart, are
+     * judged by a fixed timeout on their stored heartbeat instead: zero while inside it, infinite past it.
+     */
+    private double suspicion(ExecutionWorkerEntity worker, long now) {
+        double phi = workerHeartbeatService.getSuspicion(worker.getWorkerId(), now);
+        if (!Double.isNaN(phi)) {
+            return phi;
         }
+        if (worker.getStatus() == WorkerStatus.UNHEALTHY) {
+            // No heartbeat since it was marked unhealthy
+            return Double.POSITIVE_INFINITY;
+        }
+        long lastHeartbeat = lastHeartbeatMillis(worker);
+        return lastHeartbeat > 0 && now - lastHeartbeat > failureDetectorConfig.getHeartbeatTimeoutMillis()
+                ? Double.POSITIVE_INFINITY : 0;
+    }
+
+    private long lastHeartbeatMillis(ExecutionWorkerEntity worker) {
+        long stored = worker.getLastHeartbeat() != null ? worker.getLastHeartbeat().toEpochMilli() : 0;
+        return Math.max(stored, workerHeartbeatService.getLastHeartbeatMillis(worker.getWorkerId()));
     }
 }
@@ -0,0 +1,95 @@
+package com.distributed.jobscheduler.execution.service;
+
+import com.distributed.jobscheduler.common.dto.JobPlacement;
+import com.distributed.jobscheduler.common.dto.PlacementResponse;
+import com.distributed.jobscheduler.common.enums.PlacementStrategy;
+import com.distributed.jobscheduler.common.enums.WorkerStatus;
+import com.distributed.jobscheduler.common.metrics.SchedulerMetrics;
+import com.distributed.jobscheduler.execution.config.PlacementConfig;
+import com.distributed.jobscheduler.execution.entity.ExecutionWorkerEntity;
+import com.distributed.jobscheduler.execution.placement.AgentPlacementIndex;
+import com.distributed.jobscheduler.execution.repository.ExecutionWorkerRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Places jobs on ONLINE worker agents with an {@link AgentPlacementIndex}. Registrations, heartbeats and health
+ * transitions keep the index current, so a placement never touches the database.
+ */
+@Service
+@RequiredArgsConstructor
+public class PlacementService {
+
+    private final ExecutionWorkerRepository workerRepository;
+    private final PlacementConfig placementConfig;
+    private final MeterRegistry meterRegistry;
+    private AgentPlacementIndex index;
+    private Timer placementTimer;
+
+    @PostConstruct
+    public void init() {
+        index = new AgentPlacementIndex(placementConfig.getStripes(),
+                Duration.ofMillis(placementConfig.getReservationTtlMillis()));
+        placementTimer = SchedulerMetrics.timer(meterRegistry, SchedulerMetrics.JOB_PLACEMENT,
+                "Time to place a batch of jobs on worker agents");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAgents() {
+        workerRepository.findByStatus(WorkerStatus.ONLINE).forEach(this::add);
+    }
+
+    /**
+     * Makes the worker a placement target. Workers that registered no URL cannot be dispatched to and are left out.
+     */
+    public void add(ExecutionWorkerEntity worker) {
+        if (worker.getUrl() == null) {
+            return;
+        }
+        index.put(worker.getWorkerId(), worker.getUrl(),
+                worker.getCapacity() != null ? worker.getCapacity() : 0,
+                worker.getCurrentLoad() != null ? worker.getCurrentLoad() : 0);
+    }
+
+    public void update(String workerId, Integer capacity, Integer currentLoad) {
+        index.update(workerId, capacity, currentLoad);
+    }
+
+    public void remove(String workerId) {
+        index.remove(workerId);
+    }
+
+    public PlacementResponse place(List<Long> jobIds, PlacementStrategy strategy) {
+        if (jobIds == null || jobIds.isEmpty()) {
+            return new PlacementResponse(List.of(), List.of());
+        }
+        if (jobIds.size() > placementConfig.getMaxBatchSize()) {
+            throw new IllegalArgumentException("At most " + placementConfig.getMaxBatchSize()
+                    + " jobs can be placed per request");
+        }
+        PlacementStrategy effective = strategy != null ? strategy : placementConfig.getDefaultStrategy();
+        long started = System.nanoTime();
+        List<JobPlacement> placements = new ArrayList<>(jobIds.size());
+        List<Long> unplaced = new ArrayList<>();
+        for (int i = 0; i < jobIds.size(); i++) {
+            AgentPlacementIndex.Placement placement = index.place(effective);
+            if (placement == null) {
+                // Every agent is full; the rest would not fit either
+                unplaced.addAll(jobIds.subList(i, jobIds.size()));
+                break;
+            }
+            placements.add(new JobPlacement(jobIds.get(i), placement.workerId(), placement.url()));
+        }
+        SchedulerMetrics.recordSince(placementTimer, started);
+        return new PlacementResponse(placements, unplaced);
+    }
+}
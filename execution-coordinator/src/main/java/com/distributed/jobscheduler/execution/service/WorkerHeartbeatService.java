@@ -0,0 +1,146 @@
+package com.distributed.jobscheduler.execution.service;
+
+import com.distributed.jobscheduler.common.enums.WorkerStatus;
+import com.distributed.jobscheduler.common.liveness.HeartbeatFlusher;
+import com.distributed.jobscheduler.common.liveness.LivenessTable;
+import com.distributed.jobscheduler.common.liveness.PhiAccrualDetector;
+import com.distributed.jobscheduler.execution.config.FailureDetectorConfig;
+import com.distributed.jobscheduler.execution.entity.ExecutionWorkerEntity;
+import com.distributed.jobscheduler.execution.repository.ExecutionWorkerRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+
+/**
+ * Keeps worker agent heartbeats, with the load and capacity they report, in a {@link LivenessTable} and writes them
+ * to {@code execution_workers} in batches every {@code flush-interval-millis}. A worker's row is only read on its
+ * first beat after a restart. Every beat also feeds the worker's inter-arrival history in a
+ * {@link PhiAccrualDetector}.
+ */
+@Service
+@RequiredArgsConstructor
+public class WorkerHeartbeatService {
+
+    private static final String FLUSH_SQL = "UPDATE execution_workers SET last_heartbeat = ?, "
+            + "current_load = COALESCE(?, current_load), capacity = COALESCE(?, capacity), updated_at = ? "
+            + "WHERE worker_id = ?";
+
+    private final ExecutionWorkerRepository workerRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final FailureDetectorConfig failureDetectorConfig;
+    private final PlacementService placementService;
+    private final LivenessTable liveness = new LivenessTable();
+    private PhiAccrualDetector failureDetector;
+    private HeartbeatFlusher heartbeatFlusher;
+
+    @PostConstruct
+    public void init() {
+        failureDetector = new PhiAccrualDetector(failureDetectorConfig.getWindowSize(),
+                failureDetectorConfig.getMinStdDeviationMillis(), failureDetectorConfig.getAcceptablePauseMillis(),
+                failureDetectorConfig.getFirstIntervalEstimateMillis());
+        heartbeatFlusher = new HeartbeatFlusher(liveness, "execution_workers", FLUSH_SQL, (ps, beat, flushedAt) -> {
+            ps.setTimestamp(1, new Timestamp(beat.lastBeatMillis()));
+            setOptional(ps, 2, beat.load());
+            setOptional(ps, 3, beat.capacity());
+            ps.setTimestamp(4, flushedAt);
+            ps.setString(5, beat.id());
+        }, jdbcTemplate, transactionTemplate, meterRegistry);
+    }
+
+    @Transactional
+    public ExecutionWorkerEntity register(String workerId, Integer capacity, String url) {
+        ExecutionWorkerEntity worker = workerRepository.findByWorkerId(workerId)
+                .orElseGet(() -> {
+                    ExecutionWorkerEntity entity = new ExecutionWorkerEntity();
+                    entity.setWorkerId(workerId);
+                    return entity;
+                });
+        worker.setCapacity(capacity);
+        worker.setCurrentLoad(0);
+        if (url != null) {
+            worker.setUrl(url);
+        }
+        worker.setLastHeartbeat(Instant.now());
+        workerRepository.save(worker);
+        long now = worker.getLastHeartbeat().toEpochMilli();
+        liveness.register(workerId, now);
+        // A registration comes from a new agent process, whose heartbeat rhythm is learned from scratch
+        failureDetector.remove(workerId);
+        failureDetector.heartbeat(workerId, now);
+        if (worker.getStatus() == WorkerStatus.ONLINE) {
+            placementService.add(worker);
+        }
+        return worker;
+    }
+
+    public void heartbeat(String workerId, Integer currentLoad, Integer capacity) {
+        LivenessTable.Member member = liveness.get(workerId);
+        if (member == null) {
+            ExecutionWorkerEntity worker = workerRepository.findByWorkerId(workerId)
+                    .orElseThrow(() -> new IllegalArgumentException("Worker not found"));
+            member = liveness.register(workerId,
+                    worker.getLastHeartbeat() != null ? worker.getLastHeartbeat().toEpochMilli() : 0);
+        }
+        if (currentLoad != null) {
+            member.setLoad(currentLoad);
+        }
+        if (capacity != null) {
+            member.setCapacity(capacity);
+        }
+        long now = System.currentTimeMillis();
+        liveness.beat(workerId, now);
+        failureDetector.heartbeat(workerId, now);
+        placementService.update(workerId, capacity, currentLoad);
+    }
+
+    /**
+     * Last heartbeat this node received from the worker, or {@link LivenessTable#UNKNOWN} if it has none.
+     */
+    public long getLastHeartbeatMillis(String workerId) {
+        return liveness.lastBeatMillis(workerId);
+    }
+
+    /**
+     * Suspicion level of the worker, or {@code NaN} if this node has not received a heartbeat from it yet.
+     */
+    public double getSuspicion(String workerId, long nowMillis) {
+        return failureDetector.phi(workerId, nowMillis);
+    }
+
+    public int getObservedHeartbeats(String workerId) {
+        return failureDetector.observedIntervals(workerId);
+    }
+
+    /**
+     * Forgets the worker's heartbeat rhythm, so it has to prove itself again before it is trusted.
+     */
+    public void resetSuspicion(String workerId) {
+        failureDetector.remove(workerId);
+    }
+
+    @Scheduled(fixedDelayString = "${execution.heartbeats.flush-interval-millis:2000}")
+    public void flushHeartbeats() {
+        heartbeatFlusher.flush();
+    }
+
+    private static void setOptional(PreparedStatement ps, int index, int value) throws SQLException {
+        if (value >= 0) {
+            ps.setInt(index, value);
+        } else {
+            ps.setNull(index, Types.INTEGER);
+        }
+    }
+}
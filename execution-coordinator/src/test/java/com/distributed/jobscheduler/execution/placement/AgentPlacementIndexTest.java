@@ -0,0 +1,121 @@
+package com.distributed.jobscheduler.execution.placement;
+
+import com.distributed.jobscheduler.common.enums.PlacementStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AgentPlacementIndexTest {
+
+    private static final Duration TTL = Duration.ofSeconds(5);
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AgentPlacementIndex index = new AgentPlacementIndex(4, TTL, nanos::get);
+
+    @Test
+    void leastLoadedPicksTheAgentWithMostFreeSlots() {
+        index.put("a", "http://a", 10, 8);
+        index.put("b", "http://b", 10, 2);
+
+        assertThat(index.place(PlacementStrategy.LEAST_LOADED).workerId()).isEqualTo("b");
+    }
+
+    @Test
+    void placementsReserveSlotsUntilNoneAreLeft() {
+        index.put("a", "http://a", 3, 1);
+        index.put("b", "http://b", 2, 1);
+
+        Map<String, Integer> placed = placeAll(PlacementStrategy.LEAST_LOADED);
+
+        assertThat(placed).isEqualTo(Map.of("a", 2, "b", 1));
+        assertThat(index.place(PlacementStrategy.LEAST_LOADED)).isNull();
+    }
+
+    @Test
+    void twoChoicesNeverExceedsCapacity() {
+        for (int i = 0; i < 20; i++) {
+            index.put("agent-" + i, "http://agent-" + i, 5, i % 5);
+        }
+
+        Map<String, Integer> placed = placeAll(PlacementStrategy.POWER_OF_TWO_CHOICES);
+
+        for (int i = 0; i < 20; i++) {
+            assertThat(placed.getOrDefault("agent-" + i, 0)).isEqualTo(5 - i % 5);
+        }
+    }
+
+    @Test
+    void heartbeatKeepsReservationsYoungerThanTheTtl() {
+        index.put("a", "http://a", 2, 0);
+        index.place(PlacementStrategy.LEAST_LOADED);
+        index.place(PlacementStrategy.LEAST_LOADED);
+
+        // A heartbeat sent before the jobs arrived still reports no load
+        nanos.addAndGet(TTL.toNanos() - 1);
+        index.update("a", 2, 0);
+
+        assertThat(index.place(PlacementStrategy.LEAST_LOADED)).isNull();
+    }
+
+    @Test
+    void heartbeatDropsReservationsOlderThanTheTtl() {
+        index.put("a", "http://a", 2, 0);
+        index.place(PlacementStrategy.LEAST_LOADED);
+        nanos.addAndGet(TTL.toNanos() / 2);
+        index.place(PlacementStrategy.LEAST_LOADED);
+
+        nanos.addAndGet(TTL.toNanos() / 2);
+        index.update("a", null, null);
+
+        // Only the first reservation has expired
+        assertThat(index.place(PlacementStrategy.LEAST_LOADED).workerId()).isEqualTo("a");
+        assertThat(index.place(PlacementStrategy.LEAST_LOADED)).isNull();
+    }
+
+    @Test
+    void reservationsCountOnTopOfTheReportedLoad() {
+        index.put("a", "http://a", 4, 0);
+        index.place(PlacementStrategy.LEAST_LOADED);
+        index.place(PlacementStrategy.LEAST_LOADED);
+
+        index.update("a", 4, 2);
+
+        assertThat(placeAll(PlacementStrategy.LEAST_LOADED)).isEmpty();
+    }
+
+    @Test
+    void putResetsTheAgentAndItsReservations() {
+        index.put("a", "http://a", 1, 0);
+        index.place(PlacementStrategy.LEAST_LOADED);
+
+        index.put("a", "http://a2", 1, 0);
+
+        AgentPlacementIndex.Placement placement = index.place(PlacementStrategy.LEAST_LOADED);
+        assertThat(placement.url()).isEqualTo("http://a2");
+    }
+
+    @Test
+    void removedAgentsAreNotPlacedOnOrUpdated() {
+        index.put("a", "http://a", 5, 0);
+        index.remove("a");
+        index.update("a", 5, 0);
+
+        assertThat(index.size()).isZero();
+        assertThat(index.place(PlacementStrategy.LEAST_LOADED)).isNull();
+        assertThat(index.place(PlacementStrategy.POWER_OF_TWO_CHOICES)).isNull();
+    }
+
+    private Map<String, Integer> placeAll(PlacementStrategy strategy) {
+        Map<String, Integer> placed = new HashMap<>();
+        AgentPlacementIndex.Placement placement;
+        while ((placement = index.place(strategy)) != null) {
+            placed.merge(placement.workerId(), 1, Integer::sum);
+        }
+        return placed;
+    }
+}
@@ -0,0 +1,149 @@
+package com.distributed.jobscheduler.execution.service;
+
+import com.distributed.jobscheduler.common.enums.WorkerStatus;
+import com.distributed.jobscheduler.execution.config.FailureDetectorConfig;
+import com.distributed.jobscheduler.execution.entity.ExecutionWorkerEntity;
+import com.distributed.jobscheduler.execution.repository.ExecutionWorkerRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ExecutionMonitoringServiceTest {
+
+    private final ExecutionWorkerRepository workerRepository = mock(ExecutionWorkerRepository.class);
+    private final ExecutionAssignmentService assignmentService = mock(ExecutionAssignmentService.class);
+    private final WorkerHeartbeatService heartbeatService = mock(WorkerHeartbeatService.class);
+    private final PlacementService placementService = mock(PlacementService.class);
+    private final FailureDetectorConfig config = new FailureDetectorConfig();
+    private ExecutionMonitoringService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ExecutionMonitoringService(workerRepository, assignmentService, heartbeatService,
+                placementService, config, new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                new SimpleMeterRegistry());
+        service.init();
+    }
+
+    @Test
+    void onlineWorkerBelowTheSuspectLevelIsLeftAlone() {
+        ExecutionWorkerEntity worker = worker(WorkerStatus.ONLINE, 1.0);
+
+        service.monitorWorkerHealth();
+
+        assertThat(worker.getStatus()).isEqualTo(WorkerStatus.ONLINE);
+        verify(workerRepository, never()).save(any());
+        verify(assignmentService).reassignFrom(List.of());
+    }
+
+    @Test
+    void onlineWorkerPastTheSuspectLevelBecomesSuspectAndLeavesPlacement() {
+        ExecutionWorkerEntity worker = worker(WorkerStatus.ONLINE, config.getSuspectPhi());
+
+        service.monitorWorkerHealth();
+
+        assertThat(worker.getStatus()).isEqualTo(WorkerStatus.SUSPECT);
+        verify(workerRepository).save(worker);
+        verify(placementService).remove("agent-1");
+        verify(assignmentService).reassignFrom(List.of());
+    }
+
+    @Test
+    void suspectWorkerIsOnlineAgainOnceItsPhiDrops() {
+        ExecutionWorkerEntity worker = worker(WorkerStatus.SUSPECT, 0.5);
+
+        service.monitorWorkerHealth();
+
+        assertThat(worker.getStatus()).isEqualTo(WorkerStatus.ONLINE);
+        verify(placementService).add(worker);
+    }
+
+    @Test
+    void workerPastTheUnhealthyLevelHasItsJobsReassigned() {
+        ExecutionWorkerEntity worker = worker(WorkerStatus.SUSPECT, config.getUnhealthyPhi());
+
+        service.monitorWorkerHealth();
+
+        assertThat(worker.getStatus()).isEqualTo(WorkerStatus.UNHEALTHY);
+        verify(heartbeatService).resetSuspicion("agent-1");
+        verify(placementService).remove("agent-1");
+        verify(assignmentService).reassignFrom(List.of("agent-1"));
+    }
+
+    @Test
+    void unhealthyWorkerStaysUnhealthyUntilEnoughHeartbeats() {
+        ExecutionWorkerEntity worker = worker(WorkerStatus.UNHEALTHY, 0.1);
+        when(heartbeatService.getObservedHeartbeats("agent-1")).thenReturn(config.getRecoveryHeartbeats() - 1);
+
+        service.monitorWorkerHealth();
+
+        assertThat(worker.getStatus()).isEqualTo(WorkerStatus.UNHEALTHY);
+        verify(workerRepository, never()).save(any());
+        verify(assignmentService).reassignFrom(List.of("agent-1"));
+    }
+
+    @Test
+    void unhealthyWorkerRecoversAfterEnoughHeartbeats() {
+        ExecutionWorkerEntity worker = worker(WorkerStatus.UNHEALTHY, 0.1);
+        when(heartbeatService.getObservedHeartbeats("agent-1")).thenReturn(config.getRecoveryHeartbeats());
+
+        service.monitorWorkerHealth();
+
+        assertThat(worker.getStatus()).isEqualTo(WorkerStatus.ONLINE);
+        verify(placementService).add(worker);
+        verify(assignmentService).reassignFrom(List.of());
+    }
+
+    @Test
+    void unhealthyWorkerWithEnoughHeartbeatsButHighPhiDoesNotRecover() {
+        ExecutionWorkerEntity worker = worker(WorkerStatus.UNHEALTHY, config.getSuspectPhi());
+        when(heartbeatService.getObservedHeartbeats("agent-1")).thenReturn(config.getRecoveryHeartbeats());
+
+        service.monitorWorkerHealth();
+
+        assertThat(worker.getStatus()).isEqualTo(WorkerStatus.UNHEALTHY);
+    }
+
+    @Test
+    void workerWithoutHistoryIsJudgedByTheFixedTimeout() {
+        ExecutionWorkerEntity stale = worker(WorkerStatus.ONLINE, Double.NaN);
+        stale.setLastHeartbeat(Instant.now().minusMillis(config.getHeartbeatTimeoutMillis() + 1000));
+        ExecutionWorkerEntity fresh = new ExecutionWorkerEntity();
+        fresh.setWorkerId("agent-2");
+        fresh.setStatus(WorkerStatus.ONLINE);
+        fresh.setLastHeartbeat(Instant.now());
+        when(workerRepository.findByStatusIn(any())).thenReturn(List.of(stale, fresh));
+        when(heartbeatService.getSuspicion(eq("agent-2"), anyLong())).thenReturn(Double.NaN);
+
+        service.monitorWorkerHealth();
+
+        assertThat(stale.getStatus()).isEqualTo(WorkerStatus.UNHEALTHY);
+        assertThat(fresh.getStatus()).isEqualTo(WorkerStatus.ONLINE);
+        verify(assignmentService).reassignFrom(List.of("agent-1"));
+    }
+
+    private ExecutionWorkerEntity worker(WorkerStatus status, double phi) {
+        ExecutionWorkerEntity worker = new ExecutionWorkerEntity();
+        worker.setWorkerId("agent-1");
+        worker.setStatus(status);
+        when(workerRepository.findByStatusIn(any())).thenReturn(List.of(worker));
+        when(heartbeatService.getSuspicion(eq("agent-1"), anyLong())).thenReturn(phi);
+        when(heartbeatService.getLastHeartbeatMillis(anyString())).thenReturn(0L);
+        return worker;
+    }
+}
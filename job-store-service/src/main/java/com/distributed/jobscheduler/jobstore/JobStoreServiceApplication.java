@@ -2,8 +2,10 @@ package com.distributed.jobscheduler.jobstore;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class JobStoreServiceApplication {
 
     public static void main(String[] args) {
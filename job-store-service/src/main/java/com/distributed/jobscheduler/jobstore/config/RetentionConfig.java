@@ -0,0 +1,16 @@
+package com.distributed.jobscheduler.jobstore.config;
+
+import com.distributed.jobscheduler.common.partition.RetentionPolicy;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RetentionConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "jobstore.retention")
+    public RetentionPolicy executionRetentionPolicy() {
+        return new RetentionPolicy();
+    }
+}
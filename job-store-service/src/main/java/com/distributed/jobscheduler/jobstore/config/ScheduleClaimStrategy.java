@@ -0,0 +1,8 @@
+package com.distributed.jobscheduler.jobstore.config;
+
+public enum ScheduleClaimStrategy {
+    /** Row locks with {@code FOR UPDATE SKIP LOCKED}; requires PostgreSQL. */
+    SKIP_LOCKED,
+    /** Conditional UPDATE on the lease columns; works on any database, including H2. */
+    COMPARE_AND_SET
+}
@@ -0,0 +1,19 @@
+package com.distributed.jobscheduler.jobstore.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "jobstore.segments")
+@Data
+public class SegmentConfig {
+    /** Size of the segment space; keep in line with coordinator.segments.total-segments. */
+    private int totalSegments = 100;
+    private SegmentStrategy strategy = SegmentStrategy.JOB_ID;
+    /** Schedules re-segmented per transaction by the backfill. */
+    private int backfillBatchSize = 1000;
+    /** Pause between backfill batches, so the backfill leaves room for scans and claims. */
+    private long backfillPauseMillis = 50;
+    private boolean backfillOnStartup = false;
+}
@@ -0,0 +1,10 @@
+package com.distributed.jobscheduler.jobstore.config;
+
+public enum SegmentStrategy {
+    /** The segment the client put in the request. */
+    CLIENT,
+    /** Hash of the job id; spreads every client's jobs evenly over the segment space. */
+    JOB_ID,
+    /** Hash of the user id; keeps each tenant's jobs together in one segment. */
+    USER_ID
+}
@@ -0,0 +1,42 @@
+package com.distributed.jobscheduler.jobstore.controller;
+
+import com.distributed.jobscheduler.common.dto.ExecutionEvent;
+import com.distributed.jobscheduler.common.response.ResponseData;
+import com.distributed.jobscheduler.common.response.ResponseUtils;
+import com.distributed.jobscheduler.jobstore.entity.JobExecutionEntity;
+import com.distributed.jobscheduler.jobstore.entity.JobExecutionRollupEntity;
+import com.distributed.jobscheduler.jobstore.service.JobStoreService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/job-executions")
+@RequiredArgsConstructor
+public class JobExecutionController {
+
+    private final JobStoreService jobStoreService;
+
+    @PostMapping("/batch")
+    public ResponseData<Integer> recordExecutionEvents(@RequestBody List<ExecutionEvent> events) {
+        return ResponseUtils.success(jobStoreService.recordExecutionEvents(events));
+    }
+
+    @GetMapping
+    public ResponseData<List<JobExecutionEntity>> getExecutions(@RequestParam("jobId") Long jobId,
+                                                                @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        return ResponseUtils.success(jobStoreService.getExecutions(jobId, limit));
+    }
+
+    @GetMapping("/rollups")
+    public ResponseData<List<JobExecutionRollupEntity>> getExecutionRollups(@RequestParam("jobId") Long jobId,
+                                                                            @RequestParam(value = "limit", defaultValue = "24") int limit) {
+        return ResponseUtils.success(jobStoreService.getExecutionRollups(jobId, limit));
+    }
+}
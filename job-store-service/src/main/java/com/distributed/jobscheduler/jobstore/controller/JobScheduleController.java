@@ -1,16 +1,30 @@
 package com.distributed.jobscheduler.jobstore.controller;
 
+import com.distributed.jobscheduler.common.dto.ScheduledJobPage;
 import com.distributed.jobscheduler.common.dto.ScheduledJobResponse;
+import com.distributed.jobscheduler.common.dto.SegmentRange;
+import com.distributed.jobscheduler.common.dto.SegmentSlotBacklog;
 import com.distributed.jobscheduler.common.response.ResponseData;
 import com.distributed.jobscheduler.common.response.ResponseUtils;
+import com.distributed.jobscheduler.jobstore.dto.SegmentBackfillStatus;
 import com.distributed.jobscheduler.jobstore.service.JobStoreService;
+import com.distributed.jobscheduler.jobstore.service.SegmentBackfillService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
@@ -21,15 +35,100 @@ import java.util.List;
 public class JobScheduleController {
 
     private final JobStoreService jobStoreService;
+    private final SegmentBackfillService segmentBackfillService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping("/due")
     public ResponseData<List<ScheduledJobResponse>> getDueSchedules(
             @RequestParam("asOf") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant asOf,
-            @RequestParam("segments") List<Integer> segments) {
-        if (segments == null) {
-            segments = new ArrayList<>();
-        }
-        List<ScheduledJobResponse> schedules = jobStoreService.getScheduledJobs(asOf, segments);
+            @RequestParam(value = "segments", required = false) List<Integer> segments,
+            @RequestParam(value = "ranges", required = false) List<String> ranges,
+            @RequestParam(value = "limit", defaultValue = "0") int limit) {
+        List<ScheduledJobResponse> schedules = jobStoreService.getScheduledJobs(asOf, toRanges(segments, ranges),
+                limit);
         return ResponseUtils.success(schedules);
     }
+
+    @GetMapping("/due/page")
+    public ResponseData<ScheduledJobPage> getDueSchedulePage(
+            @RequestParam("asOf") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant asOf,
+            @RequestParam(value = "segments", required = false) List<Integer> segments,
+            @RequestParam(value = "ranges", required = false) List<String> ranges,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", defaultValue = "1000") int limit) {
+        ScheduledJobPage page = jobStoreService.getScheduledJobPage(asOf, toRanges(segments, ranges), cursor, limit);
+        return ResponseUtils.success(page);
+    }
+
+    @PostMapping("/claim")
+    public ResponseData<List<ScheduledJobResponse>> claimDueSchedules(
+            @RequestParam("workerId") String workerId,
+            @RequestParam(value = "segments", required = false) List<Integer> segments,
+            @RequestParam(value = "ranges", required = false) List<String> ranges,
+            @RequestParam("asOf") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant asOf,
+            @RequestParam(value = "limit", defaultValue = "1000") int limit,
+            @RequestParam(value = "leaseMillis", defaultValue = "60000") long leaseMillis) {
+        List<ScheduledJobResponse> claimed = jobStoreService.claimDueSchedules(
+                workerId, toRanges(segments, ranges), asOf, limit, Duration.ofMillis(leaseMillis));
+        return ResponseUtils.success(claimed);
+    }
+
+    @GetMapping("/backlog")
+    public ResponseData<List<SegmentSlotBacklog>> getDueBacklog(
+            @RequestParam("asOf") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant asOf) {
+        return ResponseUtils.success(jobStoreService.getDueBacklog(asOf));
+    }
+
+    /**
+     * Starts re-deriving the segment of existing schedules unless a backfill is already running.
+     */
+    @PostMapping("/segments/backfill")
+    public ResponseData<SegmentBackfillStatus> startSegmentBackfill() {
+        segmentBackfillService.start();
+        return ResponseUtils.success(segmentBackfillService.getStatus());
+    }
+
+    @GetMapping("/segments/backfill")
+    public ResponseData<SegmentBackfillStatus> getSegmentBackfill() {
+        return ResponseUtils.success(segmentBackfillService.getStatus());
+    }
+
+    @PostMapping("/acknowledgements")
+    public ResponseData<Integer> acknowledgeDispatches(@RequestBody List<Long> scheduleIds) {
+        int rescheduled = jobStoreService.acknowledgeDispatches(scheduleIds);
+        return ResponseUtils.success(rescheduled);
+    }
+
+    @GetMapping(value = "/due/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody streamDueSchedules(
+            @RequestParam("asOf") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant asOf,
+            @RequestParam(value = "segments", required = false) List<Integer> segments,
+            @RequestParam(value = "ranges", required = false) List<String> ranges) {
+        List<SegmentRange> scanRanges = toRanges(segments, ranges);
+        return outputStream -> {
+            try (SequenceWriter writer = objectMapper.writer().withRootValueSeparator("\n").writeValues(outputStream)) {
+                jobStoreService.streamScheduledJobs(asOf, scanRanges, schedule -> {
+                    try {
+                        writer.write(schedule);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+    }
+
+    /**
+     * Whole {@code segments} plus split {@code ranges} in {@code segment:fromSlot-toSlot} form.
+     */
+    private static List<SegmentRange> toRanges(List<Integer> segments, List<String> ranges) {
+        List<SegmentRange> scanRanges = new ArrayList<>();
+        if (segments != null) {
+            segments.forEach(segment -> scanRanges.add(SegmentRange.whole(segment)));
+        }
+        if (ranges != null) {
+            ranges.forEach(range -> scanRanges.add(SegmentRange.parse(range)));
+        }
+        return scanRanges;
+    }
 }
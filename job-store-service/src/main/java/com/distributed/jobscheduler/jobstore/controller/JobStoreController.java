@@ -1,16 +1,32 @@
 package com.distributed.jobscheduler.jobstore.controller;
 
+import com.distributed.jobscheduler.common.dto.JobStatusBatchResult;
+import com.distributed.jobscheduler.common.dto.JobStatusUpdate;
 import com.distributed.jobscheduler.common.enums.JobStatus;
 import com.distributed.jobscheduler.common.response.ResponseData;
 import com.distributed.jobscheduler.common.response.ResponseUtils;
+import com.distributed.jobscheduler.jobstore.dto.JobBatchItemResult;
 import com.distributed.jobscheduler.jobstore.dto.JobResponse;
 import com.distributed.jobscheduler.jobstore.dto.JobSubmissionRequest;
 import com.distributed.jobscheduler.jobstore.service.JobStoreService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 @RestController
 @RequestMapping("/api/jobs")
@@ -18,6 +34,7 @@ import java.util.List;
 public class JobStoreController {
 
     private final JobStoreService jobStoreService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     public ResponseData<JobResponse> submitJob(@Valid @RequestBody JobSubmissionRequest request) {
@@ -25,6 +42,33 @@ public class JobStoreController {
         return ResponseUtils.success(response);
     }
 
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseData<List<JobBatchItemResult>> submitJobs(@RequestBody List<JobSubmissionRequest> requests) {
+        List<JobBatchItemResult> results = new ArrayList<>(requests.size());
+        jobStoreService.submitJobs(requests.iterator(), results::add);
+        return ResponseUtils.success(results);
+    }
+
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody submitJobStream(HttpServletRequest request) {
+        // Results are written as each chunk commits, so neither side holds the whole burst in memory
+        return outputStream -> {
+            try (MappingIterator<JobSubmissionRequest> requests = objectMapper
+                    .readerFor(JobSubmissionRequest.class)
+                    .readValues(request.getInputStream());
+                 SequenceWriter writer = objectMapper.writer().withRootValueSeparator("\n").writeValues(outputStream)) {
+                jobStoreService.submitJobs(lines(requests), result -> {
+                    try {
+                        writer.write(result);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+    }
+
     @GetMapping("/{id}")
     public ResponseData<JobResponse> getJobById(@PathVariable Long id) {
         JobResponse response = jobStoreService.getJobById(id)
@@ -44,9 +88,63 @@ public class JobStoreController {
         return ResponseUtils.success("Job cancelled successfully");
     }
 
+    @PutMapping("/status/batch")
+    public ResponseData<JobStatusBatchResult> updateJobStatuses(@RequestBody List<JobStatusUpdate> updates) {
+        return ResponseUtils.success(jobStoreService.updateJobStatuses(updates));
+    }
+
     @PutMapping("/{id}/status")
     public ResponseData<String> updateJobStatus(@PathVariable Long id, @RequestParam JobStatus status) {
         jobStoreService.updateJobStatus(id, status);
         return ResponseUtils.success("Job status updated");
     }
+
+    /**
+     * Iterates the submissions of an NDJSON body, failing a bad line as its own item. A line that is JSON but not a
+     * submission fails alone and reading resumes at the next one. Malformed JSON cannot be skipped past reliably, so
+     * it fails as the last item and the rest of the body is left unread, instead of breaking off the response.
+     */
+    private static Iterator<JobSubmissionRequest> lines(MappingIterator<JobSubmissionRequest> values) {
+        return new Iterator<>() {
+            private IOException unreadable;
+            private boolean ended;
+
+            @Override
+            public boolean hasNext() {
+                if (ended) {
+                    return false;
+                }
+                if (unreadable != null) {
+                    return true;
+                }
+                try {
+                    return values.hasNextValue();
+                } catch (IOException e) {
+                    unreadable = e;
+                    return true;
+                }
+            }
+
+            @Override
+            public JobSubmissionRequest next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                if (unreadable == null) {
+                    try {
+                        return values.nextValue();
+                    } catch (JsonMappingException e) {
+                        throw new IllegalArgumentException(e.getOriginalMessage(), e);
+                    } catch (IOException e) {
+                        unreadable = e;
+                    }
+                }
+                ended = true;
+                String message = unreadable instanceof JsonProcessingException json
+                        ? json.getOriginalMessage() : unreadable.getMessage();
+                throw new IllegalArgumentException("Unreadable input, rest of the batch not read: " + message,
+                        unreadable);
+            }
+        };
+    }
 }
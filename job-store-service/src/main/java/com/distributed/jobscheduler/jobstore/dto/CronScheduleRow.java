@@ -0,0 +1,15 @@
+package com.distributed.jobscheduler.jobstore.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+@AllArgsConstructor
+public class CronScheduleRow {
+    private Long scheduleId;
+    private Instant nextRunTime;
+    private String cronExpression;
+    private String timeZone;
+}
@@ -0,0 +1,22 @@
+package com.distributed.jobscheduler.jobstore.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobBatchItemResult {
+    private int index;
+    private Long jobId;
+    private String error;
+
+    public static JobBatchItemResult success(int index, Long jobId) {
+        return new JobBatchItemResult(index, jobId, null);
+    }
+
+    public static JobBatchItemResult failure(int index, String error) {
+        return new JobBatchItemResult(index, null, error);
+    }
+}
@@ -2,6 +2,7 @@ package com.distributed.jobscheduler.jobstore.dto;
 
 import com.distributed.jobscheduler.common.enums.JobFrequency;
 import com.distributed.jobscheduler.common.enums.JobStatus;
+import com.distributed.jobscheduler.common.enums.WorkloadType;
 import lombok.Data;
 
 import java.time.Instant;
@@ -12,10 +13,13 @@ public class JobResponse {
     private String jobName;
     private Long userId;
     private JobFrequency frequency;
+    private String cronExpression;
+    private String timeZone;
     private String payload;
     private Instant executionTime;
     private Integer retryCount;
     private Integer maxRetries;
+    private WorkloadType workloadType;
     private JobStatus status;
     private Instant createdAt;
     private Instant updatedAt;
@@ -0,0 +1,15 @@
+package com.distributed.jobscheduler.jobstore.dto;
+
+import com.distributed.jobscheduler.common.enums.JobFrequency;
+import com.distributed.jobscheduler.common.enums.JobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class JobStatusRow {
+    private Long jobId;
+    private JobStatus status;
+    private JobFrequency frequency;
+    private Long version;
+}
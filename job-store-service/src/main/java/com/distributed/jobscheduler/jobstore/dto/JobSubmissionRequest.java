@@ -1,6 +1,7 @@
 package com.distributed.jobscheduler.jobstore.dto;
 
 import com.distributed.jobscheduler.common.enums.JobFrequency;
+import com.distributed.jobscheduler.common.enums.WorkloadType;
 import jakarta.validation.constraints.FutureOrPresent;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -20,6 +21,10 @@ public class JobSubmissionRequest {
     @NotNull(message = "Frequency must be specified")
     private JobFrequency frequency;
 
+    private String cronExpression;
+
+    private String timeZone = "UTC";
+
     @NotNull(message = "Execution time must be set")
     @FutureOrPresent(message = "Execution time cannot be in the past")
     private Instant executionTime;
@@ -29,5 +34,8 @@ public class JobSubmissionRequest {
 
     private Integer maxRetries = 3;
 
-    private Integer segment = 0;
+    private WorkloadType workloadType = WorkloadType.IO_BOUND;
+
+    /** Honoured only with the CLIENT segment strategy; otherwise the job store derives the segment. */
+    private Integer segment;
 }
@@ -0,0 +1,15 @@
+package com.distributed.jobscheduler.jobstore.dto;
+
+import com.distributed.jobscheduler.common.enums.JobFrequency;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+@AllArgsConstructor
+public class RecurringScheduleRow {
+    private Long scheduleId;
+    private Instant nextRunTime;
+    private JobFrequency frequency;
+}
@@ -0,0 +1,14 @@
+package com.distributed.jobscheduler.jobstore.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class ScheduleOwnerRow {
+    private Long scheduleId;
+    private Long jobId;
+    private Long userId;
+    private Integer segment;
+    private Integer slot;
+}
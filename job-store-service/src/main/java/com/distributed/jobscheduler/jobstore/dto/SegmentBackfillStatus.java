@@ -0,0 +1,18 @@
+package com.distributed.jobscheduler.jobstore.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+@Builder
+public class SegmentBackfillStatus {
+    private boolean running;
+    private long scannedSchedules;
+    private long movedSchedules;
+    private Long lastScheduleId;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private String error;
+}
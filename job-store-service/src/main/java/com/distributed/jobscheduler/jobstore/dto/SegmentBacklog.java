@@ -0,0 +1,11 @@
+package com.distributed.jobscheduler.jobstore.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class SegmentBacklog {
+    private Integer segment;
+    private Long dueJobs;
+}
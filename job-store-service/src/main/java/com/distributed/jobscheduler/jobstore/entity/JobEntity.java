@@ -2,6 +2,7 @@ package com.distributed.jobscheduler.jobstore.entity;
 
 import com.distributed.jobscheduler.common.enums.JobFrequency;
 import com.distributed.jobscheduler.common.enums.JobStatus;
+import com.distributed.jobscheduler.common.enums.WorkloadType;
 import jakarta.persistence.*;
 import lombok.Data;
 import org.hibernate.annotations.CreationTimestamp;
@@ -15,7 +16,8 @@ import java.time.Instant;
 public class JobEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "jobs_id_gen")
+    @SequenceGenerator(name = "jobs_id_gen", sequenceName = "jobs_seq", allocationSize = 500)
     private Long id;
 
     @Column(nullable = false, length = 255)
@@ -31,6 +33,19 @@ public class JobEntity {
     @Column(columnDefinition = "TEXT")
     private String payload;
 
+    @Column(name = "checkpoint_data", columnDefinition = "TEXT")
+    private String checkpointData;
+
+    @Column(name = "cron_expression", length = 120)
+    private String cronExpression;
+
+    @Column(name = "time_zone", length = 64)
+    private String timeZone;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "workload_type", length = 16)
+    private WorkloadType workloadType = WorkloadType.IO_BOUND;
+
     @Column(name = "execution_time", nullable = false)
     private Instant executionTime;
 
@@ -44,6 +59,10 @@ public class JobEntity {
     @Column(nullable = false)
     private JobStatus status = JobStatus.PENDING;
 
+    // Left null on new jobs: Spring Data only treats an entity with a null version as new and persists it
+    @Version
+    private Long version;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
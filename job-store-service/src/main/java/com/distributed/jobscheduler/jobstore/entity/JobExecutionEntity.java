@@ -8,20 +8,32 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.Instant;
 
 @Entity
-@Table(name = "job_executions")
+@Table(name = "job_executions",
+        indexes = {
+                @Index(name = "idx_job_executions_job_id", columnList = "job_id"),
+                @Index(name = "idx_job_executions_execution_key", columnList = "execution_key"),
+                @Index(name = "idx_job_executions_created_at", columnList = "created_at")
+        })
 @Data
 public class JobExecutionEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "job_executions_id_gen")
+    @SequenceGenerator(name = "job_executions_id_gen", sequenceName = "job_executions_seq", allocationSize = 500)
     private Long id;
 
+    @Column(name = "execution_key", nullable = false, length = 36)
+    private String executionKey;
+
     @Column(name = "job_id", nullable = false)
     private Long jobId;
 
     @Column(name = "worker_id")
     private String workerId;
 
+    @Column(name = "scheduled_time")
+    private Instant scheduledTime;
+
     @Column(name = "start_time")
     private Instant startTime;
 
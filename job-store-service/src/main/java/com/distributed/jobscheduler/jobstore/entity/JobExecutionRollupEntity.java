@@ -0,0 +1,38 @@
+package com.distributed.jobscheduler.jobstore.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.Instant;
+
+/**
+ * Hourly summary of a job's executions, written when their day of history expires.
+ */
+@Entity
+@Table(name = "job_execution_rollups",
+        indexes = @Index(name = "idx_job_execution_rollups_job_hour", columnList = "job_id, hour_start"))
+@Data
+public class JobExecutionRollupEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "hour_start", nullable = false)
+    private Instant hourStart;
+
+    @Column(nullable = false)
+    private Long runs;
+
+    @Column(nullable = false)
+    private Long succeeded;
+
+    @Column(nullable = false)
+    private Long failed;
+
+    @Column(name = "total_duration_millis", nullable = false)
+    private Long totalDurationMillis;
+}
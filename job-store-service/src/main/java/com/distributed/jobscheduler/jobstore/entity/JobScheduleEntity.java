@@ -2,16 +2,19 @@ package com.distributed.jobscheduler.jobstore.entity;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.Instant;
 
 @Entity
-@Table(name = "job_schedules")
+@Table(name = "job_schedules",
+        indexes = @Index(name = "idx_job_schedules_segment_next_run", columnList = "segment, next_run_time, slot"))
 @Data
 public class JobScheduleEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "job_schedules_id_gen")
+    @SequenceGenerator(name = "job_schedules_id_gen", sequenceName = "job_schedules_seq", allocationSize = 500)
     private Long id;
 
     @Column(name = "job_id", nullable = false)
@@ -25,4 +28,19 @@ public class JobScheduleEntity {
 
     @Column(nullable = false)
     private Integer segment;
+
+    /**
+     * Position within the segment, see {@link com.distributed.jobscheduler.common.dto.SegmentRange#slotOf}. The
+     * column default lets it be added to a populated table; those rows stay in slot 0 until the segment backfill
+     * moves them to their derived slot.
+     */
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Integer slot = 0;
+
+    @Column(name = "claimed_by", length = 100)
+    private String claimedBy;
+
+    @Column(name = "lease_expires_at")
+    private Instant leaseExpiresAt;
 }
@@ -1,11 +1,17 @@
 package com.distributed.jobscheduler.jobstore.repository;
 
 import com.distributed.jobscheduler.jobstore.entity.JobExecutionEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface JobExecutionRepository extends JpaRepository<JobExecutionEntity, Long> {
 
     List<JobExecutionEntity> findByJobId(Long jobId);
+
+    List<JobExecutionEntity> findByJobIdOrderByStartTimeDesc(Long jobId, Limit limit);
+
+    List<JobExecutionEntity> findByExecutionKeyIn(Collection<String> executionKeys);
 }
@@ -0,0 +1,12 @@
+package com.distributed.jobscheduler.jobstore.repository;
+
+import com.distributed.jobscheduler.jobstore.entity.JobExecutionRollupEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface JobExecutionRollupRepository extends JpaRepository<JobExecutionRollupEntity, Long> {
+
+    List<JobExecutionRollupEntity> findByJobIdOrderByHourStartDesc(Long jobId, Limit limit);
+}
@@ -1,10 +1,15 @@
 package com.distributed.jobscheduler.jobstore.repository;
 
 import com.distributed.jobscheduler.common.enums.JobStatus;
+import com.distributed.jobscheduler.jobstore.dto.JobStatusRow;
 import com.distributed.jobscheduler.jobstore.entity.JobEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 
 public interface JobRepository extends JpaRepository<JobEntity, Long> {
@@ -12,4 +17,12 @@ public interface JobRepository extends JpaRepository<JobEntity, Long> {
     List<JobEntity> findByStatus(JobStatus status);
 
     List<JobEntity> findByExecutionTimeBeforeAndStatus(Instant time, JobStatus status);
+
+    @Modifying
+    @Query("UPDATE JobEntity j SET j.checkpointData = NULL WHERE j.id IN :ids AND j.checkpointData IS NOT NULL")
+    int clearCheckpoints(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new com.distributed.jobscheduler.jobstore.dto.JobStatusRow(j.id, j.status, j.frequency, j.version) " +
+            "FROM JobEntity j WHERE j.id IN :ids")
+    List<JobStatusRow> findStatusRows(@Param("ids") Collection<Long> ids);
 }
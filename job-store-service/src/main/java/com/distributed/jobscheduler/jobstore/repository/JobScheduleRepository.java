@@ -1,19 +1,203 @@
 package com.distributed.jobscheduler.jobstore.repository;
 
+import com.distributed.jobscheduler.common.dto.ScheduledJobResponse;
+import com.distributed.jobscheduler.common.dto.SegmentSlotBacklog;
+import com.distributed.jobscheduler.common.enums.JobFrequency;
+import com.distributed.jobscheduler.common.enums.JobStatus;
+import com.distributed.jobscheduler.jobstore.dto.CronScheduleRow;
+import com.distributed.jobscheduler.jobstore.dto.RecurringScheduleRow;
+import com.distributed.jobscheduler.jobstore.dto.ScheduleOwnerRow;
+import com.distributed.jobscheduler.jobstore.dto.SegmentBacklog;
 import com.distributed.jobscheduler.jobstore.entity.JobScheduleEntity;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 public interface JobScheduleRepository extends JpaRepository<JobScheduleEntity, Long> {
 
-    @Query("SELECT js FROM JobScheduleEntity js WHERE js.nextRunTime <= :currentTime AND js.segment IN :segments")
-    List<JobScheduleEntity> findScheduledJobs(@Param("currentTime") Instant currentTime,
-                                               @Param("segments") List<Integer> segments);
+    String SCHEDULE_PROJECTION = "SELECT new com.distributed.jobscheduler.common.dto.ScheduledJobResponse(" +
+            "j.id, js.id, j.jobName, j.frequency, j.status, js.nextRunTime, js.segment, js.slot, j.payload, " +
+            "j.cronExpression, j.timeZone, j.workloadType, j.checkpointData) " +
+            "FROM JobScheduleEntity js JOIN JobEntity j ON j.id = js.jobId ";
+
+    // A finished one-time job never runs again, while a recurring job stays due after each completed run
+    String DISPATCHABLE_JOB = "AND j.status NOT IN :excludedStatuses " +
+            "AND NOT (j.status = com.distributed.jobscheduler.common.enums.JobStatus.COMPLETED " +
+            "AND j.frequency = com.distributed.jobscheduler.common.enums.JobFrequency.ONE_TIME) ";
+
+    // Whole segments are queried together with [0, SLOTS); each split range is queried on its own
+    String IN_SLOT_RANGE = "AND js.segment IN :segments AND js.slot >= :fromSlot AND js.slot < :toSlot ";
+
+    String DUE_SCHEDULE_PROJECTION = SCHEDULE_PROJECTION +
+            "WHERE js.nextRunTime <= :currentTime " + IN_SLOT_RANGE + DISPATCHABLE_JOB;
+
+    String DUE_SCHEDULE_ORDER = "ORDER BY js.nextRunTime, js.id";
+
+    @Query("SELECT new com.distributed.jobscheduler.jobstore.dto.SegmentBacklog(js.segment, COUNT(js)) " +
+            "FROM JobScheduleEntity js JOIN JobEntity j ON j.id = js.jobId " +
+            "WHERE js.nextRunTime <= :currentTime " + DISPATCHABLE_JOB +
+            "GROUP BY js.segment")
+    List<SegmentBacklog> countDueBySegment(@Param("currentTime") Instant currentTime,
+                                           @Param("excludedStatuses") Collection<JobStatus> excludedStatuses);
+
+    @Query("SELECT new com.distributed.jobscheduler.common.dto.SegmentSlotBacklog(js.segment, js.slot, COUNT(js)) " +
+            "FROM JobScheduleEntity js JOIN JobEntity j ON j.id = js.jobId " +
+            "WHERE js.nextRunTime <= :currentTime " + DISPATCHABLE_JOB +
+            "GROUP BY js.segment, js.slot")
+    List<SegmentSlotBacklog> countDueBySegmentSlot(@Param("currentTime") Instant currentTime,
+                                                   @Param("excludedStatuses") Collection<JobStatus> excludedStatuses);
+
+    @Query(DUE_SCHEDULE_PROJECTION + DUE_SCHEDULE_ORDER)
+    List<ScheduledJobResponse> findDueScheduledJobs(@Param("currentTime") Instant currentTime,
+                                                    @Param("segments") Collection<Integer> segments,
+                                                    @Param("fromSlot") int fromSlot,
+                                                    @Param("toSlot") int toSlot,
+                                                    @Param("excludedStatuses") Collection<JobStatus> excludedStatuses,
+                                                    Limit limit);
+
+    @Query(DUE_SCHEDULE_PROJECTION +
+            "AND (js.nextRunTime > :afterTime OR (js.nextRunTime = :afterTime AND js.id > :afterId)) " +
+            DUE_SCHEDULE_ORDER)
+    List<ScheduledJobResponse> findDueScheduledJobsAfter(@Param("currentTime") Instant currentTime,
+                                                         @Param("segments") Collection<Integer> segments,
+                                                         @Param("fromSlot") int fromSlot,
+                                                         @Param("toSlot") int toSlot,
+                                                         @Param("excludedStatuses") Collection<JobStatus> excludedStatuses,
+                                                         @Param("afterTime") Instant afterTime,
+                                                         @Param("afterId") Long afterId,
+                                                         Limit limit);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query(DUE_SCHEDULE_PROJECTION + DUE_SCHEDULE_ORDER)
+    Stream<ScheduledJobResponse> streamDueScheduledJobs(@Param("currentTime") Instant currentTime,
+                                                        @Param("segments") Collection<Integer> segments,
+                                                        @Param("fromSlot") int fromSlot,
+                                                        @Param("toSlot") int toSlot,
+                                                        @Param("excludedStatuses") Collection<JobStatus> excludedStatuses);
+
+    @Query(value = "SELECT js.id FROM job_schedules js JOIN jobs j ON j.id = js.job_id " +
+            "WHERE js.next_run_time <= :currentTime AND js.segment IN (:segments) " +
+            "AND js.slot >= :fromSlot AND js.slot < :toSlot " +
+            "AND (js.lease_expires_at IS NULL OR js.lease_expires_at < :now) " +
+            "AND j.status NOT IN (:excludedStatuses) " +
+            "AND NOT (j.status = 'COMPLETED' AND j.frequency = 'ONE_TIME') " +
+            "ORDER BY js.next_run_time, js.id LIMIT :limit " +
+            "FOR UPDATE OF js SKIP LOCKED", nativeQuery = true)
+    List<Long> lockClaimableScheduleIds(@Param("currentTime") Instant currentTime,
+                                        @Param("now") Instant now,
+                                        @Param("segments") Collection<Integer> segments,
+                                        @Param("fromSlot") int fromSlot,
+                                        @Param("toSlot") int toSlot,
+                                        @Param("excludedStatuses") Collection<String> excludedStatuses,
+                                        @Param("limit") int limit);
+
+    @Query("SELECT js.id FROM JobScheduleEntity js JOIN JobEntity j ON j.id = js.jobId " +
+            "WHERE js.nextRunTime <= :currentTime " + IN_SLOT_RANGE +
+            "AND (js.leaseExpiresAt IS NULL OR js.leaseExpiresAt < :now) " +
+            DISPATCHABLE_JOB + DUE_SCHEDULE_ORDER)
+    List<Long> findClaimableScheduleIds(@Param("currentTime") Instant currentTime,
+                                        @Param("now") Instant now,
+                                        @Param("segments") Collection<Integer> segments,
+                                        @Param("fromSlot") int fromSlot,
+                                        @Param("toSlot") int toSlot,
+                                        @Param("excludedStatuses") Collection<JobStatus> excludedStatuses,
+                                        Limit limit);
+
+    @Modifying
+    @Query("UPDATE JobScheduleEntity js SET js.claimedBy = :workerId, js.leaseExpiresAt = :leaseExpiresAt " +
+            "WHERE js.id IN :ids AND (js.leaseExpiresAt IS NULL OR js.leaseExpiresAt < :now)")
+    int claimSchedules(@Param("ids") Collection<Long> ids,
+                       @Param("workerId") String workerId,
+                       @Param("leaseExpiresAt") Instant leaseExpiresAt,
+                       @Param("now") Instant now);
+
+    @Query(SCHEDULE_PROJECTION +
+            "WHERE js.id IN :ids AND js.claimedBy = :workerId AND js.leaseExpiresAt = :leaseExpiresAt " +
+            DUE_SCHEDULE_ORDER)
+    List<ScheduledJobResponse> findClaimedSchedules(@Param("ids") Collection<Long> ids,
+                                                    @Param("workerId") String workerId,
+                                                    @Param("leaseExpiresAt") Instant leaseExpiresAt);
+
+    @Modifying
+    @Query("DELETE FROM JobScheduleEntity js WHERE js.id IN :ids AND js.nextRunTime <= :now " +
+            "AND js.jobId IN (SELECT j.id FROM JobEntity j WHERE j.frequency = :frequency)")
+    int deleteDispatchedSchedules(@Param("ids") Collection<Long> ids,
+                                  @Param("frequency") JobFrequency frequency,
+                                  @Param("now") Instant now);
+
+    @Modifying
+    @Query("UPDATE JobScheduleEntity js SET js.lastRunTime = js.nextRunTime, " +
+            "js.nextRunTime = js.nextRunTime + (:days) day, js.claimedBy = NULL, js.leaseExpiresAt = NULL " +
+            "WHERE js.id IN :ids AND js.nextRunTime <= :now " +
+            "AND js.jobId IN (SELECT j.id FROM JobEntity j WHERE j.frequency = :frequency)")
+    int advanceDispatchedByDays(@Param("ids") Collection<Long> ids,
+                                @Param("frequency") JobFrequency frequency,
+                                @Param("days") int days,
+                                @Param("now") Instant now);
+
+    @Modifying
+    @Query("UPDATE JobScheduleEntity js SET js.lastRunTime = js.nextRunTime, " +
+            "js.nextRunTime = js.nextRunTime + (:months) month, js.claimedBy = NULL, js.leaseExpiresAt = NULL " +
+            "WHERE js.id IN :ids AND js.nextRunTime <= :now " +
+            "AND js.jobId IN (SELECT j.id FROM JobEntity j WHERE j.frequency = :frequency)")
+    int advanceDispatchedByMonths(@Param("ids") Collection<Long> ids,
+                                  @Param("frequency") JobFrequency frequency,
+                                  @Param("months") int months,
+                                  @Param("now") Instant now);
+
+    @Query("SELECT new com.distributed.jobscheduler.jobstore.dto.RecurringScheduleRow(" +
+            "js.id, js.nextRunTime, j.frequency) " +
+            "FROM JobScheduleEntity js JOIN JobEntity j ON j.id = js.jobId " +
+            "WHERE js.id IN :ids AND js.nextRunTime <= :now AND j.frequency IN :frequencies")
+    List<RecurringScheduleRow> findDispatchedRecurringSchedules(@Param("ids") Collection<Long> ids,
+                                                                @Param("frequencies") Collection<JobFrequency> frequencies,
+                                                                @Param("now") Instant now);
+
+    @Query("SELECT new com.distributed.jobscheduler.jobstore.dto.CronScheduleRow(" +
+            "js.id, js.nextRunTime, j.cronExpression, j.timeZone) " +
+            "FROM JobScheduleEntity js JOIN JobEntity j ON j.id = js.jobId " +
+            "WHERE js.id IN :ids AND js.nextRunTime <= :now " +
+            "AND j.frequency = com.distributed.jobscheduler.common.enums.JobFrequency.CRON")
+    List<CronScheduleRow> findDispatchedCronSchedules(@Param("ids") Collection<Long> ids,
+                                                      @Param("now") Instant now);
+
+    @Modifying
+    @Query("UPDATE JobScheduleEntity js SET js.lastRunTime = js.nextRunTime, js.nextRunTime = :nextRunTime, " +
+            "js.claimedBy = NULL, js.leaseExpiresAt = NULL " +
+            "WHERE js.id IN :ids AND js.nextRunTime <= :now")
+    int advanceDispatchedTo(@Param("ids") Collection<Long> ids,
+                            @Param("nextRunTime") Instant nextRunTime,
+                            @Param("now") Instant now);
+
+    @Modifying
+    @Query("DELETE FROM JobScheduleEntity js WHERE js.id IN :ids AND js.nextRunTime <= :now")
+    int deleteDueSchedules(@Param("ids") Collection<Long> ids, @Param("now") Instant now);
 
     Optional<JobScheduleEntity> findByJobId(Long jobId);
+
+    @Query("SELECT new com.distributed.jobscheduler.jobstore.dto.ScheduleOwnerRow(" +
+            "js.id, js.jobId, j.userId, js.segment, js.slot) " +
+            "FROM JobScheduleEntity js JOIN JobEntity j ON j.id = js.jobId " +
+            "WHERE js.id > :afterId ORDER BY js.id")
+    List<ScheduleOwnerRow> findScheduleOwnersAfter(@Param("afterId") Long afterId, Limit limit);
+
+    @Modifying
+    @Query("UPDATE JobScheduleEntity js SET js.segment = :segment WHERE js.id IN :ids")
+    int updateSegment(@Param("ids") Collection<Long> ids, @Param("segment") Integer segment);
+
+    @Modifying
+    @Query("UPDATE JobScheduleEntity js SET js.slot = :slot WHERE js.id IN :ids")
+    int updateSlot(@Param("ids") Collection<Long> ids, @Param("slot") Integer slot);
 }
@@ -0,0 +1,54 @@
+package com.distributed.jobscheduler.jobstore.service;
+
+import com.distributed.jobscheduler.common.partition.HourlyRollup;
+import com.distributed.jobscheduler.common.partition.RetentionPolicy;
+import com.distributed.jobscheduler.common.partition.TimePartitionedTable;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+
+@Service
+@RequiredArgsConstructor
+public class HistoryRetentionService {
+
+    private static final Logger log = LoggerFactory.getLogger(HistoryRetentionService.class);
+
+    private static final HourlyRollup EXECUTION_ROLLUP = new HourlyRollup("job_execution_rollups",
+            "runs, succeeded, failed, total_duration_millis", """
+            COUNT(*),
+            SUM(CASE WHEN status = 'COMPLETED' THEN 1 ELSE 0 END),
+            SUM(CASE WHEN status = 'FAILED' THEN 1 ELSE 0 END),
+            COALESCE(SUM(CAST((EXTRACT(EPOCH FROM end_time) - EXTRACT(EPOCH FROM start_time)) * 1000 AS BIGINT)), 0)
+            """);
+
+    private final RetentionPolicy executionRetentionPolicy;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private TimePartitionedTable jobExecutions;
+
+    @PostConstruct
+    public void init() {
+        jobExecutions = new TimePartitionedTable(jdbcTemplate, transactionTemplate, "job_executions", "created_at",
+                EXECUTION_ROLLUP, executionRetentionPolicy);
+        jobExecutions.start(Instant.now());
+    }
+
+    @Scheduled(fixedDelayString = "${jobstore.retention.maintenance-interval-millis:3600000}")
+    public void maintain() {
+        try {
+            int expired = jobExecutions.maintain(Instant.now());
+            if (expired > 0) {
+                log.info("Expired {} days of execution history", expired);
+            }
+        } catch (Exception e) {
+            log.error("Execution history maintenance failed", e);
+        }
+    }
+}
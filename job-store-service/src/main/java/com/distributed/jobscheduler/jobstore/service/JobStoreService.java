@@ -1,19 +1,34 @@
 package com.distributed.jobscheduler.jobstore.service;
 
+import com.distributed.jobscheduler.common.dto.ExecutionEvent;
+import com.distributed.jobscheduler.common.dto.JobStatusBatchResult;
+import com.distributed.jobscheduler.common.dto.JobStatusUpdate;
+import com.distributed.jobscheduler.common.dto.ScheduledJobPage;
 import com.distributed.jobscheduler.common.dto.ScheduledJobResponse;
+import com.distributed.jobscheduler.common.dto.SegmentRange;
+import com.distributed.jobscheduler.common.dto.SegmentSlotBacklog;
 import com.distributed.jobscheduler.common.enums.JobStatus;
+import com.distributed.jobscheduler.jobstore.dto.JobBatchItemResult;
 import com.distributed.jobscheduler.jobstore.dto.JobResponse;
 import com.distributed.jobscheduler.jobstore.dto.JobSubmissionRequest;
 import com.distributed.jobscheduler.jobstore.entity.JobEntity;
+import com.distributed.jobscheduler.jobstore.entity.JobExecutionEntity;
+import com.distributed.jobscheduler.jobstore.entity.JobExecutionRollupEntity;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface JobStoreService {
 
     JobResponse submitJob(JobSubmissionRequest request);
 
+    void submitJobs(Iterator<JobSubmissionRequest> requests, Consumer<JobBatchItemResult> results);
+
     Optional<JobResponse> getJobById(Long id);
 
     List<JobResponse> getJobsByStatus(JobStatus status);
@@ -22,7 +37,29 @@ public interface JobStoreService {
 
     void updateJobStatus(Long jobId, JobStatus status);
 
-    List<ScheduledJobResponse> getScheduledJobs(Instant currentTime, List<Integer> segments);
+    JobStatusBatchResult updateJobStatuses(List<JobStatusUpdate> updates);
+
+    int recordExecutionEvents(List<ExecutionEvent> events);
+
+    List<JobExecutionEntity> getExecutions(Long jobId, int limit);
+
+    List<JobExecutionRollupEntity> getExecutionRollups(Long jobId, int limit);
+
+    List<ScheduledJobResponse> getScheduledJobs(Instant currentTime, List<SegmentRange> ranges, int limit);
+
+    ScheduledJobPage getScheduledJobPage(Instant currentTime, List<SegmentRange> ranges, String cursor, int limit);
+
+    void streamScheduledJobs(Instant currentTime, List<SegmentRange> ranges, Consumer<ScheduledJobResponse> consumer);
+
+    List<ScheduledJobResponse> claimDueSchedules(String workerId, List<SegmentRange> ranges, Instant asOf, int limit,
+                                                 Duration leaseDuration);
+
+    /**
+     * Due schedule counts per segment slot, the load signal for splitting and merging segment ranges.
+     */
+    List<SegmentSlotBacklog> getDueBacklog(Instant asOf);
+
+    int acknowledgeDispatches(Collection<Long> scheduleIds);
 
     JobEntity getJobEntityById(Long jobId);
 }
@@ -0,0 +1,146 @@
+package com.distributed.jobscheduler.jobstore.service;
+
+import com.distributed.jobscheduler.common.dto.SegmentRange;
+import com.distributed.jobscheduler.jobstore.config.SegmentConfig;
+import com.distributed.jobscheduler.jobstore.dto.ScheduleOwnerRow;
+import com.distributed.jobscheduler.jobstore.dto.SegmentBackfillStatus;
+import com.distributed.jobscheduler.jobstore.repository.JobScheduleRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Re-derives the segment of existing schedules with {@link SegmentResolver}, and their slot from the job id, while
+ * the service keeps running. Rows are walked in id order one short transaction at a time and only rows whose segment
+ * or slot changes are written, so the backfill can be stopped by a restart and simply run again.
+ */
+@Service
+@RequiredArgsConstructor
+public class SegmentBackfillService {
+
+    private static final Logger log = LoggerFactory.getLogger(SegmentBackfillService.class);
+
+    private final JobScheduleRepository jobScheduleRepository;
+    private final SegmentResolver segmentResolver;
+    private final SegmentConfig segmentConfig;
+    private final TransactionTemplate transactionTemplate;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile long scannedSchedules;
+    private volatile long movedSchedules;
+    private volatile Long lastScheduleId;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile String error;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        if (segmentConfig.isBackfillOnStartup()) {
+            start();
+        }
+    }
+
+    /**
+     * Starts a backfill in the background. Returns {@code false} if one is already running.
+     */
+    public boolean start() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        scannedSchedules = 0;
+        movedSchedules = 0;
+        lastScheduleId = null;
+        startedAt = Instant.now();
+        finishedAt = null;
+        error = null;
+        Thread.ofVirtual().name("segment-backfill").start(this::run);
+        return true;
+    }
+
+    public SegmentBackfillStatus getStatus() {
+        return SegmentBackfillStatus.builder()
+                .running(running.get())
+                .scannedSchedules(scannedSchedules)
+                .movedSchedules(movedSchedules)
+                .lastScheduleId(lastScheduleId)
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .error(error)
+                .build();
+    }
+
+    private void run() {
+        log.info("Segment backfill started with strategy {} over {} segments", segmentConfig.getStrategy(),
+                segmentConfig.getTotalSegments());
+        try {
+            long afterId = 0;
+            while (true) {
+                List<ScheduleOwnerRow> batch = jobScheduleRepository.findScheduleOwnersAfter(afterId,
+                        Limit.of(segmentConfig.getBackfillBatchSize()));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                movedSchedules += transactionTemplate.execute(status -> backfill(batch));
+                scannedSchedules += batch.size();
+                afterId = batch.get(batch.size() - 1).getScheduleId();
+                lastScheduleId = afterId;
+                if (segmentConfig.getBackfillPauseMillis() > 0) {
+                    Thread.sleep(segmentConfig.getBackfillPauseMillis());
+                }
+            }
+            log.info("Segment backfill finished: moved {} of {} schedules", movedSchedules, scannedSchedules);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            error = "Interrupted";
+        } catch (RuntimeException e) {
+            log.error("Segment backfill failed after schedule {}", lastScheduleId, e);
+            error = e.getMessage();
+        } finally {
+            finishedAt = Instant.now();
+            running.set(false);
+        }
+    }
+
+    /**
+     * Moves the rows of {@code batch} whose derived segment or slot differs, with one update per target segment and
+     * one per target slot. Only those columns are written, so leases and run times claimed concurrently by scheduler
+     * workers are untouched. Rows written before slots existed sit in slot 0 until moved here.
+     */
+    private int backfill(List<ScheduleOwnerRow> batch) {
+        Map<Integer, List<Long>> idsBySegment = new HashMap<>();
+        Map<Integer, List<Long>> idsBySlot = new HashMap<>();
+        Set<Long> moved = new HashSet<>();
+        for (ScheduleOwnerRow row : batch) {
+            int segment = segmentResolver.segmentOf(row.getJobId(), row.getUserId(), row.getSegment());
+            if (row.getSegment() == null || row.getSegment() != segment) {
+                idsBySegment.computeIfAbsent(segment, key -> new ArrayList<>()).add(row.getScheduleId());
+                moved.add(row.getScheduleId());
+            }
+            int slot = SegmentRange.slotOf(row.getJobId());
+            if (row.getSlot() == null || row.getSlot() != slot) {
+                idsBySlot.computeIfAbsent(slot, key -> new ArrayList<>()).add(row.getScheduleId());
+                moved.add(row.getScheduleId());
+            }
+        }
+        for (Map.Entry<Integer, List<Long>> entry : idsBySegment.entrySet()) {
+            jobScheduleRepository.updateSegment(entry.getValue(), entry.getKey());
+        }
+        for (Map.Entry<Integer, List<Long>> entry : idsBySlot.entrySet()) {
+            jobScheduleRepository.updateSlot(entry.getValue(), entry.getKey());
+        }
+        return moved.size();
+    }
+}
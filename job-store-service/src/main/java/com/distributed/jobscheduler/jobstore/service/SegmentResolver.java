@@ -0,0 +1,40 @@
+package com.distributed.jobscheduler.jobstore.service;
+
+import com.distributed.jobscheduler.jobstore.config.SegmentConfig;
+import com.distributed.jobscheduler.jobstore.config.SegmentStrategy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Derives the segment of a schedule from its job or user id, so load spreads over the scheduler workers without the
+ * client choosing a segment. The hash is stable across restarts and nodes; changing the segment count or strategy
+ * only takes effect for existing schedules after a backfill.
+ */
+@Component
+@RequiredArgsConstructor
+public class SegmentResolver {
+
+    private final SegmentConfig segmentConfig;
+
+    /**
+     * @param requestedSegment segment from the request, used only by {@link SegmentStrategy#CLIENT}
+     */
+    public int segmentOf(Long jobId, Long userId, Integer requestedSegment) {
+        return switch (segmentConfig.getStrategy()) {
+            case CLIENT -> requestedSegment == null ? 0 : requestedSegment;
+            case USER_ID -> userId == null ? hash(jobId) : hash(userId);
+            case JOB_ID -> hash(jobId);
+        };
+    }
+
+    private int hash(long key) {
+        // Murmur3 finalizer; slots use a different mix of the job id, so segment and slot stay independent
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) Long.remainderUnsigned(h, segmentConfig.getTotalSegments());
+    }
+}
@@ -0,0 +1,43 @@
+package com.distributed.jobscheduler.jobstore.service.impl;
+
+import com.distributed.jobscheduler.common.enums.JobFrequency;
+import com.distributed.jobscheduler.common.enums.JobStatus;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Statuses a job may move to each status from. Clients coalesce transitions, so intermediate steps can be skipped
+ * (SCHEDULED straight to COMPLETED), and the agent's RUNNING may land before the scheduler's SCHEDULED.
+ * A finished run only leads to a new one for recurring jobs.
+ */
+final class JobStatusTransitions {
+
+    private static final Map<JobStatus, Set<JobStatus>> ALLOWED_FROM = new EnumMap<>(JobStatus.class);
+    private static final Map<JobStatus, Set<JobStatus>> ALLOWED_FROM_IF_RECURRING = new EnumMap<>(JobStatus.class);
+
+    static {
+        ALLOWED_FROM.put(JobStatus.PENDING, EnumSet.of(JobStatus.SCHEDULED, JobStatus.FAILED));
+        ALLOWED_FROM.put(JobStatus.SCHEDULED, EnumSet.of(JobStatus.PENDING, JobStatus.FAILED));
+        ALLOWED_FROM.put(JobStatus.RUNNING, EnumSet.of(JobStatus.PENDING, JobStatus.SCHEDULED, JobStatus.FAILED));
+        ALLOWED_FROM.put(JobStatus.COMPLETED, EnumSet.of(JobStatus.PENDING, JobStatus.SCHEDULED, JobStatus.RUNNING));
+        ALLOWED_FROM.put(JobStatus.FAILED, EnumSet.of(JobStatus.PENDING, JobStatus.SCHEDULED, JobStatus.RUNNING));
+        ALLOWED_FROM.put(JobStatus.CANCELLED, EnumSet.complementOf(EnumSet.of(JobStatus.CANCELLED)));
+
+        ALLOWED_FROM_IF_RECURRING.put(JobStatus.SCHEDULED, EnumSet.of(JobStatus.COMPLETED));
+        ALLOWED_FROM_IF_RECURRING.put(JobStatus.RUNNING, EnumSet.of(JobStatus.COMPLETED));
+    }
+
+    private JobStatusTransitions() {
+    }
+
+    static boolean isAllowed(JobStatus current, JobStatus target, JobFrequency frequency) {
+        if (ALLOWED_FROM.getOrDefault(target, Set.of()).contains(current)) {
+            return true;
+        }
+        return frequency != JobFrequency.ONE_TIME
+                && ALLOWED_FROM_IF_RECURRING.getOrDefault(target, Set.of()).contains(current);
+    }
+}
@@ -1,46 +1,139 @@
 package com.distributed.jobscheduler.jobstore.service.impl;
 
+import com.distributed.jobscheduler.common.cron.CronSchedule;
+import com.distributed.jobscheduler.common.dto.ExecutionEvent;
+import com.distributed.jobscheduler.common.dto.JobStatusBatchResult;
+import com.distributed.jobscheduler.common.dto.JobStatusUpdate;
+import com.distributed.jobscheduler.common.dto.ScheduleCursor;
+import com.distributed.jobscheduler.common.dto.ScheduledJobPage;
 import com.distributed.jobscheduler.common.dto.ScheduledJobResponse;
+import com.distributed.jobscheduler.common.dto.SegmentRange;
+import com.distributed.jobscheduler.common.dto.SegmentSlotBacklog;
+import com.distributed.jobscheduler.common.enums.JobFrequency;
 import com.distributed.jobscheduler.common.enums.JobStatus;
+import com.distributed.jobscheduler.common.metrics.SchedulerMetrics;
+import com.distributed.jobscheduler.jobstore.config.ScheduleClaimStrategy;
+import com.distributed.jobscheduler.jobstore.dto.CronScheduleRow;
+import com.distributed.jobscheduler.jobstore.dto.JobBatchItemResult;
 import com.distributed.jobscheduler.jobstore.dto.JobResponse;
+import com.distributed.jobscheduler.jobstore.dto.JobStatusRow;
 import com.distributed.jobscheduler.jobstore.dto.JobSubmissionRequest;
+import com.distributed.jobscheduler.jobstore.dto.RecurringScheduleRow;
 import com.distributed.jobscheduler.jobstore.entity.JobEntity;
+import com.distributed.jobscheduler.jobstore.entity.JobExecutionEntity;
+import com.distributed.jobscheduler.jobstore.entity.JobExecutionRollupEntity;
 import com.distributed.jobscheduler.jobstore.entity.JobScheduleEntity;
+import com.distributed.jobscheduler.jobstore.repository.JobExecutionRepository;
+import com.distributed.jobscheduler.jobstore.repository.JobExecutionRollupRepository;
 import com.distributed.jobscheduler.jobstore.repository.JobRepository;
 import com.distributed.jobscheduler.jobstore.repository.JobScheduleRepository;
 import com.distributed.jobscheduler.jobstore.service.JobStoreService;
+import com.distributed.jobscheduler.jobstore.service.SegmentResolver;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class JobStoreServiceImpl implements JobStoreService {
 
+    private static final Logger log = LoggerFactory.getLogger(JobStoreServiceImpl.class);
+
+    private static final Set<JobStatus> NON_DISPATCHABLE_STATUSES = EnumSet.of(JobStatus.CANCELLED);
+    private static final Set<JobStatus> CLAIM_EXCLUDED_STATUSES = EnumSet.of(
+            JobStatus.CANCELLED, JobStatus.SCHEDULED, JobStatus.RUNNING);
+    private static final Set<JobFrequency> CALENDAR_FREQUENCIES = EnumSet.of(
+            JobFrequency.DAILY, JobFrequency.WEEKLY, JobFrequency.MONTHLY);
+    private static final String UPDATE_CHECKPOINT_SQL = "UPDATE jobs SET checkpoint_data = ? WHERE id = ?";
+    private static final int CHECKPOINT_BATCH_SIZE = 500;
+    // Legacy rows may have no version yet; they are treated as version 0 and get one here
+    private static final String TRANSITION_STATUS_SQL = "UPDATE jobs SET status = ?, "
+            + "version = COALESCE(version, 0) + 1, updated_at = ? WHERE id = ? AND COALESCE(version, 0) = ?";
+
     private final JobRepository jobRepository;
     private final JobScheduleRepository jobScheduleRepository;
+    private final JobExecutionRepository jobExecutionRepository;
+    private final JobExecutionRollupRepository jobExecutionRollupRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final Validator validator;
+    private final SegmentResolver segmentResolver;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${jobstore.schedules.max-page-size:5000}")
+    private int maxPageSize;
+
+    @Value("${jobstore.batch.chunk-size:500}")
+    private int batchChunkSize;
+
+    @Value("${jobstore.claim.strategy:COMPARE_AND_SET}")
+    private ScheduleClaimStrategy claimStrategy;
+
+    private Timer listDueTimer;
+    private Timer pageDueTimer;
+    private Timer streamDueTimer;
+    private Timer claimDueTimer;
+
+    @PostConstruct
+    public void init() {
+        String description = "Time to read due schedules for a scheduler worker";
+        listDueTimer = SchedulerMetrics.timer(meterRegistry, SchedulerMetrics.DUE_JOBS_FETCH, description,
+                "mode", "list");
+        pageDueTimer = SchedulerMetrics.timer(meterRegistry, SchedulerMetrics.DUE_JOBS_FETCH, description,
+                "mode", "page");
+        streamDueTimer = SchedulerMetrics.timer(meterRegistry, SchedulerMetrics.DUE_JOBS_FETCH, description,
+                "mode", "stream");
+        claimDueTimer = SchedulerMetrics.timer(meterRegistry, SchedulerMetrics.DUE_JOBS_FETCH, description,
+                "mode", "claim");
+    }
 
     @Override
     @Transactional
     public JobResponse submitJob(JobSubmissionRequest request) {
-        JobEntity jobEntity = new JobEntity();
-        jobEntity.setJobName(request.getJobName());
-        jobEntity.setUserId(request.getUserId());
-        jobEntity.setFrequency(request.getFrequency());
-        jobEntity.setExecutionTime(request.getExecutionTime());
-        jobEntity.setPayload(request.getPayload());
-        jobEntity.setMaxRetries(request.getMaxRetries());
-        jobEntity.setStatus(JobStatus.PENDING);
-        jobEntity = jobRepository.save(jobEntity);
+        Instant firstRunTime = resolveFirstRunTime(request);
+        JobEntity jobEntity = jobRepository.save(newJobEntity(request));
 
         JobScheduleEntity schedule = new JobScheduleEntity();
         schedule.setJobId(jobEntity.getId());
-        schedule.setSegment(request.getSegment());
-        schedule.setNextRunTime(request.getExecutionTime());
+        schedule.setSegment(segmentResolver.segmentOf(jobEntity.getId(), jobEntity.getUserId(),
+                request.getSegment()));
+        schedule.setSlot(SegmentRange.slotOf(jobEntity.getId()));
+        schedule.setNextRunTime(firstRunTime);
         jobScheduleRepository.save(schedule);
 
         JobResponse response = new JobResponse();
@@ -48,16 +141,159 @@ public class JobStoreServiceImpl implements JobStoreService {
         response.setJobName(jobEntity.getJobName());
         response.setUserId(jobEntity.getUserId());
         response.setFrequency(jobEntity.getFrequency());
+        response.setCronExpression(jobEntity.getCronExpression());
+        response.setTimeZone(jobEntity.getTimeZone());
         response.setExecutionTime(jobEntity.getExecutionTime());
         response.setPayload(jobEntity.getPayload());
         response.setRetryCount(jobEntity.getRetryCount());
         response.setMaxRetries(jobEntity.getMaxRetries());
+        response.setWorkloadType(jobEntity.getWorkloadType());
         response.setStatus(jobEntity.getStatus());
         response.setCreatedAt(jobEntity.getCreatedAt());
         response.setUpdatedAt(jobEntity.getUpdatedAt());
         return response;
     }
 
+    @Override
+    public void submitJobs(Iterator<JobSubmissionRequest> requests, Consumer<JobBatchItemResult> results) {
+        List<PendingJob> chunk = new ArrayList<>(batchChunkSize);
+        int index = 0;
+        while (requests.hasNext()) {
+            int itemIndex = index++;
+            try {
+                JobSubmissionRequest request = requests.next();
+                validate(request);
+                chunk.add(new PendingJob(itemIndex, newJobEntity(request), resolveFirstRunTime(request),
+                        request.getSegment()));
+            } catch (RuntimeException e) {
+                results.accept(JobBatchItemResult.failure(itemIndex, e.getMessage()));
+                continue;
+            }
+            if (chunk.size() >= batchChunkSize) {
+                insertChunk(chunk, results);
+                chunk = new ArrayList<>(batchChunkSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            insertChunk(chunk, results);
+        }
+    }
+
+    /**
+     * Inserts one chunk in its own transaction so Hibernate sends the jobs and then the schedules as JDBC batches.
+     * A failing chunk is rolled back and reported item by item without affecting the chunks around it.
+     */
+    private void insertChunk(List<PendingJob> chunk, Consumer<JobBatchItemResult> results) {
+        List<Long> jobIds = new ArrayList<>(chunk.size());
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<JobScheduleEntity> schedules = new ArrayList<>(chunk.size());
+                for (PendingJob pending : chunk) {
+                    JobEntity job = jobRepository.save(pending.job());
+                    JobScheduleEntity schedule = new JobScheduleEntity();
+                    schedule.setJobId(job.getId());
+                    // Derived after save, since the job id is only known once the sequence has assigned it
+                    schedule.setSegment(segmentResolver.segmentOf(job.getId(), job.getUserId(), pending.segment()));
+                    schedule.setSlot(SegmentRange.slotOf(job.getId()));
+                    schedule.setNextRunTime(pending.firstRunTime());
+                    schedules.add(schedule);
+                    jobIds.add(job.getId());
+                }
+                jobScheduleRepository.saveAll(schedules);
+            });
+        } catch (RuntimeException e) {
+            log.warn("Failed to insert a chunk of {} jobs", chunk.size(), e);
+            for (PendingJob pending : chunk) {
+                results.accept(JobBatchItemResult.failure(pending.index(), "Insert failed: " + e.getMessage()));
+            }
+            return;
+        }
+        for (int i = 0; i < chunk.size(); i++) {
+            results.accept(JobBatchItemResult.success(chunk.get(i).index(), jobIds.get(i)));
+        }
+    }
+
+    private void validate(JobSubmissionRequest request) {
+        Set<ConstraintViolation<JobSubmissionRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+    }
+
+    private Instant resolveFirstRunTime(JobSubmissionRequest request) {
+        if (request.getFrequency() != JobFrequency.CRON) {
+            return request.getExecutionTime();
+        }
+        CronSchedule cron = CronSchedule.of(request.getCronExpression(), request.getTimeZone());
+        Instant firstRunTime = cron.firstAtOrAfter(request.getExecutionTime());
+        if (firstRunTime == null) {
+            throw new IllegalArgumentException("Cron expression never fires: " + request.getCronExpression());
+        }
+        return firstRunTime;
+    }
+
+    private JobEntity newJobEntity(JobSubmissionRequest request) {
+        JobEntity jobEntity = new JobEntity();
+        jobEntity.setJobName(request.getJobName());
+        jobEntity.setUserId(request.getUserId());
+        jobEntity.setFrequency(request.getFrequency());
+        if (request.getFrequency() == JobFrequency.CRON) {
+            jobEntity.setCronExpression(request.getCronExpression());
+            jobEntity.setTimeZone(request.getTimeZone());
+        }
+        jobEntity.setExecutionTime(request.getExecutionTime());
+        jobEntity.setPayload(request.getPayload());
+        jobEntity.setMaxRetries(request.getMaxRetries());
+        jobEntity.setWorkloadType(request.getWorkloadType());
+        jobEntity.setStatus(JobStatus.PENDING);
+        return jobEntity;
+    }
+
+    private record PendingJob(int index, JobEntity job, Instant firstRunTime, Integer segment) {
+    }
+
+    /**
+     * Segments scanned with one query. Whole segments share a group; each split range gets its own.
+     */
+    private record SlotGroup(List<Integer> segments, int fromSlot, int toSlot) {
+
+        static List<SlotGroup> of(List<SegmentRange> ranges) {
+            List<SlotGroup> groups = new ArrayList<>();
+            List<Integer> wholeSegments = new ArrayList<>();
+            for (SegmentRange range : ranges) {
+                if (range.isWhole()) {
+                    wholeSegments.add(range.segment());
+                } else {
+                    groups.add(new SlotGroup(List.of(range.segment()), range.fromSlot(), range.toSlot()));
+                }
+            }
+            if (!wholeSegments.isEmpty()) {
+                groups.add(0, new SlotGroup(wholeSegments, 0, SegmentRange.SLOTS));
+            }
+            return groups;
+        }
+    }
+
+    /**
+     * Merges per-group results, each already in {@code (nextRunTime, scheduleId)} order, keeping the first
+     * {@code limit} rows.
+     */
+    private static List<ScheduledJobResponse> mergeInScanOrder(List<List<ScheduledJobResponse>> results, int limit) {
+        if (results.size() == 1) {
+            List<ScheduledJobResponse> rows = results.get(0);
+            return rows.size() > limit ? rows.subList(0, limit) : rows;
+        }
+        return results.stream()
+                .flatMap(List::stream)
+                .sorted(Comparator.comparing(ScheduledJobResponse::getNextRunTime)
+                        .thenComparing(ScheduledJobResponse::getScheduleId))
+                .limit(limit)
+                .toList();
+    }
+
     @Override
     public Optional<JobResponse> getJobById(Long id) {
         return jobRepository.findById(id).map(jobEntity -> {
@@ -66,10 +302,13 @@ public class JobStoreServiceImpl implements JobStoreService {
             response.setJobName(jobEntity.getJobName());
             response.setUserId(jobEntity.getUserId());
             response.setFrequency(jobEntity.getFrequency());
+            response.setCronExpression(jobEntity.getCronExpression());
+            response.setTimeZone(jobEntity.getTimeZone());
             response.setExecutionTime(jobEntity.getExecutionTime());
             response.setPayload(jobEntity.getPayload());
             response.setRetryCount(jobEntity.getRetryCount());
             response.setMaxRetries(jobEntity.getMaxRetries());
+            response.setWorkloadType(jobEntity.getWorkloadType());
             response.setStatus(jobEntity.getStatus());
             response.setCreatedAt(jobEntity.getCreatedAt());
             response.setUpdatedAt(jobEntity.getUpdatedAt());
@@ -85,10 +324,13 @@ public class JobStoreServiceImpl implements JobStoreService {
             response.setJobName(jobEntity.getJobName());
             response.setUserId(jobEntity.getUserId());
             response.setFrequency(jobEntity.getFrequency());
+            response.setCronExpression(jobEntity.getCronExpression());
+            response.setTimeZone(jobEntity.getTimeZone());
             response.setExecutionTime(jobEntity.getExecutionTime());
             response.setPayload(jobEntity.getPayload());
             response.setRetryCount(jobEntity.getRetryCount());
             response.setMaxRetries(jobEntity.getMaxRetries());
+            response.setWorkloadType(jobEntity.getWorkloadType());
             response.setStatus(jobEntity.getStatus());
             response.setCreatedAt(jobEntity.getCreatedAt());
             response.setUpdatedAt(jobEntity.getUpdatedAt());
@@ -114,25 +356,249 @@ public class JobStoreServiceImpl implements JobStoreService {
         });
     }
 
+    /**
+     * Applies the updates as one JDBC batch. Each update is checked against the job's current status and only
+     * applied if the job still has the version it was checked at, so a concurrent writer that moved the job in the
+     * meantime makes it a no-op instead of both winning. Updates that are not a legal transition are skipped.
+     */
     @Override
-    public List<ScheduledJobResponse> getScheduledJobs(Instant currentTime, List<Integer> segments) {
-        return jobScheduleRepository.findScheduledJobs(currentTime, segments)
-                .stream()
-                .map(schedule -> {
-                    JobEntity job = jobRepository.findById(schedule.getJobId())
-                            .orElseThrow(() -> new IllegalArgumentException("Job not found"));
-                    return ScheduledJobResponse.builder()
-                            .jobId(job.getId())
-                            .scheduleId(schedule.getId())
-                            .jobName(job.getJobName())
-                            .frequency(job.getFrequency())
-                            .status(job.getStatus())
-                            .nextRunTime(schedule.getNextRunTime())
-                            .segment(schedule.getSegment())
-                            .payload(job.getPayload())
-                            .build();
-                })
-                .toList();
+    @Transactional
+    public JobStatusBatchResult updateJobStatuses(List<JobStatusUpdate> updates) {
+        // The last update for a job wins
+        Map<Long, JobStatus> latest = new LinkedHashMap<>();
+        updates.forEach(update -> latest.put(update.getJobId(), update.getStatus()));
+
+        List<Object[]> transitions = new ArrayList<>(latest.size());
+        Timestamp now = Timestamp.from(Instant.now());
+        for (JobStatusRow row : jobRepository.findStatusRows(latest.keySet())) {
+            JobStatus status = latest.get(row.getJobId());
+            if (status != null && JobStatusTransitions.isAllowed(row.getStatus(), status, row.getFrequency())) {
+                long version = row.getVersion() != null ? row.getVersion() : 0L;
+                transitions.add(new Object[]{status.name(), now, row.getJobId(), version});
+            }
+        }
+        int applied = 0;
+        if (!transitions.isEmpty()) {
+            for (int count : jdbcTemplate.batchUpdate(TRANSITION_STATUS_SQL, transitions)) {
+                if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+                    applied++;
+                }
+            }
+        }
+        if (applied < latest.size()) {
+            log.debug("Skipped {} of {} status updates that were not legal transitions or lost a race",
+                    latest.size() - applied, latest.size());
+        }
+        return new JobStatusBatchResult(latest.size(), applied);
+    }
+
+    /**
+     * Upserts one execution row per run from its events. The newest checkpoint of each job is also kept on the job
+     * so the next dispatch can resume from it; a completed run clears it.
+     */
+    @Override
+    @Transactional
+    public int recordExecutionEvents(List<ExecutionEvent> events) {
+        Set<String> keys = events.stream().map(ExecutionEvent::getExecutionKey).collect(Collectors.toSet());
+        Map<String, JobExecutionEntity> executions = new HashMap<>();
+        jobExecutionRepository.findByExecutionKeyIn(keys)
+                .forEach(execution -> executions.put(execution.getExecutionKey(), execution));
+
+        Map<Long, String> checkpoints = new HashMap<>();
+        Set<Long> completedJobs = new HashSet<>();
+        for (ExecutionEvent event : events) {
+            JobExecutionEntity execution = executions.computeIfAbsent(event.getExecutionKey(), key -> {
+                JobExecutionEntity entity = new JobExecutionEntity();
+                entity.setExecutionKey(key);
+                entity.setJobId(event.getJobId());
+                entity.setWorkerId(event.getWorkerId());
+                return entity;
+            });
+            switch (event.getType()) {
+                case STARTED -> {
+                    execution.setStartTime(event.getTimestamp());
+                    execution.setScheduledTime(event.getScheduledTime());
+                    execution.setStatus(JobStatus.RUNNING);
+                }
+                case CHECKPOINT -> {
+                    execution.setCheckpointData(event.getCheckpointData());
+                    checkpoints.put(event.getJobId(), event.getCheckpointData());
+                    completedJobs.remove(event.getJobId());
+                }
+                case FINISHED -> {
+                    execution.setEndTime(event.getTimestamp());
+                    execution.setStatus(event.getStatus());
+                    execution.setErrorMessage(event.getErrorMessage());
+                    if (event.getStatus() == JobStatus.COMPLETED) {
+                        checkpoints.remove(event.getJobId());
+                        completedJobs.add(event.getJobId());
+                    }
+                }
+            }
+        }
+
+        jobExecutionRepository.saveAll(executions.values());
+        if (!checkpoints.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_CHECKPOINT_SQL, new ArrayList<>(checkpoints.entrySet()),
+                    CHECKPOINT_BATCH_SIZE, (ps, checkpoint) -> {
+                        ps.setString(1, checkpoint.getValue());
+                        ps.setLong(2, checkpoint.getKey());
+                    });
+        }
+        if (!completedJobs.isEmpty()) {
+            jobRepository.clearCheckpoints(completedJobs);
+        }
+        return executions.size();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<JobExecutionEntity> getExecutions(Long jobId, int limit) {
+        return jobExecutionRepository.findByJobIdOrderByStartTimeDesc(jobId, Limit.of(Math.max(1, limit)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<JobExecutionRollupEntity> getExecutionRollups(Long jobId, int limit) {
+        return jobExecutionRollupRepository.findByJobIdOrderByHourStartDesc(jobId, Limit.of(Math.max(1, limit)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ScheduledJobResponse> getScheduledJobs(Instant currentTime, List<SegmentRange> ranges, int limit) {
+        List<SlotGroup> groups = SlotGroup.of(ranges);
+        if (groups.isEmpty()) {
+            return List.of();
+        }
+        long started = System.nanoTime();
+        try {
+            Limit rowLimit = limit > 0 ? Limit.of(limit) : Limit.unlimited();
+            List<List<ScheduledJobResponse>> results = new ArrayList<>(groups.size());
+            for (SlotGroup group : groups) {
+                results.add(jobScheduleRepository.findDueScheduledJobs(currentTime, group.segments(),
+                        group.fromSlot(), group.toSlot(), NON_DISPATCHABLE_STATUSES, rowLimit));
+            }
+            return mergeInScanOrder(results, limit > 0 ? limit : Integer.MAX_VALUE);
+        } finally {
+            SchedulerMetrics.recordSince(listDueTimer, started);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ScheduledJobPage getScheduledJobPage(Instant currentTime, List<SegmentRange> ranges, String cursor,
+                                                int limit) {
+        int pageSize = Math.max(1, Math.min(limit, maxPageSize));
+        List<SlotGroup> groups = SlotGroup.of(ranges);
+        if (groups.isEmpty()) {
+            return ScheduledJobPage.builder().items(List.of()).build();
+        }
+
+        // Fetch one extra row to learn whether another page follows
+        Limit fetchLimit = Limit.of(pageSize + 1);
+        ScheduleCursor after = cursor == null || cursor.isBlank() ? null : ScheduleCursor.decode(cursor);
+        List<List<ScheduledJobResponse>> results = new ArrayList<>(groups.size());
+        long started = System.nanoTime();
+        for (SlotGroup group : groups) {
+            if (after == null) {
+                results.add(jobScheduleRepository.findDueScheduledJobs(currentTime, group.segments(),
+                        group.fromSlot(), group.toSlot(), NON_DISPATCHABLE_STATUSES, fetchLimit));
+            } else {
+                results.add(jobScheduleRepository.findDueScheduledJobsAfter(currentTime, group.segments(),
+                        group.fromSlot(), group.toSlot(), NON_DISPATCHABLE_STATUSES, after.nextRunTime(),
+                        after.scheduleId(), fetchLimit));
+            }
+        }
+        List<ScheduledJobResponse> rows = mergeInScanOrder(results, pageSize + 1);
+        SchedulerMetrics.recordSince(pageDueTimer, started);
+
+        boolean hasMore = rows.size() > pageSize;
+        List<ScheduledJobResponse> items = hasMore ? rows.subList(0, pageSize) : rows;
+        return ScheduledJobPage.builder()
+                .items(items)
+                .hasMore(hasMore)
+                .nextCursor(items.isEmpty() ? cursor : ScheduleCursor.after(items.get(items.size() - 1)).encode())
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamScheduledJobs(Instant currentTime, List<SegmentRange> ranges,
+                                    Consumer<ScheduledJobResponse> consumer) {
+        long started = System.nanoTime();
+        try {
+            for (SlotGroup group : SlotGroup.of(ranges)) {
+                try (Stream<ScheduledJobResponse> rows = jobScheduleRepository.streamDueScheduledJobs(
+                        currentTime, group.segments(), group.fromSlot(), group.toSlot(), NON_DISPATCHABLE_STATUSES)) {
+                    rows.forEach(consumer);
+                }
+            }
+        } finally {
+            SchedulerMetrics.recordSince(streamDueTimer, started);
+        }
+    }
+
+    @Override
+    @Transactional
+    public List<ScheduledJobResponse> claimDueSchedules(String workerId, List<SegmentRange> ranges, Instant asOf,
+                                                        int limit, Duration leaseDuration) {
+        List<SlotGroup> groups = SlotGroup.of(ranges);
+        if (groups.isEmpty()) {
+            return List.of();
+        }
+        int claimSize = Math.max(1, Math.min(limit, maxPageSize));
+        long started = System.nanoTime();
+        // Truncate so the lease read back from the database compares equal to the one written
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        Instant leaseExpiresAt = now.plus(leaseDuration);
+
+        List<Long> candidateIds = new ArrayList<>();
+        for (SlotGroup group : groups) {
+            int remaining = claimSize - candidateIds.size();
+            if (remaining <= 0) {
+                break;
+            }
+            if (claimStrategy == ScheduleClaimStrategy.SKIP_LOCKED) {
+                candidateIds.addAll(jobScheduleRepository.lockClaimableScheduleIds(asOf, now, group.segments(),
+                        group.fromSlot(), group.toSlot(),
+                        CLAIM_EXCLUDED_STATUSES.stream().map(JobStatus::name).toList(), remaining));
+            } else {
+                candidateIds.addAll(jobScheduleRepository.findClaimableScheduleIds(asOf, now, group.segments(),
+                        group.fromSlot(), group.toSlot(), CLAIM_EXCLUDED_STATUSES, Limit.of(remaining)));
+            }
+        }
+        if (candidateIds.isEmpty()) {
+            SchedulerMetrics.recordSince(claimDueTimer, started);
+            return List.of();
+        }
+
+        // Under COMPARE_AND_SET a concurrent claimer may win some rows; only those we updated are returned
+        jobScheduleRepository.claimSchedules(candidateIds, workerId, leaseExpiresAt, now);
+        List<ScheduledJobResponse> claimed = jobScheduleRepository.findClaimedSchedules(candidateIds, workerId,
+                leaseExpiresAt);
+        SchedulerMetrics.recordSince(claimDueTimer, started);
+        return claimed;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SegmentSlotBacklog> getDueBacklog(Instant asOf) {
+        return jobScheduleRepository.countDueBySegmentSlot(asOf, NON_DISPATCHABLE_STATUSES);
+    }
+
+    @Override
+    @Transactional
+    public int acknowledgeDispatches(Collection<Long> scheduleIds) {
+        if (scheduleIds.isEmpty()) {
+            return 0;
+        }
+        Instant now = Instant.now();
+
+        // One set-based statement per frequency class; the nextRunTime <= now guard makes repeated acks no-ops
+        int updated = jobScheduleRepository.deleteDispatchedSchedules(scheduleIds, JobFrequency.ONE_TIME, now);
+        updated += rescheduleCalendarDispatches(scheduleIds, now);
+        updated += rescheduleCronDispatches(scheduleIds, now);
+        return updated;
     }
 
     @Override
@@ -140,4 +606,85 @@ public class JobStoreServiceImpl implements JobStoreService {
         return jobRepository.findById(jobId)
                 .orElseThrow(() -> new IllegalArgumentException("Job not found"));
     }
+
+    private int rescheduleCalendarDispatches(Collection<Long> scheduleIds, Instant now) {
+        List<RecurringScheduleRow> rows = jobScheduleRepository.findDispatchedRecurringSchedules(scheduleIds,
+                CALENDAR_FREQUENCIES, now);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        // Occurrences missed during an outage are skipped rather than fired back to back: each row moves by the
+        // smallest number of periods that puts it after now. Almost every row moves by exactly one, so grouping by
+        // frequency and period count keeps this at about one UPDATE per frequency
+        Map<JobFrequency, Map<Integer, List<Long>>> idsByPeriods = new EnumMap<>(JobFrequency.class);
+        for (RecurringScheduleRow row : rows) {
+            idsByPeriods.computeIfAbsent(row.getFrequency(), key -> new HashMap<>())
+                    .computeIfAbsent(periodsToAdvance(row, now), key -> new ArrayList<>())
+                    .add(row.getScheduleId());
+        }
+
+        int updated = 0;
+        for (Map.Entry<JobFrequency, Map<Integer, List<Long>>> byFrequency : idsByPeriods.entrySet()) {
+            JobFrequency frequency = byFrequency.getKey();
+            for (Map.Entry<Integer, List<Long>> group : byFrequency.getValue().entrySet()) {
+                int periods = group.getKey();
+                updated += switch (frequency) {
+                    case DAILY -> jobScheduleRepository.advanceDispatchedByDays(group.getValue(), frequency,
+                            periods, now);
+                    case WEEKLY -> jobScheduleRepository.advanceDispatchedByDays(group.getValue(), frequency,
+                            periods * 7, now);
+                    case MONTHLY -> jobScheduleRepository.advanceDispatchedByMonths(group.getValue(), frequency,
+                            periods, now);
+                    default -> throw new IllegalStateException("Not a calendar frequency: " + frequency);
+                };
+            }
+        }
+        return updated;
+    }
+
+    private static int periodsToAdvance(RecurringScheduleRow row, Instant now) {
+        Instant nextRunTime = row.getNextRunTime();
+        if (row.getFrequency() == JobFrequency.MONTHLY) {
+            ZonedDateTime next = nextRunTime.atZone(ZoneOffset.UTC);
+            int months = (int) Math.max(1, ChronoUnit.MONTHS.between(next, now.atZone(ZoneOffset.UTC)));
+            while (!next.plusMonths(months).toInstant().isAfter(now)) {
+                months++;
+            }
+            return months;
+        }
+        long periodMillis = Duration.ofDays(row.getFrequency() == JobFrequency.WEEKLY ? 7 : 1).toMillis();
+        return (int) (Duration.between(nextRunTime, now).toMillis() / periodMillis + 1);
+    }
+
+    private int rescheduleCronDispatches(Collection<Long> scheduleIds, Instant now) {
+        List<CronScheduleRow> rows = jobScheduleRepository.findDispatchedCronSchedules(scheduleIds, now);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        // Jobs sharing an expression and zone land on the same next occurrence, so each group is one UPDATE
+        long nowMillis = now.toEpochMilli();
+        Map<Instant, List<Long>> idsByNextRunTime = new HashMap<>();
+        List<Long> exhausted = new ArrayList<>();
+        for (CronScheduleRow row : rows) {
+            CronSchedule cron = CronSchedule.of(row.getCronExpression(), row.getTimeZone());
+            long next = cron.nextFireTime(Math.max(nowMillis, row.getNextRunTime().toEpochMilli()));
+            if (next == CronSchedule.NO_FIRE_TIME) {
+                exhausted.add(row.getScheduleId());
+            } else {
+                idsByNextRunTime.computeIfAbsent(Instant.ofEpochMilli(next), key -> new ArrayList<>())
+                        .add(row.getScheduleId());
+            }
+        }
+
+        int updated = 0;
+        for (Map.Entry<Instant, List<Long>> group : idsByNextRunTime.entrySet()) {
+            updated += jobScheduleRepository.advanceDispatchedTo(group.getValue(), group.getKey(), now);
+        }
+        if (!exhausted.isEmpty()) {
+            updated += jobScheduleRepository.deleteDueSchedules(exhausted, now);
+        }
+        return updated;
+    }
 }
@@ -0,0 +1,42 @@
+-- Runs before Hibernate when spring.sql.init.platform=postgresql and spring.sql.init.mode=always, so that
+-- job_executions is created as a partitioned table; jobstore.retention.mode=NATIVE then manages its daily partitions.
+-- The partition key has to be part of the primary key.
+CREATE TABLE IF NOT EXISTS job_executions (
+    id BIGINT NOT NULL,
+    execution_key VARCHAR(36) NOT NULL,
+    job_id BIGINT NOT NULL,
+    worker_id VARCHAR(255),
+    scheduled_time TIMESTAMP(6) WITH TIME ZONE,
+    start_time TIMESTAMP(6) WITH TIME ZONE,
+    end_time TIMESTAMP(6) WITH TIME ZONE,
+    status VARCHAR(255) NOT NULL,
+    error_message TEXT,
+    checkpoint_data TEXT,
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+-- Ids come from sequences handed out 500 at a time (allocationSize); the increment has to match it. Databases
+-- created while ids were IDENTITY columns already hold rows, so each sequence is moved past the largest id in its
+-- table. Hibernate's pooled optimizer uses the ids up to the value nextval returns, so setting the sequence to the
+-- largest id makes the next block start right above it. Sequences already past it are left alone. The body is a
+-- quoted string rather than dollar-quoted so the script splitter does not break it at its semicolons.
+CREATE SEQUENCE IF NOT EXISTS jobs_seq START WITH 1 INCREMENT BY 500;
+CREATE SEQUENCE IF NOT EXISTS job_schedules_seq START WITH 1 INCREMENT BY 500;
+CREATE SEQUENCE IF NOT EXISTS job_executions_seq START WITH 1 INCREMENT BY 500;
+
+DO '
+DECLARE
+    pair TEXT[];
+    max_id BIGINT;
+BEGIN
+    FOREACH pair SLICE 1 IN ARRAY ARRAY[[''jobs'', ''jobs_seq''], [''job_schedules'', ''job_schedules_seq''],
+                                        [''job_executions'', ''job_executions_seq'']] LOOP
+        IF to_regclass(pair[1]) IS NOT NULL THEN
+            EXECUTE format(''SELECT COALESCE(MAX(id), 0) FROM %I'', pair[1]) INTO max_id;
+            IF max_id > COALESCE(pg_sequence_last_value(pair[2]::regclass), 0) THEN
+                PERFORM setval(pair[2]::regclass, max_id, true);
+            END IF;
+        END IF;
+    END LOOP;
+END';
@@ -0,0 +1,87 @@
+package com.distributed.jobscheduler.loadtest;
+
+import com.distributed.jobscheduler.common.enums.JobFrequency;
+import lombok.Data;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Settings for one load test run, read from {@code --kebab-case=value} arguments.
+ */
+@Data
+public class LoadTestConfig {
+    /** Jobs submitted per second. */
+    private int rate = 500;
+    private int durationSeconds = 60;
+    /** Time allowed after the last submission for due jobs to run and their history to be written. */
+    private int drainSeconds = 30;
+    /**
+     * Runs due less than this long before the report are not judged; older ones that never started count as missed.
+     */
+    private long missedGraceMillis = 5000;
+    /** How far ahead of submission each job's first run is scheduled. */
+    private long leadMillis = 5000;
+    /** Relative weights of the submitted frequencies, e.g. {@code ONE_TIME=70,CRON=20,DAILY=10}. */
+    private Map<JobFrequency, Integer> mix = new EnumMap<>(Map.of(
+            JobFrequency.ONE_TIME, 70, JobFrequency.CRON, 20, JobFrequency.DAILY, 10));
+    private String cronExpression = "*/10 * * * * *";
+    private long jobMillis = 200;
+    private int submitBatchSize = 500;
+    private int segments = 100;
+    private int agents = 2;
+    private int agentConcurrency = 256;
+    private int agentQueueCapacity = 1000;
+    private String dispatchMode = "TIMING_WHEEL";
+    private long refillIntervalMillis = 1000;
+    private String reportFile = "target/lateness.hgrm";
+
+    public static LoadTestConfig fromArgs(String[] args) {
+        LoadTestConfig config = new LoadTestConfig();
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            if (!arg.startsWith("--") || equals < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            String value = arg.substring(equals + 1);
+            switch (arg.substring(2, equals)) {
+                case "rate" -> config.rate = Integer.parseInt(value);
+                case "duration-seconds" -> config.durationSeconds = Integer.parseInt(value);
+                case "drain-seconds" -> config.drainSeconds = Integer.parseInt(value);
+                case "missed-grace-millis" -> config.missedGraceMillis = Long.parseLong(value);
+                case "lead-millis" -> config.leadMillis = Long.parseLong(value);
+                case "mix" -> config.mix = parseMix(value);
+                case "cron-expression" -> config.cronExpression = value;
+                case "job-millis" -> config.jobMillis = Long.parseLong(value);
+                case "submit-batch-size" -> config.submitBatchSize = Integer.parseInt(value);
+                case "segments" -> config.segments = Integer.parseInt(value);
+                case "agents" -> config.agents = Integer.parseInt(value);
+                case "agent-concurrency" -> config.agentConcurrency = Integer.parseInt(value);
+                case "agent-queue-capacity" -> config.agentQueueCapacity = Integer.parseInt(value);
+                case "dispatch-mode" -> config.dispatchMode = value;
+                case "refill-interval-millis" -> config.refillIntervalMillis = Long.parseLong(value);
+                case "report-file" -> config.reportFile = value;
+                default -> throw new IllegalArgumentException("Unknown option " + arg);
+            }
+        }
+        if (config.rate <= 0 || config.durationSeconds <= 0 || config.agents <= 0 || config.segments <= 0) {
+            throw new IllegalArgumentException("Rate, duration, agents and segments must be positive");
+        }
+        return config;
+    }
+
+    private static Map<JobFrequency, Integer> parseMix(String value) {
+        Map<JobFrequency, Integer> mix = new EnumMap<>(JobFrequency.class);
+        for (String entry : value.split(",")) {
+            String[] parts = entry.split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry " + entry);
+            }
+            mix.put(JobFrequency.valueOf(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("Mix weights must add up to more than zero");
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,310 @@
+package com.distributed.jobscheduler.loadtest;
+
+import com.distributed.jobscheduler.common.cron.CronSchedule;
+import com.distributed.jobscheduler.common.enums.JobFrequency;
+import com.distributed.jobscheduler.common.response.ResponseData;
+import com.distributed.jobscheduler.jobstore.dto.JobBatchItemResult;
+import com.distributed.jobscheduler.jobstore.dto.JobSubmissionRequest;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Boots the cluster, submits jobs through the job store's REST API at a fixed rate for the configured duration and
+ * then reports trigger lateness, the delay between a run's scheduled time and its start, from the execution history
+ * the agents wrote back. Every run the submitted jobs should have had by the report is checked against that
+ * history; one that never started counts as missed and enters the lateness distribution with the time it has been
+ * overdue, so dropped or stuck runs cannot make the percentiles look better.
+ */
+public class LoadTestHarness {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTestHarness.class);
+    private static final long TICK_MILLIS = 100;
+    private static final double GOLDEN_RATIO_FRACTION = 0.6180339887498949;
+    private static final long MAX_LATENESS_MICROS = TimeUnit.HOURS.toMicros(1);
+    /** Marks an execution row whose run never started. */
+    private static final Instant NOT_STARTED = Instant.MAX;
+    private static final TypeReference<ResponseData<List<JobBatchItemResult>>> BATCH_RESPONSE =
+            new TypeReference<>() {
+            };
+
+    private final LoadTestConfig config;
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpClient httpClient = HttpClient.newBuilder().executor(senders).build();
+    private final JobFrequency[] frequencies;
+    private final double[] cumulativeWeights;
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    LoadTestHarness(LoadTestConfig config) {
+        this.config = config;
+        this.frequencies = config.getMix().keySet().toArray(JobFrequency[]::new);
+        this.cumulativeWeights = new double[frequencies.length];
+        double total = config.getMix().values().stream().mapToInt(Integer::intValue).sum();
+        double sum = 0;
+        for (int i = 0; i < frequencies.length; i++) {
+            sum += config.getMix().get(frequencies[i]);
+            cumulativeWeights[i] = sum / total;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromArgs(args);
+        try (ServiceCluster cluster = ServiceCluster.start(config)) {
+            new LoadTestHarness(config).run(cluster);
+        }
+        System.exit(0);
+    }
+
+    void run(ServiceCluster cluster) throws Exception {
+        log.info("Submitting {} jobs/s for {}s to {} with mix {}", config.getRate(), config.getDurationSeconds(),
+                cluster.getJobStoreUrl(), config.getMix());
+        Instant submitStart = Instant.now();
+        submit(cluster.getJobStoreUrl());
+        Instant submitEnd = Instant.now();
+
+        log.info("Submitted {} jobs ({} rejected), draining for {}s", accepted.get(), rejected.get(),
+                config.getDrainSeconds());
+        Thread.sleep(TimeUnit.SECONDS.toMillis(config.getDrainSeconds()));
+
+        report(cluster, submitStart, submitEnd);
+        senders.shutdown();
+    }
+
+    private void submit(String jobStoreUrl) throws InterruptedException {
+        List<CompletableFuture<Void>> requests = new ArrayList<>();
+        List<JobSubmissionRequest> pending = new ArrayList<>();
+        long startNanos = System.nanoTime();
+        long endNanos = startNanos + TimeUnit.SECONDS.toNanos(config.getDurationSeconds());
+        long sequence = 0;
+        while (System.nanoTime() < endNanos) {
+            // Catch up to where the rate says we should be, so a slow tick does not lower the offered load
+            long due = config.getRate() * (System.nanoTime() - startNanos) / TimeUnit.SECONDS.toNanos(1);
+            Instant executionTime = Instant.now().plusMillis(config.getLeadMillis());
+            while (sequence < due) {
+                pending.add(newJob(sequence++, executionTime));
+                if (pending.size() == config.getSubmitBatchSize()) {
+                    requests.add(post(jobStoreUrl, pending));
+                    pending = new ArrayList<>();
+                }
+            }
+            if (!pending.isEmpty()) {
+                requests.add(post(jobStoreUrl, pending));
+                pending = new ArrayList<>();
+            }
+            Thread.sleep(TICK_MILLIS);
+        }
+        CompletableFuture.allOf(requests.toArray(CompletableFuture[]::new)).join();
+    }
+
+    private JobSubmissionRequest newJob(long sequence, Instant executionTime) {
+        JobFrequency frequency = frequencyOf(sequence);
+        JobSubmissionRequest request = new JobSubmissionRequest();
+        request.setJobName("load-" + sequence);
+        request.setUserId(1L);
+        request.setFrequency(frequency);
+        if (frequency == JobFrequency.CRON) {
+            request.setCronExpression(config.getCronExpression());
+        }
+        request.setExecutionTime(executionTime);
+        request.setPayload("{}");
+        return request;
+    }
+
+    private CompletableFuture<Void> post(String jobStoreUrl, List<JobSubmissionRequest> jobs) {
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(jobs);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot serialize job batch", e);
+        }
+        HttpRequest request = HttpRequest.newBuilder(URI.create(jobStoreUrl + "/api/jobs/batch"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .thenAccept(response -> countResults(response, jobs.size()))
+                .exceptionally(e -> {
+                    log.warn("Job batch of {} failed: {}", jobs.size(), e.getMessage());
+                    rejected.addAndGet(jobs.size());
+                    return null;
+                });
+    }
+
+    private void countResults(HttpResponse<byte[]> response, int size) {
+        if (response.statusCode() != 200) {
+            log.warn("Job batch of {} returned HTTP {}", size, response.statusCode());
+            rejected.addAndGet(size);
+            return;
+        }
+        try {
+            List<JobBatchItemResult> results = objectMapper.readValue(response.body(), BATCH_RESPONSE).getData();
+            long failed = results.stream().filter(result -> result.getError() != null).count();
+            accepted.addAndGet(results.size() - failed);
+            rejected.addAndGet(failed);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot read job batch response", e);
+        }
+    }
+
+    private void report(ServiceCluster cluster, Instant submitStart, Instant submitEnd) throws IOException {
+        Histogram lateness = new Histogram(MAX_LATENESS_MICROS, 3);
+        long[] counts = new long[3];
+        long[] window = {Long.MAX_VALUE, Long.MIN_VALUE};
+        Map<Long, Map<Instant, Instant>> startsByJob = new HashMap<>();
+        cluster.getJobStoreJdbcTemplate().query(
+                "SELECT job_id, scheduled_time, start_time, end_time, status FROM job_executions",
+                rs -> {
+                    Timestamp scheduled = rs.getTimestamp("scheduled_time");
+                    Timestamp started = rs.getTimestamp("start_time");
+                    if (scheduled != null) {
+                        startsByJob.computeIfAbsent(rs.getLong("job_id"), id -> new HashMap<>())
+                                .merge(scheduled.toInstant(), started == null ? NOT_STARTED : started.toInstant(),
+                                        LoadTestHarness::earlierStart);
+                    }
+                    if (started == null) {
+                        return;
+                    }
+                    counts[0]++;
+                    Timestamp ended = rs.getTimestamp("end_time");
+                    window[0] = Math.min(window[0], started.getTime());
+                    if (ended != null) {
+                        window[1] = Math.max(window[1], ended.getTime());
+                        if ("COMPLETED".equals(rs.getString("status"))) {
+                            counts[1]++;
+                        } else {
+                            counts[2]++;
+                        }
+                    }
+                });
+
+        // Judge every run due before the grace window, whether or not the history mentions it
+        Instant judgedUntil = Instant.now().minusMillis(config.getMissedGraceMillis());
+        long[] runs = new long[2];
+        cluster.getJobStoreJdbcTemplate().query(
+                "SELECT id, frequency, cron_expression, time_zone, execution_time FROM jobs",
+                rs -> {
+                    Map<Instant, Instant> starts = startsByJob.getOrDefault(rs.getLong("id"), Map.of());
+                    for (Instant due : dueRuns(JobFrequency.valueOf(rs.getString("frequency")),
+                            rs.getString("cron_expression"), rs.getString("time_zone"),
+                            rs.getTimestamp("execution_time").toInstant(), judgedUntil)) {
+                        Instant started = starts.getOrDefault(due, NOT_STARTED);
+                        runs[0]++;
+                        if (started == NOT_STARTED) {
+                            runs[1]++;
+                            started = judgedUntil;
+                        }
+                        long micros = Duration.between(due, started).toNanos() / 1000;
+                        lateness.recordValue(Math.min(Math.max(0, micros), MAX_LATENESS_MICROS));
+                    }
+                });
+
+        long finished = counts[1] + counts[2];
+        double runSeconds = finished == 0 ? 0 : Math.max(1, window[1] - window[0]) / 1000.0;
+        double submitSeconds = Math.max(1, submitEnd.toEpochMilli() - submitStart.toEpochMilli()) / 1000.0;
+        log.info("Submitted {} jobs ({} rejected) at {} jobs/s", accepted.get(), rejected.get(),
+                String.format("%.1f", accepted.get() / submitSeconds));
+        log.info("Started {} runs, completed {}, failed {}, throughput {} jobs/s", counts[0], counts[1], counts[2],
+                String.format("%.1f", runSeconds == 0 ? 0 : finished / runSeconds));
+        log.info("Due {} runs by {}, missed {} (counted as late by the time they were overdue)", runs[0],
+                judgedUntil, runs[1]);
+        log.info("Trigger lateness ms: p50={} p99={} p999={} max={} (n={})",
+                millis(lateness.getValueAtPercentile(50)), millis(lateness.getValueAtPercentile(99)),
+                millis(lateness.getValueAtPercentile(99.9)), millis(lateness.getMaxValue()),
+                lateness.getTotalCount());
+
+        Path reportFile = Path.of(config.getReportFile());
+        if (reportFile.getParent() != null) {
+            Files.createDirectories(reportFile.getParent());
+        }
+        try (PrintStream out = new PrintStream(Files.newOutputStream(reportFile))) {
+            lateness.outputPercentileDistribution(out, 1000.0);
+        }
+        log.info("Lateness distribution written to {}", reportFile.toAbsolutePath());
+    }
+
+    /**
+     * The runs of one job scheduled before {@code until}, computed the way the job store schedules them.
+     */
+    private static List<Instant> dueRuns(JobFrequency frequency, String cronExpression, String timeZone,
+                                         Instant executionTime, Instant until) {
+        List<Instant> due = new ArrayList<>();
+        if (frequency == JobFrequency.CRON) {
+            CronSchedule cron = CronSchedule.of(cronExpression, timeZone);
+            for (Instant run = cron.firstAtOrAfter(executionTime); run != null && run.isBefore(until);
+                 run = cron.next(run)) {
+                due.add(run);
+            }
+            return due;
+        }
+        ZonedDateTime first = executionTime.atZone(ZoneOffset.UTC);
+        for (int i = 0; ; i++) {
+            Instant run = switch (frequency) {
+                case DAILY -> first.plusDays(i).toInstant();
+                case WEEKLY -> first.plusWeeks(i).toInstant();
+                case MONTHLY -> first.plusMonths(i).toInstant();
+                default -> i == 0 ? executionTime : until;
+            };
+            if (!run.isBefore(until)) {
+                return due;
+            }
+            due.add(run);
+        }
+    }
+
+    private static Instant earlierStart(Instant a, Instant b) {
+        if (a == NOT_STARTED) {
+            return b;
+        }
+        return b == NOT_STARTED || a.isBefore(b) ? a : b;
+    }
+
+    private static String millis(long micros) {
+        return String.format("%.2f", micros / 1000.0);
+    }
+
+    /**
+     * Picks each job's frequency from a low-discrepancy sequence over the cumulative weights, so every stretch of
+     * consecutive jobs follows the configured mix.
+     */
+    private JobFrequency frequencyOf(long sequence) {
+        double point = (sequence * GOLDEN_RATIO_FRACTION) % 1.0;
+        for (int i = 0; i < frequencies.length; i++) {
+            if (point < cumulativeWeights[i]) {
+                return frequencies[i];
+            }
+        }
+        return frequencies[frequencies.length - 1];
+    }
+}
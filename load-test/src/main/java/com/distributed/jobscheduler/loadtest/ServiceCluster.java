@@ -0,0 +1,126 @@
+package com.distributed.jobscheduler.loadtest;
+
+import com.distributed.jobscheduler.agent.WorkerAgentApplication;
+import com.distributed.jobscheduler.coordinator.SchedulerCoordinatorApplication;
+import com.distributed.jobscheduler.jobstore.JobStoreServiceApplication;
+import com.distributed.jobscheduler.worker.scheduler.SchedulerWorkerApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Job store, scheduler coordinator, one scheduler worker and the configured number of worker agents, each in its own
+ * Spring context on a random port with its own H2 database. The services talk to each other over HTTP exactly as
+ * they do when deployed separately. Every service jar ships an {@code application.yml}, so none is read and all
+ * settings are passed here.
+ */
+public class ServiceCluster implements AutoCloseable {
+
+    private final List<ConfigurableApplicationContext> contexts = new ArrayList<>();
+    private String jobStoreUrl;
+    private JdbcTemplate jobStoreJdbcTemplate;
+
+    public static ServiceCluster start(LoadTestConfig config) {
+        ServiceCluster cluster = new ServiceCluster();
+        try {
+            cluster.startServices(config);
+            return cluster;
+        } catch (RuntimeException e) {
+            cluster.close();
+            throw e;
+        }
+    }
+
+    public String getJobStoreUrl() {
+        return jobStoreUrl;
+    }
+
+    /**
+     * Direct access to the job store database, used to read execution history once the run is over.
+     */
+    public JdbcTemplate getJobStoreJdbcTemplate() {
+        return jobStoreJdbcTemplate;
+    }
+
+    @Override
+    public void close() {
+        // Stop dispatchers before the services they call
+        for (int i = contexts.size() - 1; i >= 0; i--) {
+            contexts.get(i).close();
+        }
+        contexts.clear();
+    }
+
+    private void startServices(LoadTestConfig config) {
+        ConfigurableApplicationContext jobStore = startService(JobStoreServiceApplication.class, "job-store-service",
+                Map.of("spring.jpa.properties.hibernate.jdbc.batch_size", 500,
+                        "spring.jpa.properties.hibernate.order_inserts", true,
+                        "jobstore.metrics.backlog-refresh-millis", 5000,
+                        "jobstore.segments.total-segments", config.getSegments()));
+        jobStoreUrl = urlOf(jobStore);
+        jobStoreJdbcTemplate = jobStore.getBean(JdbcTemplate.class);
+
+        String coordinatorUrl = urlOf(startService(SchedulerCoordinatorApplication.class, "scheduler-coordinator",
+                Map.of("coordinator.segments.total-segments", config.getSegments(),
+                        "coordinator.segments.job-store-url", jobStoreUrl)));
+
+        List<String> agentUrls = new ArrayList<>();
+        for (int i = 0; i < config.getAgents(); i++) {
+            agentUrls.add(urlOf(startService(WorkerAgentApplication.class, "worker-agent-" + i, Map.of(
+                    "worker.agent.worker-id", "agent-" + i,
+                    "worker.agent.job-store-url", jobStoreUrl,
+                    // The execution coordinator is not part of the run; heartbeats and reports are pushed out of
+                    // the way
+                    "worker.agent.execution-coordinator-url", "http://localhost:1",
+                    "worker.agent.heartbeat-interval-millis", 86_400_000L,
+                    "worker.agent.assignments.report-millis", 86_400_000L,
+                    "worker.agent.concurrency-limit", config.getAgentConcurrency(),
+                    "worker.agent.queue-capacity", config.getAgentQueueCapacity(),
+                    "worker.agent.simulated-job-millis", config.getJobMillis()))));
+        }
+
+        startService(SchedulerWorkerApplication.class, "scheduler-worker", Map.of(
+                "scheduler.worker.worker-id", "worker-1",
+                "scheduler.worker.assigned-segments", IntStream.range(0, config.getSegments())
+                        .mapToObj(String::valueOf).collect(Collectors.joining(",")),
+                "scheduler.worker.coordinator-url", coordinatorUrl,
+                "scheduler.worker.job-store-url", jobStoreUrl,
+                "scheduler.worker.dispatch-mode", config.getDispatchMode(),
+                "scheduler.worker.wheel.refill-interval-millis", config.getRefillIntervalMillis(),
+                "scheduler.worker.dispatch.agent-urls", String.join(",", agentUrls),
+                "scheduler.worker.dispatch.capacity-poll-millis", 200));
+    }
+
+    private ConfigurableApplicationContext startService(Class<?> application, String name,
+                                                        Map<String, Object> properties) {
+        Map<String, Object> settings = new HashMap<>();
+        settings.put("spring.config.name", "load-test");
+        settings.put("spring.application.name", name);
+        settings.put("spring.main.banner-mode", "off");
+        settings.put("server.port", 0);
+        settings.put("spring.datasource.url",
+                "jdbc:h2:mem:" + name.replace('-', '_') + ";MODE=PostgreSQL;DATABASE_TO_UPPER=false;DB_CLOSE_DELAY=-1");
+        settings.put("spring.jpa.show-sql", false);
+        settings.put("logging.level.root", "WARN");
+        settings.put("logging.level.com.distributed.jobscheduler", "WARN");
+        settings.put("logging.level.com.distributed.jobscheduler.loadtest", "INFO");
+        settings.putAll(properties);
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(application)
+                .properties(settings)
+                .run();
+        contexts.add(context);
+        return context;
+    }
+
+    private static String urlOf(ConfigurableApplicationContext context) {
+        return "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+}
@@ -0,0 +1,76 @@
+package com.distributed.jobscheduler.coordinator.assignment;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Weighted rendezvous (highest random weight) hashing of segment ranges onto workers. Every worker scores every range
+ * key with {@code weight / -ln(hash(worker, key))}, mapped into (0, 1), and the highest score wins, so each worker
+ * owns a share of ranges proportional to its weight. Adding a worker only moves the ranges it now wins, and removing
+ * one only moves the ranges it owned; every other range keeps its owner.
+ */
+public final class WeightedRendezvousHash {
+
+    private final String[] workers;
+    private final long[] workerHashes;
+    private final int[] weights;
+
+    /**
+     * @param weights worker id to capacity weight; weights below one count as one
+     */
+    public WeightedRendezvousHash(Map<String, Integer> weights) {
+        // Sorted so that ties, however unlikely, resolve the same way on every coordinator
+        Map<String, Integer> sorted = new TreeMap<>(weights);
+        this.workers = sorted.keySet().toArray(String[]::new);
+        this.workerHashes = new long[workers.length];
+        this.weights = new int[workers.length];
+        int i = 0;
+        for (Map.Entry<String, Integer> entry : sorted.entrySet()) {
+            workerHashes[i] = hash(entry.getKey());
+            this.weights[i] = Math.max(1, entry.getValue() == null ? 1 : entry.getValue());
+            i++;
+        }
+    }
+
+    /**
+     * Owner of the unit identified by {@code key}, or {@code null} when there are no workers.
+     */
+    public String ownerOf(long key) {
+        String owner = null;
+        double best = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < workers.length; i++) {
+            double score = score(workerHashes[i], key, weights[i]);
+            if (score > best) {
+                best = score;
+                owner = workers[i];
+            }
+        }
+        return owner;
+    }
+
+    private static double score(long workerHash, long key, int weight) {
+        long h = mix(workerHash ^ (key * 0x9E3779B97F4A7C15L));
+        // Top 53 bits as a double strictly inside (0, 1)
+        double unit = ((h >>> 11) + 0.5) * 0x1.0p-53;
+        return weight / -Math.log(unit);
+    }
+
+    private static long hash(String value) {
+        // FNV-1a, then mixed so that similar ids such as worker-1 and worker-2 spread apart
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return mix(h);
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
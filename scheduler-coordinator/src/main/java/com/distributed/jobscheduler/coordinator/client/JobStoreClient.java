@@ -0,0 +1,58 @@
+package com.distributed.jobscheduler.coordinator.client;
+
+import com.distributed.jobscheduler.common.dto.SegmentSlotBacklog;
+import com.distributed.jobscheduler.common.response.ResponseData;
+import com.distributed.jobscheduler.coordinator.config.SegmentConfig;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.time.Instant;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class JobStoreClient {
+
+    private static final Logger log = LoggerFactory.getLogger(JobStoreClient.class);
+    private static final ParameterizedTypeReference<ResponseData<List<SegmentSlotBacklog>>> BACKLOG_TYPE =
+            new ParameterizedTypeReference<>() {
+            };
+
+    private final SegmentConfig segmentConfig;
+    private RestTemplate restTemplate;
+
+    @PostConstruct
+    public void init() {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout((int) segmentConfig.getPushConnectTimeoutMillis());
+        requestFactory.setReadTimeout((int) segmentConfig.getPushReadTimeoutMillis());
+        restTemplate = new RestTemplate(requestFactory);
+    }
+
+    /**
+     * Due-schedule counts per segment and slot as of {@code asOf}, or {@code null} if the job store could not be
+     * reached.
+     */
+    public List<SegmentSlotBacklog> getDueBacklog(Instant asOf) {
+        String url = UriComponentsBuilder.fromHttpUrl(segmentConfig.getJobStoreUrl() + "/api/job-schedules/backlog")
+                .queryParam("asOf", asOf.toString())
+                .toUriString();
+        try {
+            ResponseData<List<SegmentSlotBacklog>> response =
+                    restTemplate.exchange(url, HttpMethod.GET, null, BACKLOG_TYPE).getBody();
+            return response == null || response.getData() == null ? List.of() : response.getData();
+        } catch (RestClientException e) {
+            log.warn("Failed to fetch the due backlog from the job store: {}", e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.distributed.jobscheduler.coordinator.client;
+
+import com.distributed.jobscheduler.common.dto.SegmentRange;
+import com.distributed.jobscheduler.common.election.FencingToken;
+import com.distributed.jobscheduler.coordinator.config.SegmentConfig;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class SchedulerWorkerClient {
+
+    private static final Logger log = LoggerFactory.getLogger(SchedulerWorkerClient.class);
+
+    private final SegmentConfig segmentConfig;
+    private RestTemplate restTemplate;
+
+    @PostConstruct
+    public void init() {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout((int) segmentConfig.getPushConnectTimeoutMillis());
+        requestFactory.setReadTimeout((int) segmentConfig.getPushReadTimeoutMillis());
+        restTemplate = new RestTemplate(requestFactory);
+    }
+
+    /**
+     * Replaces the segment ranges the worker at {@code workerUrl} scans. Returns {@code false} if the worker could
+     * not be reached or has already accepted a push with a newer fencing token.
+     */
+    public boolean pushRanges(String workerId, String workerUrl, List<SegmentRange> ranges, long fencingToken) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(FencingToken.HEADER, Long.toString(fencingToken));
+        try {
+            restTemplate.postForObject(workerUrl + "/api/scheduler-worker/ranges", new HttpEntity<>(ranges, headers),
+                    String.class);
+            log.debug("Pushed {} segment ranges to worker {} in term {}", ranges.size(), workerId, fencingToken);
+            return true;
+        } catch (HttpClientErrorException.Conflict e) {
+            log.warn("Worker {} refused segment ranges of term {} as stale", workerId, fencingToken);
+            return false;
+        } catch (RestClientException e) {
+            log.warn("Failed to push segment ranges to worker {} at {}: {}", workerId, workerUrl, e.getMessage());
+            return false;
+        }
+    }
+}
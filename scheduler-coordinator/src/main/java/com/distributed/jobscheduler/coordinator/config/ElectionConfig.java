@@ -0,0 +1,26 @@
+package com.distributed.jobscheduler.coordinator.config;
+
+import com.distributed.jobscheduler.coordinator.election.ElectionBackend;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.UUID;
+
+@Configuration
+@ConfigurationProperties(prefix = "coordinator.election")
+@Data
+public class ElectionConfig {
+    private ElectionBackend backend = ElectionBackend.DATABASE;
+    private String nodeId = "coordinator-" + UUID.randomUUID().toString().substring(0, 8);
+    /** A leader that stops renewing is replaced after this long. */
+    private long leaseMillis = 5000;
+    private long renewIntervalMillis = 1000;
+    /** A leader stops acting this long before its lease expires, to allow for clock drift between nodes. */
+    private long clockSkewMillis = 500;
+    private String zookeeperConnect = "localhost:2181";
+    private String zookeeperPath = "/distributed-job-scheduler/coordinator";
+    /** A leader whose ZooKeeper session expires is replaced after this long. */
+    private int zookeeperSessionTimeoutMillis = 5000;
+    private int zookeeperConnectionTimeoutMillis = 3000;
+}
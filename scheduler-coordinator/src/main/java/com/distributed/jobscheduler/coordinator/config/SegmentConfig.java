@@ -0,0 +1,35 @@
+package com.distributed.jobscheduler.coordinator.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "coordinator.segments")
+@Data
+public class SegmentConfig {
+    private int totalSegments = 100;
+    /** Workers that have not sent a heartbeat for this long are taken out of the assignment. */
+    private long heartbeatTimeoutMillis = 30000;
+    /** How often membership is checked for changes. */
+    private long membershipCheckMillis = 1000;
+    /** Ownership is recomputed and re-pushed at least this often, even when membership has not changed. */
+    private long rebalanceIntervalMillis = 30000;
+    private long pushConnectTimeoutMillis = 2000;
+    private long pushReadTimeoutMillis = 5000;
+    /** Job store to read due-job counts from; ranges are neither split nor merged while unset. */
+    private String jobStoreUrl;
+    /** How often range load is checked for splits and merges. */
+    private long loadCheckMillis = 30000;
+    /** Schedules due within this window count towards a range's load. */
+    private long loadLookaheadMillis = 60000;
+    /** A range is never split for holding fewer due jobs than this. */
+    private long minSplitDueJobs = 10000;
+    /** A range is split once it holds more than this share of an average worker's due jobs. */
+    private double splitShare = 0.5;
+    /** Sibling ranges are merged once together they hold less than this fraction of the split threshold. */
+    private double mergeRatio = 0.25;
+    /** Workers whose scans take longer than this have their busiest range split. */
+    private long scanTimeTargetMillis = 5000;
+    private int maxResizesPerCheck = 8;
+}
@@ -17,15 +17,18 @@ public class SchedulerWorkerController {
     private final SchedulerWorkerService schedulerWorkerService;
 
     @PostMapping("/register")
-    public ResponseData<SchedulerWorkerEntity> registerWorker(@RequestParam String workerId) {
-        SchedulerWorkerEntity worker = schedulerWorkerService.registerWorker(workerId);
+    public ResponseData<SchedulerWorkerEntity> registerWorker(@RequestParam String workerId,
+                                                              @RequestParam(required = false) String url,
+                                                              @RequestParam(required = false) Integer capacity) {
+        SchedulerWorkerEntity worker = schedulerWorkerService.registerWorker(workerId, url, capacity);
         return ResponseUtils.success(worker);
     }
 
     @PostMapping("/heartbeat")
-    public ResponseData<SchedulerWorkerEntity> heartbeat(@RequestParam String workerId) {
-        SchedulerWorkerEntity worker = schedulerWorkerService.heartbeat(workerId);
-        return ResponseUtils.success(worker);
+    public ResponseData<String> heartbeat(@RequestParam String workerId,
+                                          @RequestParam(required = false) Long scanMillis) {
+        schedulerWorkerService.heartbeat(workerId, scanMillis);
+        return ResponseUtils.success("Heartbeat recorded");
     }
 
     @GetMapping
@@ -1,12 +1,15 @@
 package com.distributed.jobscheduler.coordinator.controller;
 
+import com.distributed.jobscheduler.common.dto.SegmentRange;
 import com.distributed.jobscheduler.common.response.ResponseData;
 import com.distributed.jobscheduler.common.response.ResponseUtils;
+import com.distributed.jobscheduler.coordinator.entity.SegmentAssignmentEntity;
 import com.distributed.jobscheduler.coordinator.service.SegmentAssignmentService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/segments")
@@ -16,12 +19,30 @@ public class SegmentController {
     private final SegmentAssignmentService segmentAssignmentService;
 
     @PostMapping("/assign")
-    public ResponseData<List<Integer>> assignSegments(@RequestParam String workerId,
-                                                      @RequestParam int desiredSegments) {
-        List<Integer> segments = segmentAssignmentService.assignSegments(workerId, desiredSegments);
+    public ResponseData<List<SegmentRange>> assignSegments(@RequestParam String workerId,
+                                                           @RequestParam int desiredSegments) {
+        List<SegmentRange> segments = segmentAssignmentService.assignSegments(workerId, desiredSegments);
         return ResponseUtils.success(segments);
     }
 
+    @GetMapping
+    public ResponseData<List<SegmentRange>> getSegments(@RequestParam String workerId) {
+        return ResponseUtils.success(segmentAssignmentService.getSegments(workerId));
+    }
+
+    /**
+     * Every range with its owner and the due-job count seen at the last load check.
+     */
+    @GetMapping("/ranges")
+    public ResponseData<List<SegmentAssignmentEntity>> getAssignments() {
+        return ResponseUtils.success(segmentAssignmentService.getAssignments());
+    }
+
+    @PostMapping("/rebalance")
+    public ResponseData<Map<String, List<SegmentRange>>> rebalance() {
+        return ResponseUtils.success(segmentAssignmentService.rebalance());
+    }
+
     @DeleteMapping("/release")
     public ResponseData<String> releaseSegments(@RequestParam String workerId) {
         segmentAssignmentService.releaseSegments(workerId);
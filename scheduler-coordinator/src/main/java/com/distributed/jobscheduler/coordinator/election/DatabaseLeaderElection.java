@@ -0,0 +1,151 @@
+package com.distributed.jobscheduler.coordinator.election;
+
+import com.distributed.jobscheduler.common.election.FencingToken;
+import com.distributed.jobscheduler.coordinator.config.ElectionConfig;
+import com.distributed.jobscheduler.coordinator.entity.CoordinatorLeaseEntity;
+import com.distributed.jobscheduler.coordinator.repository.CoordinatorLeaseRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Leadership as a lease row in the shared coordinator database. A node takes the lease only once it has expired,
+ * which bumps its epoch, and the holder renews it every {@code renew-interval-millis}. A leader that cannot renew
+ * stops acting on its own once {@code lease-millis - clock-skew-millis} have passed since its last renewal, before
+ * any other node can take the lease over.
+ */
+@Component
+@ConditionalOnProperty(name = "coordinator.election.backend", havingValue = "DATABASE", matchIfMissing = true)
+@RequiredArgsConstructor
+public class DatabaseLeaderElection implements LeaderElection {
+
+    private static final Logger log = LoggerFactory.getLogger(DatabaseLeaderElection.class);
+    private static final String LEASE_NAME = "scheduler-coordinator";
+
+    private final CoordinatorLeaseRepository leaseRepository;
+    private final ElectionConfig electionConfig;
+    private final TransactionTemplate transactionTemplate;
+    private volatile long epoch = FencingToken.NONE;
+    private volatile long leaseDeadlineNanos;
+    private volatile String leaderId;
+
+    @Scheduled(fixedDelayString = "${coordinator.election.renew-interval-millis:1000}")
+    public void renewOrAcquire() {
+        long started = System.nanoTime();
+        Instant now = Instant.now();
+        Instant expiresAt = now.plusMillis(electionConfig.getLeaseMillis());
+        String nodeId = getNodeId();
+        try {
+            long heldEpoch = epoch;
+            if (heldEpoch != FencingToken.NONE) {
+                Integer renewed = transactionTemplate.execute(status ->
+                        leaseRepository.renew(LEASE_NAME, nodeId, heldEpoch, expiresAt));
+                if (renewed != null && renewed == 1) {
+                    extendDeadline(started);
+                } else {
+                    epoch = FencingToken.NONE;
+                    log.warn("Node {} lost the coordinator lease of term {}", nodeId, heldEpoch);
+                }
+            } else {
+                ensureLeaseRow();
+                Long acquired = transactionTemplate.execute(status ->
+                        leaseRepository.acquire(LEASE_NAME, nodeId, now, expiresAt) == 1
+                                ? leaseRepository.findById(LEASE_NAME).map(CoordinatorLeaseEntity::getEpoch)
+                                .orElse(FencingToken.NONE)
+                                : FencingToken.NONE);
+                if (acquired != null && acquired != FencingToken.NONE) {
+                    extendDeadline(started);
+                    epoch = acquired;
+                    log.info("Node {} became coordinator leader with fencing token {}", nodeId, acquired);
+                }
+            }
+            leaderId = epoch != FencingToken.NONE ? nodeId : currentHolder(now);
+        } catch (DataAccessException e) {
+            // Leadership is kept until the local deadline passes, in case the next renewal gets through
+            log.warn("Coordinator lease check failed on node {}: {}", nodeId, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void release() {
+        long heldEpoch = epoch;
+        if (heldEpoch == FencingToken.NONE) {
+            return;
+        }
+        epoch = FencingToken.NONE;
+        try {
+            // Expiring the lease now lets the next node take over without waiting out lease-millis
+            transactionTemplate.executeWithoutResult(status ->
+                    leaseRepository.release(LEASE_NAME, getNodeId(), heldEpoch, Instant.now()));
+        } catch (DataAccessException e) {
+            log.warn("Failed to release the coordinator lease: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public String getNodeId() {
+        return electionConfig.getNodeId();
+    }
+
+    @Override
+    public boolean isLeader() {
+        return epoch != FencingToken.NONE && System.nanoTime() - leaseDeadlineNanos < 0;
+    }
+
+    @Override
+    public long getFencingToken() {
+        long heldEpoch = epoch;
+        return isLeader() ? heldEpoch : FencingToken.NONE;
+    }
+
+    @Override
+    public String getLeaderId() {
+        return leaderId;
+    }
+
+    @Override
+    public boolean confirmLeadership() {
+        long heldEpoch = epoch;
+        return isLeader() && leaseRepository.findById(LEASE_NAME)
+                .filter(lease -> getNodeId().equals(lease.getHolder()) && lease.getEpoch() == heldEpoch)
+                .isPresent();
+    }
+
+    private void extendDeadline(long renewalStartedNanos) {
+        leaseDeadlineNanos = renewalStartedNanos + TimeUnit.MILLISECONDS.toNanos(
+                electionConfig.getLeaseMillis() - electionConfig.getClockSkewMillis());
+    }
+
+    private void ensureLeaseRow() {
+        if (leaseRepository.existsById(LEASE_NAME)) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                CoordinatorLeaseEntity lease = new CoordinatorLeaseEntity();
+                lease.setName(LEASE_NAME);
+                leaseRepository.save(lease);
+            });
+        } catch (DataIntegrityViolationException e) {
+            // Another node created it first
+        }
+    }
+
+    private String currentHolder(Instant now) {
+        return leaseRepository.findById(LEASE_NAME)
+                .filter(lease -> lease.getHolder() != null && lease.getExpiresAt() != null
+                        && lease.getExpiresAt().isAfter(now))
+                .map(CoordinatorLeaseEntity::getHolder)
+                .orElse(null);
+    }
+}
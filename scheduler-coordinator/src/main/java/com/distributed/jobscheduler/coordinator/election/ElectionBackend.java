@@ -0,0 +1,8 @@
+package com.distributed.jobscheduler.coordinator.election;
+
+public enum ElectionBackend {
+    /** Compare-and-set on a lease row in the coordinator database. */
+    DATABASE,
+    /** Curator leader latch on a ZooKeeper ensemble. */
+    ZOOKEEPER
+}
@@ -0,0 +1,31 @@
+package com.distributed.jobscheduler.coordinator.election;
+
+/**
+ * Chooses one coordinator to rebalance and push segment assignments. Implementations hand out a fencing token per
+ * term that only ever increases, so pushes of a leader that lost its term can be told apart from its successor's.
+ */
+public interface LeaderElection {
+
+    String getNodeId();
+
+    /**
+     * Whether this node holds leadership by its own clock. Cheap; safe to call on every scheduling pass.
+     */
+    boolean isLeader();
+
+    /**
+     * Token of the current term, or {@link com.distributed.jobscheduler.common.election.FencingToken#NONE} when
+     * this node is not the leader.
+     */
+    long getFencingToken();
+
+    /**
+     * Leader as last observed, or {@code null} when there is none.
+     */
+    String getLeaderId();
+
+    /**
+     * Checks leadership against the backing store, for use right before writing assignments.
+     */
+    boolean confirmLeadership();
+}
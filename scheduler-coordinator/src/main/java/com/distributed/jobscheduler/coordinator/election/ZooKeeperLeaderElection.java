@@ -0,0 +1,142 @@
+package com.distributed.jobscheduler.coordinator.election;
+
+import com.distributed.jobscheduler.common.election.FencingToken;
+import com.distributed.jobscheduler.coordinator.config.ElectionConfig;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.apache.curator.framework.CuratorFramework;
+import org.apache.curator.framework.CuratorFrameworkFactory;
+import org.apache.curator.framework.recipes.leader.LeaderLatch;
+import org.apache.curator.framework.recipes.leader.LeaderLatchListener;
+import org.apache.curator.framework.recipes.leader.Participant;
+import org.apache.curator.retry.ExponentialBackoffRetry;
+import org.apache.zookeeper.CreateMode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Leadership through a Curator {@link LeaderLatch}. Each new leader draws its fencing token from a persistent
+ * sequential znode, whose counter ZooKeeper only ever increases. Curator revokes leadership as soon as the connection
+ * is suspended, and the ensemble hands it to the next node once the old session expires. Any connect string works,
+ * including that of an in-process {@code TestingServer}.
+ */
+@Component
+@ConditionalOnProperty(name = "coordinator.election.backend", havingValue = "ZOOKEEPER")
+@RequiredArgsConstructor
+public class ZooKeeperLeaderElection implements LeaderElection {
+
+    private static final Logger log = LoggerFactory.getLogger(ZooKeeperLeaderElection.class);
+
+    private final ElectionConfig electionConfig;
+    private CuratorFramework client;
+    private volatile LeaderLatch latch;
+    private volatile long epoch = FencingToken.NONE;
+
+    @PostConstruct
+    public void start() {
+        client = CuratorFrameworkFactory.builder()
+                .connectString(electionConfig.getZookeeperConnect())
+                .sessionTimeoutMs(electionConfig.getZookeeperSessionTimeoutMillis())
+                .connectionTimeoutMs(electionConfig.getZookeeperConnectionTimeoutMillis())
+                .retryPolicy(new ExponentialBackoffRetry(200, 5))
+                .build();
+        client.start();
+        try {
+            startLatch();
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to join the coordinator election", e);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        epoch = FencingToken.NONE;
+        try {
+            latch.close();
+        } catch (Exception e) {
+            log.warn("Failed to leave the coordinator election: {}", e.getMessage());
+        }
+        client.close();
+    }
+
+    @Override
+    public String getNodeId() {
+        return electionConfig.getNodeId();
+    }
+
+    @Override
+    public boolean isLeader() {
+        return epoch != FencingToken.NONE && latch.hasLeadership();
+    }
+
+    @Override
+    public long getFencingToken() {
+        long heldEpoch = epoch;
+        return isLeader() ? heldEpoch : FencingToken.NONE;
+    }
+
+    @Override
+    public String getLeaderId() {
+        try {
+            Participant leader = latch.getLeader();
+            return leader.isLeader() ? leader.getId() : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    @Override
+    public boolean confirmLeadership() {
+        // The latch already tracks the session; a suspended connection clears hasLeadership()
+        return isLeader();
+    }
+
+    private synchronized void startLatch() throws Exception {
+        LeaderLatch newLatch = new LeaderLatch(client, electionConfig.getZookeeperPath() + "/latch", getNodeId());
+        newLatch.addListener(new LeaderLatchListener() {
+            @Override
+            public void isLeader() {
+                onElected(newLatch);
+            }
+
+            @Override
+            public void notLeader() {
+                epoch = FencingToken.NONE;
+                log.warn("Node {} is no longer coordinator leader", getNodeId());
+            }
+        });
+        latch = newLatch;
+        newLatch.start();
+    }
+
+    private void onElected(LeaderLatch elected) {
+        try {
+            // Persistent parents: a container parent could be removed when empty, which would reset the counter
+            String created = client.create()
+                    .creatingParentsIfNeeded()
+                    .withMode(CreateMode.PERSISTENT_SEQUENTIAL)
+                    .forPath(electionConfig.getZookeeperPath() + "/epochs/epoch-");
+            client.delete().forPath(created);
+            epoch = Long.parseLong(created.substring(created.lastIndexOf('-') + 1)) + 1;
+            log.info("Node {} became coordinator leader with fencing token {}", getNodeId(), epoch);
+        } catch (Exception e) {
+            log.error("Node {} could not draw a fencing token; giving up leadership", getNodeId(), e);
+            Thread.ofVirtual().name("coordinator-election-rejoin").start(() -> rejoin(elected));
+        }
+    }
+
+    private synchronized void rejoin(LeaderLatch stale) {
+        if (latch != stale) {
+            return;
+        }
+        try {
+            stale.close();
+            startLatch();
+        } catch (Exception e) {
+            log.error("Node {} failed to rejoin the coordinator election", getNodeId(), e);
+        }
+    }
+}
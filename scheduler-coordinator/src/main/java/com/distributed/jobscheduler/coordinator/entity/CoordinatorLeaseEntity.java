@@ -0,0 +1,29 @@
+package com.distributed.jobscheduler.coordinator.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.Instant;
+
+/**
+ * Leadership lease. Taken and renewed only by conditional updates, so two nodes can never both hold it.
+ */
+@Entity
+@Table(name = "coordinator_leases")
+@Data
+public class CoordinatorLeaseEntity {
+
+    @Id
+    @Column(name = "name", length = 100)
+    private String name;
+
+    @Column(name = "holder", length = 100)
+    private String holder;
+
+    /** Incremented on every change of holder; the fencing token of the holder's term. */
+    @Column(name = "epoch", nullable = false)
+    private Long epoch = 0L;
+
+    @Column(name = "expires_at")
+    private Instant expiresAt;
+}
@@ -24,9 +24,21 @@ public class SchedulerWorkerEntity {
     @Column(nullable = false)
     private WorkerStatus status = WorkerStatus.UNASSIGNED;
 
+    /** Base URL the coordinator pushes segment assignments to; workers without one fetch their segments. */
+    @Column(name = "url", length = 255)
+    private String url;
+
+    /** Relative weight in segment assignment. */
+    @Column(name = "capacity", nullable = false)
+    private Integer capacity = 1;
+
     @Column(name = "assigned_segments", length = 255)
     private String assignedSegments;
 
+    /** Duration of the worker's last scan of its segments, as reported with its heartbeat. */
+    @Column(name = "last_scan_millis")
+    private Long lastScanMillis;
+
     @Column(name = "last_heartbeat")
     private Instant lastHeartbeat;
 
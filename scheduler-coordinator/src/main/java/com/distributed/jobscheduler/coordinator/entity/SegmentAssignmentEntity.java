@@ -1,5 +1,6 @@
 package com.distributed.jobscheduler.coordinator.entity;
 
+import com.distributed.jobscheduler.common.dto.SegmentRange;
 import jakarta.persistence.*;
 import lombok.Data;
 import org.hibernate.annotations.UpdateTimestamp;
@@ -7,7 +8,10 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.Instant;
 
 @Entity
-@Table(name = "segment_assignments")
+@Table(name = "segment_assignments",
+        uniqueConstraints = @UniqueConstraint(name = "uk_segment_assignments_range",
+                columnNames = {"segment", "from_slot"}),
+        indexes = @Index(name = "idx_segment_assignments_worker_id", columnList = "worker_id"))
 @Data
 public class SegmentAssignmentEntity {
 
@@ -21,7 +25,22 @@ public class SegmentAssignmentEntity {
     @Column(name = "segment", nullable = false)
     private Integer segment;
 
+    /** First slot of the range, inclusive; a whole segment spans all slots. */
+    @Column(name = "from_slot", nullable = false)
+    private Integer fromSlot = 0;
+
+    @Column(name = "to_slot", nullable = false)
+    private Integer toSlot = SegmentRange.SLOTS;
+
+    /** Schedules of the range due within the lookahead window at the last load check. */
+    @Column(name = "due_jobs")
+    private Long dueJobs;
+
     @UpdateTimestamp
     @Column(name = "assigned_at", nullable = false)
     private Instant assignedAt;
+
+    public SegmentRange toRange() {
+        return new SegmentRange(segment, fromSlot, toSlot);
+    }
 }
@@ -0,0 +1,36 @@
+package com.distributed.jobscheduler.coordinator.repository;
+
+import com.distributed.jobscheduler.coordinator.entity.CoordinatorLeaseEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+
+public interface CoordinatorLeaseRepository extends JpaRepository<CoordinatorLeaseEntity, String> {
+
+    @Modifying
+    @Query("UPDATE CoordinatorLeaseEntity l SET l.holder = :nodeId, l.epoch = l.epoch + 1, l.expiresAt = :expiresAt " +
+            "WHERE l.name = :name AND (l.holder IS NULL OR l.expiresAt < :now)")
+    int acquire(@Param("name") String name,
+                @Param("nodeId") String nodeId,
+                @Param("now") Instant now,
+                @Param("expiresAt") Instant expiresAt);
+
+    @Modifying
+    @Query("UPDATE CoordinatorLeaseEntity l SET l.expiresAt = :expiresAt " +
+            "WHERE l.name = :name AND l.holder = :nodeId AND l.epoch = :epoch")
+    int renew(@Param("name") String name,
+              @Param("nodeId") String nodeId,
+              @Param("epoch") long epoch,
+              @Param("expiresAt") Instant expiresAt);
+
+    @Modifying
+    @Query("UPDATE CoordinatorLeaseEntity l SET l.holder = NULL, l.expiresAt = :now " +
+            "WHERE l.name = :name AND l.holder = :nodeId AND l.epoch = :epoch")
+    int release(@Param("name") String name,
+                @Param("nodeId") String nodeId,
+                @Param("epoch") long epoch,
+                @Param("now") Instant now);
+}
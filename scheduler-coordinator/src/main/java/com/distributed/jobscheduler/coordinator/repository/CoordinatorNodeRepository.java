@@ -8,6 +8,4 @@ import java.util.Optional;
 public interface CoordinatorNodeRepository extends JpaRepository<CoordinatorNodeEntity, Long> {
 
     Optional<CoordinatorNodeEntity> findByNodeId(String nodeId);
-
-    Optional<CoordinatorNodeEntity> findByLeader(boolean leader);
 }
@@ -6,9 +6,20 @@ import java.util.List;
 
 public interface SchedulerWorkerService {
 
-    SchedulerWorkerEntity registerWorker(String workerId);
+    SchedulerWorkerEntity registerWorker(String workerId, String url, Integer capacity);
 
-    SchedulerWorkerEntity heartbeat(String workerId);
+    void heartbeat(String workerId, Long scanMillis);
 
     List<SchedulerWorkerEntity> getActiveWorkers();
+
+    /**
+     * Last heartbeat this node received from the worker, or {@code LivenessTable.UNKNOWN} if it has none.
+     */
+    long getLastHeartbeatMillis(String workerId);
+
+    /**
+     * Drops the worker's in-memory liveness, so its next heartbeat goes through the database and brings it back
+     * online.
+     */
+    void evictHeartbeats(String workerId);
 }
@@ -1,10 +1,31 @@
 package com.distributed.jobscheduler.coordinator.service;
 
+import com.distributed.jobscheduler.common.dto.SegmentRange;
+import com.distributed.jobscheduler.coordinator.entity.SegmentAssignmentEntity;
+
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface SegmentAssignmentService {
 
-    List<Integer> assignSegments(String workerId, int desiredSegments);
+    List<SegmentRange> assignSegments(String workerId, int desiredSegments);
 
     void releaseSegments(String workerId);
+
+    List<SegmentRange> getSegments(String workerId);
+
+    List<SegmentAssignmentEntity> getAssignments();
+
+    /**
+     * Recomputes range ownership over the online workers, stores the changes and pushes the new range lists to
+     * the workers whose lists changed. Returns the owned ranges of every worker.
+     */
+    Map<String, List<SegmentRange>> rebalance();
+
+    /**
+     * Splits and merges ranges, then rebalances. {@code merges} holds the parents of the sibling pairs to join.
+     */
+    Map<String, List<SegmentRange>> resize(Collection<SegmentRange> splits, Collection<SegmentRange> merges,
+                                           Map<SegmentRange, Long> dueJobs);
 }
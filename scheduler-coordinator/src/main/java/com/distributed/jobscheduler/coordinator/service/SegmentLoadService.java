@@ -0,0 +1,158 @@
+package com.distributed.jobscheduler.coordinator.service;
+
+import com.distributed.jobscheduler.common.dto.SegmentRange;
+import com.distributed.jobscheduler.common.dto.SegmentSlotBacklog;
+import com.distributed.jobscheduler.common.enums.WorkerStatus;
+import com.distributed.jobscheduler.coordinator.client.JobStoreClient;
+import com.distributed.jobscheduler.coordinator.config.SegmentConfig;
+import com.distributed.jobscheduler.coordinator.election.LeaderElection;
+import com.distributed.jobscheduler.coordinator.entity.SchedulerWorkerEntity;
+import com.distributed.jobscheduler.coordinator.entity.SegmentAssignmentEntity;
+import com.distributed.jobscheduler.coordinator.repository.SchedulerWorkerRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Splits segment ranges that hold too many of the jobs due soon, or that belong to a worker whose scans run over
+ * target, and merges sibling ranges back once they have cooled down. Splits only halve a range, so the lower half
+ * stays with its owner and only the upper half may move.
+ */
+@Service
+@RequiredArgsConstructor
+public class SegmentLoadService {
+
+    private static final Logger log = LoggerFactory.getLogger(SegmentLoadService.class);
+
+    private final JobStoreClient jobStoreClient;
+    private final SegmentAssignmentService segmentAssignmentService;
+    private final SchedulerWorkerRepository schedulerWorkerRepository;
+    private final SegmentConfig segmentConfig;
+    private final LeaderElection leaderElection;
+
+    @Scheduled(fixedDelayString = "${coordinator.segments.load-check-millis:30000}")
+    public void checkLoad() {
+        if (segmentConfig.getJobStoreUrl() == null || !leaderElection.isLeader()) {
+            return;
+        }
+        List<SchedulerWorkerEntity> online = schedulerWorkerRepository.findByStatus(WorkerStatus.ONLINE);
+        if (online.isEmpty()) {
+            return;
+        }
+        List<SegmentSlotBacklog> backlog = jobStoreClient.getDueBacklog(
+                Instant.now().plusMillis(segmentConfig.getLoadLookaheadMillis()));
+        if (backlog == null) {
+            return;
+        }
+        long[][] slotDue = toSlotDue(backlog);
+
+        Map<SegmentRange, Long> due = new HashMap<>();
+        Map<SegmentRange, String> owners = new HashMap<>();
+        long totalDue = 0;
+        for (SegmentAssignmentEntity assignment : segmentAssignmentService.getAssignments()) {
+            SegmentRange range = assignment.toRange();
+            long rangeDue = dueIn(slotDue, range);
+            due.put(range, rangeDue);
+            owners.put(range, assignment.getWorkerId());
+            totalDue += rangeDue;
+        }
+        long splitThreshold = Math.max(segmentConfig.getMinSplitDueJobs(),
+                (long) (totalDue / online.size() * segmentConfig.getSplitShare()));
+        long mergeThreshold = (long) (splitThreshold * segmentConfig.getMergeRatio());
+        Set<String> slowWorkers = new HashSet<>();
+        for (SchedulerWorkerEntity worker : online) {
+            if (worker.getLastScanMillis() != null
+                    && worker.getLastScanMillis() > segmentConfig.getScanTimeTargetMillis()) {
+                slowWorkers.add(worker.getWorkerId());
+            }
+        }
+
+        int maxResizes = segmentConfig.getMaxResizesPerCheck();
+        Set<SegmentRange> splits = new LinkedHashSet<>();
+        due.entrySet().stream()
+                .filter(entry -> entry.getValue() > splitThreshold && entry.getKey().width() > 1)
+                .sorted(Map.Entry.<SegmentRange, Long>comparingByValue().reversed())
+                .limit(maxResizes)
+                .forEach(entry -> splits.add(entry.getKey()));
+        for (String workerId : slowWorkers) {
+            SegmentRange hottest = hottestSplittable(workerId, due, owners, mergeThreshold);
+            if (hottest != null && splits.size() < maxResizes) {
+                splits.add(hottest);
+            }
+        }
+
+        List<SegmentRange> merges = new ArrayList<>();
+        for (Map.Entry<SegmentRange, Long> entry : due.entrySet()) {
+            SegmentRange lower = entry.getKey();
+            if (splits.size() + merges.size() >= maxResizes) {
+                break;
+            }
+            if (lower.isWhole() || !lower.parent().lowerHalf().equals(lower)) {
+                continue;
+            }
+            SegmentRange upper = lower.parent().upperHalf();
+            Long upperDue = due.get(upper);
+            // A slow owner keeps its ranges split, or the next check would just split them again
+            if (upperDue != null && entry.getValue() + upperDue < mergeThreshold
+                    && !splits.contains(lower) && !splits.contains(upper)
+                    && !slowWorkers.contains(owners.get(lower)) && !slowWorkers.contains(owners.get(upper))) {
+                merges.add(lower.parent());
+            }
+        }
+
+        if (!splits.isEmpty() || !merges.isEmpty()) {
+            log.info("Resizing segment ranges: {} due jobs, split threshold {}, splitting {}, merging {}",
+                    totalDue, splitThreshold, splits, merges);
+        }
+        segmentAssignmentService.resize(splits, merges, due);
+    }
+
+    private long[][] toSlotDue(List<SegmentSlotBacklog> backlog) {
+        long[][] slotDue = new long[segmentConfig.getTotalSegments()][SegmentRange.SLOTS];
+        for (SegmentSlotBacklog entry : backlog) {
+            if (entry.getSegment() == null || entry.getSlot() == null || entry.getDueJobs() == null
+                    || entry.getSegment() < 0 || entry.getSegment() >= slotDue.length
+                    || entry.getSlot() < 0 || entry.getSlot() >= SegmentRange.SLOTS) {
+                continue;
+            }
+            slotDue[entry.getSegment()][entry.getSlot()] += entry.getDueJobs();
+        }
+        return slotDue;
+    }
+
+    private static long dueIn(long[][] slotDue, SegmentRange range) {
+        if (range.segment() >= slotDue.length) {
+            return 0;
+        }
+        long sum = 0;
+        for (int slot = range.fromSlot(); slot < range.toSlot(); slot++) {
+            sum += slotDue[range.segment()][slot];
+        }
+        return sum;
+    }
+
+    private static SegmentRange hottestSplittable(String workerId, Map<SegmentRange, Long> due,
+                                                  Map<SegmentRange, String> owners, long minDue) {
+        SegmentRange hottest = null;
+        long hottestDue = minDue;
+        for (Map.Entry<SegmentRange, Long> entry : due.entrySet()) {
+            if (workerId.equals(owners.get(entry.getKey())) && entry.getKey().width() > 1
+                    && entry.getValue() > hottestDue) {
+                hottest = entry.getKey();
+                hottestDue = entry.getValue();
+            }
+        }
+        return hottest;
+    }
+}
@@ -0,0 +1,87 @@
+package com.distributed.jobscheduler.coordinator.service;
+
+import com.distributed.jobscheduler.common.enums.WorkerStatus;
+import com.distributed.jobscheduler.coordinator.config.SegmentConfig;
+import com.distributed.jobscheduler.coordinator.election.LeaderElection;
+import com.distributed.jobscheduler.coordinator.entity.SchedulerWorkerEntity;
+import com.distributed.jobscheduler.coordinator.repository.SchedulerWorkerRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Takes scheduler workers that stopped sending heartbeats out of the assignment and rebalances segments whenever
+ * the set of online workers or their capacities change. Runs on the leader only.
+ */
+@Service
+@RequiredArgsConstructor
+public class SegmentRebalanceService {
+
+    private static final Logger log = LoggerFactory.getLogger(SegmentRebalanceService.class);
+
+    private final SchedulerWorkerRepository schedulerWorkerRepository;
+    private final SchedulerWorkerService schedulerWorkerService;
+    private final SegmentAssignmentService segmentAssignmentService;
+    private final SegmentConfig segmentConfig;
+    private final TransactionTemplate transactionTemplate;
+    private final LeaderElection leaderElection;
+    private String lastMembership;
+    private long lastRebalanceMillis;
+
+    @Scheduled(fixedDelayString = "${coordinator.segments.membership-check-millis:1000}")
+    public void checkMembership() {
+        if (!leaderElection.isLeader()) {
+            // Rebalance straight away on becoming leader
+            lastMembership = null;
+            return;
+        }
+        String membership = transactionTemplate.execute(status -> expireStaleWorkers());
+        long now = System.currentTimeMillis();
+        boolean changed = !membership.equals(lastMembership);
+        if (!changed && now - lastRebalanceMillis < segmentConfig.getRebalanceIntervalMillis()) {
+            return;
+        }
+        if (changed) {
+            log.info("Scheduler worker membership changed: [{}]", membership);
+        }
+        segmentAssignmentService.rebalance();
+        lastMembership = membership;
+        lastRebalanceMillis = now;
+    }
+
+    /**
+     * Marks workers without a recent heartbeat offline and returns the remaining members with their capacities.
+     * Heartbeats received by this node are read from memory; the stored timestamp covers workers that beat to
+     * another coordinator node and lags it by at most one heartbeat flush.
+     */
+    private String expireStaleWorkers() {
+        long cutoff = System.currentTimeMillis() - segmentConfig.getHeartbeatTimeoutMillis();
+        List<SchedulerWorkerEntity> online = schedulerWorkerRepository.findByStatus(WorkerStatus.ONLINE);
+        for (SchedulerWorkerEntity worker : online) {
+            if (worker.getLastHeartbeat() == null) {
+                continue;
+            }
+            long lastBeat = Math.max(worker.getLastHeartbeat().toEpochMilli(),
+                    schedulerWorkerService.getLastHeartbeatMillis(worker.getWorkerId()));
+            if (lastBeat < cutoff) {
+                log.warn("Scheduler worker {} missed heartbeats since {}", worker.getWorkerId(),
+                        Instant.ofEpochMilli(lastBeat));
+                worker.setStatus(WorkerStatus.OFFLINE);
+                schedulerWorkerRepository.save(worker);
+                schedulerWorkerService.evictHeartbeats(worker.getWorkerId());
+            }
+        }
+        return online.stream()
+                .filter(worker -> worker.getStatus() == WorkerStatus.ONLINE)
+                .map(worker -> worker.getWorkerId() + ":" + worker.getCapacity())
+                .sorted()
+                .collect(Collectors.joining(","));
+    }
+}
@@ -1,14 +1,23 @@
 package com.distributed.jobscheduler.coordinator.service.impl;
 
+import com.distributed.jobscheduler.common.liveness.HeartbeatFlusher;
+import com.distributed.jobscheduler.common.liveness.LivenessTable;
+import com.distributed.jobscheduler.coordinator.election.LeaderElection;
 import com.distributed.jobscheduler.coordinator.entity.CoordinatorNodeEntity;
 import com.distributed.jobscheduler.coordinator.repository.CoordinatorNodeRepository;
 import com.distributed.jobscheduler.coordinator.service.CoordinatorService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.Timestamp;
 import java.time.Instant;
 
 @Service
@@ -16,8 +25,25 @@ import java.time.Instant;
 public class CoordinatorServiceImpl implements CoordinatorService {
 
     private static final Logger log = LoggerFactory.getLogger(CoordinatorServiceImpl.class);
+    private static final String FLUSH_SQL =
+            "UPDATE coordinator_nodes SET last_heartbeat = ?, updated_at = ? WHERE node_id = ?";
 
     private final CoordinatorNodeRepository coordinatorNodeRepository;
+    private final LeaderElection leaderElection;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final LivenessTable liveness = new LivenessTable();
+    private HeartbeatFlusher heartbeatFlusher;
+
+    @PostConstruct
+    public void init() {
+        heartbeatFlusher = new HeartbeatFlusher(liveness, "coordinator_nodes", FLUSH_SQL, (ps, beat, flushedAt) -> {
+            ps.setTimestamp(1, new Timestamp(beat.lastBeatMillis()));
+            ps.setTimestamp(2, flushedAt);
+            ps.setString(3, beat.id());
+        }, jdbcTemplate, transactionTemplate, meterRegistry);
+    }
 
     @Override
     @Transactional
@@ -32,30 +58,49 @@ public class CoordinatorServiceImpl implements CoordinatorService {
                 });
 
         node.setLastHeartbeat(Instant.now());
-
-        node = coordinatorNodeRepository.save(node);
-
-        if (!coordinatorNodeRepository.findByLeader(true).isPresent()) {
-            node.setLeader(true);
-            node = coordinatorNodeRepository.save(node);
-            log.info("Node {} elected as leader", nodeId);
+        // Leadership is decided by the election; the flag only mirrors it for listing
+        boolean leader = nodeId.equals(leaderElection.getLeaderId());
+        if (leader != node.isLeader()) {
+            log.info("Node {} is {} coordinator leader", nodeId, leader ? "now" : "no longer");
         }
+        node.setLeader(leader);
 
-        return node;
+        CoordinatorNodeEntity saved = coordinatorNodeRepository.save(node);
+        liveness.register(nodeId, saved.getLastHeartbeat().toEpochMilli());
+        return saved;
     }
 
     @Override
     public CoordinatorNodeEntity getLeader() {
-        return coordinatorNodeRepository.findByLeader(true)
-                .orElseThrow(() -> new IllegalStateException("No leader elected"));
+        String leaderId = leaderElection.getLeaderId();
+        if (leaderId == null) {
+            throw new IllegalStateException("No leader elected");
+        }
+        CoordinatorNodeEntity leader = coordinatorNodeRepository.findByNodeId(leaderId)
+                .orElseGet(() -> {
+                    CoordinatorNodeEntity unregistered = new CoordinatorNodeEntity();
+                    unregistered.setNodeId(leaderId);
+                    return unregistered;
+                });
+        leader.setLeader(true);
+        return leader;
     }
 
     @Override
-    @Transactional
     public void heartbeat(String nodeId) {
+        long now = System.currentTimeMillis();
+        if (liveness.beat(nodeId, now) != null) {
+            return;
+        }
+        // Unregistered nodes are ignored, as before; known ones only need their row looked up once
         coordinatorNodeRepository.findByNodeId(nodeId).ifPresent(node -> {
-            node.setLastHeartbeat(Instant.now());
-            coordinatorNodeRepository.save(node);
+            liveness.register(nodeId, node.getLastHeartbeat() != null ? node.getLastHeartbeat().toEpochMilli() : 0);
+            liveness.beat(nodeId, now);
         });
     }
+
+    @Scheduled(fixedDelayString = "${coordinator.heartbeats.flush-interval-millis:2000}")
+    public void flushHeartbeats() {
+        heartbeatFlusher.flush();
+    }
 }
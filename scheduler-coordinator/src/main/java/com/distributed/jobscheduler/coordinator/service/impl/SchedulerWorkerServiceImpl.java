@@ -1,51 +1,129 @@
 package com.distributed.jobscheduler.coordinator.service.impl;
 
 import com.distributed.jobscheduler.common.enums.WorkerStatus;
+import com.distributed.jobscheduler.common.liveness.HeartbeatFlusher;
+import com.distributed.jobscheduler.common.liveness.LivenessTable;
 import com.distributed.jobscheduler.coordinator.entity.SchedulerWorkerEntity;
 import com.distributed.jobscheduler.coordinator.repository.SchedulerWorkerRepository;
 import com.distributed.jobscheduler.coordinator.service.SchedulerWorkerService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.Timestamp;
+import java.sql.Types;
 import java.time.Instant;
 import java.util.List;
 
+/**
+ * Heartbeats only touch the in-memory {@link LivenessTable}; a worker's row is read once, when the first beat after a
+ * restart or an eviction arrives, and the beats are written back in batches every {@code flush-interval-millis}.
+ */
 @Service
 @RequiredArgsConstructor
 public class SchedulerWorkerServiceImpl implements SchedulerWorkerService {
 
+    private static final String FLUSH_SQL = "UPDATE scheduler_workers SET last_heartbeat = ?, "
+            + "last_scan_millis = COALESCE(?, last_scan_millis), updated_at = ? WHERE worker_id = ?";
+
     private final SchedulerWorkerRepository schedulerWorkerRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final LivenessTable liveness = new LivenessTable();
+    private HeartbeatFlusher heartbeatFlusher;
+
+    @PostConstruct
+    public void init() {
+        heartbeatFlusher = new HeartbeatFlusher(liveness, "scheduler_workers", FLUSH_SQL, (ps, beat, flushedAt) -> {
+            ps.setTimestamp(1, new Timestamp(beat.lastBeatMillis()));
+            if (beat.scanMillis() >= 0) {
+                ps.setLong(2, beat.scanMillis());
+            } else {
+                ps.setNull(2, Types.BIGINT);
+            }
+            ps.setTimestamp(3, flushedAt);
+            ps.setString(4, beat.id());
+        }, jdbcTemplate, transactionTemplate, meterRegistry);
+    }
 
     @Override
     @Transactional
-    public SchedulerWorkerEntity registerWorker(String workerId) {
+    public SchedulerWorkerEntity registerWorker(String workerId, String url, Integer capacity) {
         SchedulerWorkerEntity worker = schedulerWorkerRepository.findByWorkerId(workerId)
                 .orElseGet(() -> {
                     SchedulerWorkerEntity newWorker = new SchedulerWorkerEntity();
                     newWorker.setWorkerId(workerId);
-                    newWorker.setStatus(WorkerStatus.ONLINE);
                     return newWorker;
                 });
 
+        // Re-registering brings a worker back into the segment assignment
+        worker.setStatus(WorkerStatus.ONLINE);
+        if (url != null) {
+            worker.setUrl(url);
+        }
+        if (capacity != null) {
+            worker.setCapacity(capacity);
+        }
         worker.setLastHeartbeat(Instant.now());
-        return schedulerWorkerRepository.save(worker);
+        SchedulerWorkerEntity saved = schedulerWorkerRepository.save(worker);
+        liveness.register(workerId, saved.getLastHeartbeat().toEpochMilli());
+        return saved;
     }
 
     @Override
-    @Transactional
-    public SchedulerWorkerEntity heartbeat(String workerId) {
-        SchedulerWorkerEntity worker = schedulerWorkerRepository.findByWorkerId(workerId)
-                .orElseThrow(() -> new IllegalArgumentException("Worker not found"));
-        worker.setLastHeartbeat(Instant.now());
-        worker.setStatus(WorkerStatus.ONLINE);
-        return schedulerWorkerRepository.save(worker);
+    public void heartbeat(String workerId, Long scanMillis) {
+        LivenessTable.Member member = liveness.get(workerId);
+        if (member == null) {
+            member = reload(workerId);
+        }
+        if (scanMillis != null) {
+            member.setScanMillis(scanMillis);
+        }
+        liveness.beat(workerId, System.currentTimeMillis());
     }
 
     @Override
     public List<SchedulerWorkerEntity> getActiveWorkers() {
-        return schedulerWorkerRepository.findAll().stream()
-                .filter(w -> w.getStatus() == WorkerStatus.ONLINE)
-                .toList();
+        return schedulerWorkerRepository.findByStatus(WorkerStatus.ONLINE);
+    }
+
+    @Override
+    public long getLastHeartbeatMillis(String workerId) {
+        return liveness.lastBeatMillis(workerId);
+    }
+
+    @Override
+    public void evictHeartbeats(String workerId) {
+        liveness.remove(workerId);
+    }
+
+    @Scheduled(fixedDelayString = "${coordinator.heartbeats.flush-interval-millis:2000}")
+    public void flushHeartbeats() {
+        heartbeatFlusher.flush();
+    }
+
+    /**
+     * Slow path for a worker this node has no liveness for: loads its row, putting it back online if it had been
+     * taken out of the assignment, which the next membership check then picks up.
+     */
+    private LivenessTable.Member reload(String workerId) {
+        return transactionTemplate.execute(status -> {
+            SchedulerWorkerEntity worker = schedulerWorkerRepository.findByWorkerId(workerId)
+                    .orElseThrow(() -> new IllegalArgumentException("Worker not found"));
+            Instant now = Instant.now();
+            if (worker.getStatus() != WorkerStatus.ONLINE) {
+                worker.setStatus(WorkerStatus.ONLINE);
+                worker.setLastHeartbeat(now);
+                schedulerWorkerRepository.save(worker);
+            }
+            return liveness.register(workerId, worker.getLastHeartbeat() != null
+                    ? worker.getLastHeartbeat().toEpochMilli() : now.toEpochMilli());
+        });
     }
 }
@@ -1,50 +1,327 @@
 package com.distributed.jobscheduler.coordinator.service.impl;
 
+import com.distributed.jobscheduler.common.dto.SegmentRange;
+import com.distributed.jobscheduler.common.election.FencingToken;
+import com.distributed.jobscheduler.common.enums.WorkerStatus;
+import com.distributed.jobscheduler.common.metrics.SchedulerMetrics;
+import com.distributed.jobscheduler.coordinator.assignment.WeightedRendezvousHash;
+import com.distributed.jobscheduler.coordinator.client.SchedulerWorkerClient;
+import com.distributed.jobscheduler.coordinator.config.SegmentConfig;
+import com.distributed.jobscheduler.coordinator.election.LeaderElection;
+import com.distributed.jobscheduler.coordinator.entity.SchedulerWorkerEntity;
 import com.distributed.jobscheduler.coordinator.entity.SegmentAssignmentEntity;
+import com.distributed.jobscheduler.coordinator.repository.SchedulerWorkerRepository;
 import com.distributed.jobscheduler.coordinator.repository.SegmentAssignmentRepository;
+import com.distributed.jobscheduler.coordinator.service.SchedulerWorkerService;
 import com.distributed.jobscheduler.coordinator.service.SegmentAssignmentService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Assigns segment ranges to the online scheduler workers by {@link WeightedRendezvousHash}, weighted by each worker's
+ * capacity. A segment is one range unless it has been split by slot; see {@link SegmentRange}. A membership change
+ * moves only the ranges whose owner changed, so workers keep their warm ranges.
+ */
 @Service
 @RequiredArgsConstructor
 public class SegmentAssignmentServiceImpl implements SegmentAssignmentService {
 
-    private static final int TOTAL_SEGMENTS = 100;
+    private static final Logger log = LoggerFactory.getLogger(SegmentAssignmentServiceImpl.class);
+
     private final SegmentAssignmentRepository segmentAssignmentRepository;
+    private final SchedulerWorkerRepository schedulerWorkerRepository;
+    private final SchedulerWorkerService schedulerWorkerService;
+    private final SchedulerWorkerClient schedulerWorkerClient;
+    private final SegmentConfig segmentConfig;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final LeaderElection leaderElection;
+    // workerId -> range list the worker last accepted from us, within the term of pushedToken
+    private final Map<String, List<SegmentRange>> pushedRanges = new ConcurrentHashMap<>();
+    private long pushedToken = FencingToken.NONE;
+    private Timer assignTimer;
+    private Timer rebalanceTimer;
+    private Counter movedSegments;
+    private Counter splitRanges;
+    private Counter mergedRanges;
+
+    @PostConstruct
+    public void init() {
+        assignTimer = SchedulerMetrics.timer(meterRegistry, SchedulerMetrics.SEGMENT_ASSIGN,
+                "Time to add a scheduler worker to the segment assignment");
+        rebalanceTimer = SchedulerMetrics.timer(meterRegistry, SchedulerMetrics.SEGMENT_REBALANCE,
+                "Time to recompute segment ownership and push the changes to workers");
+        movedSegments = Counter.builder(SchedulerMetrics.SEGMENTS_MOVED)
+                .description("Segment ranges that changed owner in a rebalance")
+                .register(meterRegistry);
+        splitRanges = Counter.builder(SchedulerMetrics.SEGMENT_SPLITS)
+                .description("Segment ranges split in two because they held too many due jobs")
+                .register(meterRegistry);
+        mergedRanges = Counter.builder(SchedulerMetrics.SEGMENT_MERGES)
+                .description("Pairs of cold segment ranges merged back into one")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Adds the worker to the assignment with {@code desiredSegments} as its capacity weight and returns the ranges
+     * it owns after rebalancing.
+     */
+    @Override
+    public List<SegmentRange> assignSegments(String workerId, int desiredSegments) {
+        long started = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            SchedulerWorkerEntity worker = schedulerWorkerRepository.findByWorkerId(workerId)
+                    .orElseGet(() -> {
+                        SchedulerWorkerEntity newWorker = new SchedulerWorkerEntity();
+                        newWorker.setWorkerId(workerId);
+                        return newWorker;
+                    });
+            worker.setStatus(WorkerStatus.ONLINE);
+            worker.setCapacity(Math.max(1, desiredSegments));
+            worker.setLastHeartbeat(Instant.now());
+            schedulerWorkerRepository.save(worker);
+        });
+        List<SegmentRange> ranges = rebalance().getOrDefault(workerId, List.of());
+        SchedulerMetrics.recordSince(assignTimer, started);
+        return ranges;
+    }
+
+    @Override
+    public void releaseSegments(String workerId) {
+        transactionTemplate.executeWithoutResult(status ->
+                schedulerWorkerRepository.findByWorkerId(workerId).ifPresent(worker -> {
+                    worker.setStatus(WorkerStatus.OFFLINE);
+                    schedulerWorkerRepository.save(worker);
+                }));
+        schedulerWorkerService.evictHeartbeats(workerId);
+        rebalance();
+    }
+
+    @Override
+    public List<SegmentRange> getSegments(String workerId) {
+        return segmentAssignmentRepository.findByWorkerId(workerId).stream()
+                .map(SegmentAssignmentEntity::toRange)
+                .sorted(Comparator.comparingLong(SegmentRange::key))
+                .toList();
+    }
 
     @Override
-    @Transactional
-    public List<Integer> assignSegments(String workerId, int desiredSegments) {
-        List<SegmentAssignmentEntity> allAssignments = segmentAssignmentRepository.findAll();
-        Set<Integer> assignedSegments = allAssignments.stream()
-                .map(SegmentAssignmentEntity::getSegment)
-                .collect(Collectors.toSet());
+    public List<SegmentAssignmentEntity> getAssignments() {
+        return segmentAssignmentRepository.findAll();
+    }
+
+    /**
+     * Only the leader writes and pushes ownership; on any other node this returns the stored ownership unchanged.
+     */
+    @Override
+    public synchronized Map<String, List<SegmentRange>> rebalance() {
+        long token = leaderElection.getFencingToken();
+        if (token == FencingToken.NONE) {
+            return storedOwnership();
+        }
+        if (token != pushedToken) {
+            // A new term: workers may hold whatever another leader pushed in between
+            pushedRanges.clear();
+            pushedToken = token;
+        }
+        long started = System.nanoTime();
+        Map<String, List<SegmentRange>> ownership = transactionTemplate.execute(status ->
+                leaderElection.confirmLeadership() ? applyOwnership() : null);
+        if (ownership == null) {
+            return storedOwnership();
+        }
+        pushChanges(ownership, token);
+        SchedulerMetrics.recordSince(rebalanceTimer, started);
+        return ownership;
+    }
+
+    /**
+     * Splits each range of {@code splits} into its two halves and joins each pair of halves of {@code merges} back
+     * into one range, records the due-job counts of {@code dueJobs}, then rebalances. The lower half of a split keeps
+     * its row and its owner until the rebalance places the upper half.
+     */
+    @Override
+    public synchronized Map<String, List<SegmentRange>> resize(Collection<SegmentRange> splits,
+                                                               Collection<SegmentRange> merges,
+                                                               Map<SegmentRange, Long> dueJobs) {
+        if (!leaderElection.isLeader()) {
+            return storedOwnership();
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<SegmentRange, SegmentAssignmentEntity> rows = new HashMap<>();
+            for (SegmentAssignmentEntity assignment : segmentAssignmentRepository.findAll()) {
+                rows.put(assignment.toRange(), assignment);
+            }
+            for (SegmentRange range : splits) {
+                SegmentAssignmentEntity lower = rows.remove(range);
+                if (lower == null || range.width() < 2) {
+                    continue;
+                }
+                SegmentRange upperHalf = range.upperHalf();
+                lower.setToSlot(upperHalf.fromSlot());
+                SegmentAssignmentEntity upper = new SegmentAssignmentEntity();
+                upper.setSegment(upperHalf.segment());
+                upper.setFromSlot(upperHalf.fromSlot());
+                upper.setToSlot(upperHalf.toSlot());
+                upper.setWorkerId(lower.getWorkerId());
+                rows.put(range.lowerHalf(), lower);
+                rows.put(upperHalf, upper);
+                splitRanges.increment();
+            }
+            List<SegmentAssignmentEntity> merged = new ArrayList<>();
+            for (SegmentRange parent : merges) {
+                SegmentAssignmentEntity lower = rows.get(parent.lowerHalf());
+                SegmentAssignmentEntity upper = rows.get(parent.upperHalf());
+                if (lower == null || upper == null) {
+                    continue;
+                }
+                rows.remove(parent.lowerHalf());
+                rows.remove(parent.upperHalf());
+                lower.setToSlot(parent.toSlot());
+                rows.put(parent, lower);
+                merged.add(upper);
+                mergedRanges.increment();
+            }
+            segmentAssignmentRepository.deleteAll(merged);
+            // Flush the deletes first so a merged upper half never collides with a row written in the same cycle
+            segmentAssignmentRepository.flush();
+            for (Map.Entry<SegmentRange, SegmentAssignmentEntity> entry : rows.entrySet()) {
+                entry.getValue().setDueJobs(dueJobs.get(entry.getKey()));
+            }
+            segmentAssignmentRepository.saveAll(rows.values());
+        });
+        if (!splits.isEmpty() || !merges.isEmpty()) {
+            log.info("Split {} and merged {} segment ranges", splits.size(), merges.size());
+        }
+        return rebalance();
+    }
 
-        List<Integer> newAssignments = new ArrayList<>();
-        for (int i = 0; i < TOTAL_SEGMENTS && newAssignments.size() < desiredSegments; i++) {
-            if (!assignedSegments.contains(i)) {
-                SegmentAssignmentEntity assignment = new SegmentAssignmentEntity();
-                assignment.setWorkerId(workerId);
-                assignment.setSegment(i);
-                segmentAssignmentRepository.save(assignment);
-                newAssignments.add(i);
+    private Map<String, List<SegmentRange>> applyOwnership() {
+        Map<String, Integer> weights = new HashMap<>();
+        for (SchedulerWorkerEntity worker : schedulerWorkerRepository.findByStatus(WorkerStatus.ONLINE)) {
+            weights.put(worker.getWorkerId(), worker.getCapacity());
+        }
+        WeightedRendezvousHash hash = new WeightedRendezvousHash(weights);
+
+        Map<Integer, List<SegmentAssignmentEntity>> bySegment = new HashMap<>();
+        for (SegmentAssignmentEntity assignment : segmentAssignmentRepository.findAll()) {
+            bySegment.computeIfAbsent(assignment.getSegment(), segment -> new ArrayList<>()).add(assignment);
+        }
+        List<SegmentAssignmentEntity> stale = new ArrayList<>();
+        List<SegmentAssignmentEntity> changed = new ArrayList<>();
+        Map<String, List<SegmentRange>> ownership = new TreeMap<>();
+        for (int segment = 0; segment < segmentConfig.getTotalSegments(); segment++) {
+            List<SegmentAssignmentEntity> rows = bySegment.remove(segment);
+            if (rows == null || !tilesSegment(rows)) {
+                // Missing, or left half-split by an earlier failure: start over from the whole segment
+                if (rows != null) {
+                    stale.addAll(rows);
+                }
+                SegmentAssignmentEntity whole = new SegmentAssignmentEntity();
+                whole.setSegment(segment);
+                rows = List.of(whole);
+            }
+            for (SegmentAssignmentEntity assignment : rows) {
+                SegmentRange range = assignment.toRange();
+                String owner = hash.ownerOf(range.key());
+                if (owner == null) {
+                    if (assignment.getId() != null) {
+                        stale.add(assignment);
+                    }
+                    continue;
+                }
+                ownership.computeIfAbsent(owner, workerId -> new ArrayList<>()).add(range);
+                if (!owner.equals(assignment.getWorkerId())) {
+                    assignment.setWorkerId(owner);
+                    changed.add(assignment);
+                }
             }
         }
+        // Segments beyond the configured count
+        bySegment.values().forEach(stale::addAll);
+        segmentAssignmentRepository.deleteAll(stale);
+        segmentAssignmentRepository.flush();
+        segmentAssignmentRepository.saveAll(changed);
 
-        return newAssignments;
+        ownership.values().forEach(ranges -> ranges.sort(Comparator.comparingLong(SegmentRange::key)));
+        if (!changed.isEmpty()) {
+            movedSegments.increment(changed.size());
+            log.info("Moved {} segment ranges across {} workers", changed.size(), weights.size());
+        }
+        return ownership;
     }
 
-    @Override
-    @Transactional
-    public void releaseSegments(String workerId) {
-        List<SegmentAssignmentEntity> assignments = segmentAssignmentRepository.findByWorkerId(workerId);
-        segmentAssignmentRepository.deleteAll(assignments);
+    private Map<String, List<SegmentRange>> storedOwnership() {
+        Map<String, List<SegmentRange>> ownership = new TreeMap<>();
+        for (SegmentAssignmentEntity assignment : segmentAssignmentRepository.findAll()) {
+            ownership.computeIfAbsent(assignment.getWorkerId(), workerId -> new ArrayList<>())
+                    .add(assignment.toRange());
+        }
+        ownership.values().forEach(ranges -> ranges.sort(Comparator.comparingLong(SegmentRange::key)));
+        return ownership;
+    }
+
+    private static boolean tilesSegment(List<SegmentAssignmentEntity> rows) {
+        rows.sort(Comparator.comparing(SegmentAssignmentEntity::getFromSlot));
+        int next = 0;
+        for (SegmentAssignmentEntity row : rows) {
+            if (row.getFromSlot() != next || row.getToSlot() <= next) {
+                return false;
+            }
+            next = row.getToSlot();
+        }
+        return next == SegmentRange.SLOTS;
+    }
+
+    /**
+     * Sends every worker whose range list differs from what it last accepted its new list. Workers that give up
+     * ranges go first, so a range is never scanned by its old and new owner for longer than the push takes.
+     */
+    private void pushChanges(Map<String, List<SegmentRange>> ownership, long fencingToken) {
+        Set<String> workerIds = new HashSet<>(ownership.keySet());
+        workerIds.addAll(pushedRanges.keySet());
+        List<SchedulerWorkerEntity> targets = new ArrayList<>();
+        for (SchedulerWorkerEntity worker : schedulerWorkerRepository.findAll()) {
+            if (workerIds.contains(worker.getWorkerId()) && worker.getUrl() != null
+                    && !ownership.getOrDefault(worker.getWorkerId(), List.of())
+                    .equals(pushedRanges.get(worker.getWorkerId()))) {
+                targets.add(worker);
+            }
+        }
+        targets.sort(Comparator.comparing(worker -> !losesRanges(worker.getWorkerId(), ownership)));
+
+        for (SchedulerWorkerEntity worker : targets) {
+            List<SegmentRange> ranges = ownership.getOrDefault(worker.getWorkerId(), List.of());
+            if (schedulerWorkerClient.pushRanges(worker.getWorkerId(), worker.getUrl(), ranges, fencingToken)) {
+                pushedRanges.put(worker.getWorkerId(), ranges);
+            } else if (worker.getStatus() != WorkerStatus.ONLINE) {
+                // A departed worker is told again when it registers; no point retrying every cycle
+                pushedRanges.remove(worker.getWorkerId());
+            }
+        }
+    }
+
+    private boolean losesRanges(String workerId, Map<String, List<SegmentRange>> ownership) {
+        List<SegmentRange> previous = pushedRanges.get(workerId);
+        return previous != null && !ownership.getOrDefault(workerId, List.of()).containsAll(previous);
     }
 }
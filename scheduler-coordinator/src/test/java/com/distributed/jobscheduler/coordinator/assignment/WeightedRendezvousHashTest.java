@@ -0,0 +1,103 @@
+package com.distributed.jobscheduler.coordinator.assignment;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class WeightedRendezvousHashTest {
+
+    private static final int KEYS = 100_000;
+
+    @Test
+    void sharesFollowTheWeights() {
+        WeightedRendezvousHash hash = new WeightedRendezvousHash(Map.of("worker-1", 1, "worker-2", 1, "worker-3", 2));
+
+        Map<String, Integer> owned = ownership(hash);
+
+        assertThat(owned.get("worker-1") / (double) KEYS).isCloseTo(0.25, within(0.02));
+        assertThat(owned.get("worker-2") / (double) KEYS).isCloseTo(0.25, within(0.02));
+        assertThat(owned.get("worker-3") / (double) KEYS).isCloseTo(0.50, within(0.02));
+    }
+
+    @Test
+    void addingAWorkerOnlyMovesKeysToIt() {
+        Map<String, Integer> weights = new HashMap<>(Map.of("worker-1", 4, "worker-2", 4, "worker-3", 4));
+        WeightedRendezvousHash before = new WeightedRendezvousHash(weights);
+        weights.put("worker-4", 4);
+        WeightedRendezvousHash after = new WeightedRendezvousHash(weights);
+
+        int moved = 0;
+        for (long key = 0; key < KEYS; key++) {
+            String owner = after.ownerOf(key);
+            if (!owner.equals(before.ownerOf(key))) {
+                assertThat(owner).isEqualTo("worker-4");
+                moved++;
+            }
+        }
+        // The newcomer takes its fair share, a quarter, and nothing else changes hands
+        assertThat(moved / (double) KEYS).isCloseTo(0.25, within(0.02));
+    }
+
+    @Test
+    void removingAWorkerOnlyMovesTheKeysItOwned() {
+        Map<String, Integer> weights = new HashMap<>(Map.of("worker-1", 1, "worker-2", 2, "worker-3", 3));
+        WeightedRendezvousHash before = new WeightedRendezvousHash(weights);
+        weights.remove("worker-2");
+        WeightedRendezvousHash after = new WeightedRendezvousHash(weights);
+
+        for (long key = 0; key < KEYS; key++) {
+            String previous = before.ownerOf(key);
+            if (!previous.equals("worker-2")) {
+                assertThat(after.ownerOf(key)).isEqualTo(previous);
+            }
+        }
+    }
+
+    @Test
+    void raisingOneWeightOnlyMovesKeysToThatWorker() {
+        Map<String, Integer> weights = new HashMap<>(Map.of("worker-1", 2, "worker-2", 2));
+        WeightedRendezvousHash before = new WeightedRendezvousHash(weights);
+        weights.put("worker-1", 6);
+        WeightedRendezvousHash after = new WeightedRendezvousHash(weights);
+
+        for (long key = 0; key < KEYS; key++) {
+            if (!after.ownerOf(key).equals(before.ownerOf(key))) {
+                assertThat(after.ownerOf(key)).isEqualTo("worker-1");
+            }
+        }
+    }
+
+    @Test
+    void ownerDoesNotDependOnTheOrderWorkersAreGiven() {
+        Map<String, Integer> forward = new LinkedHashMap<>();
+        Map<String, Integer> backward = new LinkedHashMap<>();
+        for (int i = 0; i < 10; i++) {
+            forward.put("worker-" + i, i);
+            backward.put("worker-" + (9 - i), 9 - i);
+        }
+        WeightedRendezvousHash a = new WeightedRendezvousHash(forward);
+        WeightedRendezvousHash b = new WeightedRendezvousHash(backward);
+
+        for (long key = 0; key < 1000; key++) {
+            assertThat(a.ownerOf(key)).isEqualTo(b.ownerOf(key));
+        }
+    }
+
+    @Test
+    void noWorkersMeansNoOwner() {
+        assertThat(new WeightedRendezvousHash(Map.of()).ownerOf(42)).isNull();
+    }
+
+    private static Map<String, Integer> ownership(WeightedRendezvousHash hash) {
+        Map<String, Integer> owned = new HashMap<>();
+        for (long key = 0; key < KEYS; key++) {
+            owned.merge(hash.ownerOf(key), 1, Integer::sum);
+        }
+        return owned;
+    }
+}
@@ -0,0 +1,113 @@
+package com.distributed.jobscheduler.coordinator.election;
+
+import com.distributed.jobscheduler.common.election.FencingToken;
+import com.distributed.jobscheduler.coordinator.config.ElectionConfig;
+import org.apache.curator.test.TestingServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class ZooKeeperLeaderElectionTest {
+
+    private static final Duration ELECTION_TIMEOUT = Duration.ofSeconds(20);
+
+    private TestingServer server;
+    private final List<ZooKeeperLeaderElection> nodes = new ArrayList<>();
+
+    @BeforeEach
+    void startServer() throws Exception {
+        server = new TestingServer(true);
+    }
+
+    @AfterEach
+    void stopServer() throws Exception {
+        for (ZooKeeperLeaderElection node : nodes) {
+            try {
+                node.close();
+            } catch (RuntimeException e) {
+                // Already closed by the test
+            }
+        }
+        server.close();
+    }
+
+    @Test
+    void exactlyOneNodeLeadsAndHoldsAToken() {
+        ZooKeeperLeaderElection first = join("node-a");
+        ZooKeeperLeaderElection second = join("node-b");
+
+        ZooKeeperLeaderElection leader = awaitLeader(first, second);
+        ZooKeeperLeaderElection follower = leader == first ? second : first;
+
+        assertThat(leader.getFencingToken()).isPositive();
+        assertThat(follower.isLeader()).isFalse();
+        assertThat(follower.getFencingToken()).isEqualTo(FencingToken.NONE);
+        await().atMost(ELECTION_TIMEOUT).until(() -> leader.getNodeId().equals(follower.getLeaderId()));
+    }
+
+    @Test
+    void fencingTokensStrictlyIncreaseAcrossFailovers() {
+        ZooKeeperLeaderElection first = join("node-a");
+        ZooKeeperLeaderElection second = join("node-b");
+        ZooKeeperLeaderElection firstLeader = awaitLeader(first, second);
+        long firstToken = firstLeader.getFencingToken();
+
+        firstLeader.close();
+        ZooKeeperLeaderElection survivor = firstLeader == first ? second : first;
+        awaitLeader(survivor);
+        long secondToken = survivor.getFencingToken();
+
+        // The deposed node comes back under its old id; it must not reuse either earlier term
+        ZooKeeperLeaderElection rejoined = join(firstLeader.getNodeId());
+        survivor.close();
+        awaitLeader(rejoined);
+        long thirdToken = rejoined.getFencingToken();
+
+        assertThat(firstLeader.getFencingToken()).isEqualTo(FencingToken.NONE);
+        assertThat(secondToken).isGreaterThan(firstToken);
+        assertThat(thirdToken).isGreaterThan(secondToken);
+    }
+
+    @Test
+    void tokensKeepIncreasingAfterTheEnsembleRestarts() throws Exception {
+        ZooKeeperLeaderElection first = join("node-a");
+        long before = awaitLeader(first).getFencingToken();
+        first.close();
+
+        server.restart();
+        ZooKeeperLeaderElection second = join("node-b");
+
+        assertThat(awaitLeader(second).getFencingToken()).isGreaterThan(before);
+    }
+
+    private ZooKeeperLeaderElection join(String nodeId) {
+        ElectionConfig config = new ElectionConfig();
+        config.setBackend(ElectionBackend.ZOOKEEPER);
+        config.setNodeId(nodeId);
+        config.setZookeeperConnect(server.getConnectString());
+        config.setZookeeperSessionTimeoutMillis(3000);
+        config.setZookeeperConnectionTimeoutMillis(3000);
+        ZooKeeperLeaderElection node = new ZooKeeperLeaderElection(config);
+        node.start();
+        nodes.add(node);
+        return node;
+    }
+
+    private static ZooKeeperLeaderElection awaitLeader(ZooKeeperLeaderElection... candidates) {
+        await().atMost(ELECTION_TIMEOUT)
+                .until(() -> Stream.of(candidates).filter(ZooKeeperLeaderElection::isLeader).count() == 1);
+        ZooKeeperLeaderElection leader = Stream.of(candidates).filter(ZooKeeperLeaderElection::isLeader)
+                .findFirst().orElseThrow();
+        // The token is drawn right after the latch elects the node
+        await().atMost(ELECTION_TIMEOUT).until(() -> leader.getFencingToken() != FencingToken.NONE);
+        return leader;
+    }
+}
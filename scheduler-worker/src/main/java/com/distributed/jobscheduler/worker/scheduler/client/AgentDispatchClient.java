@@ -0,0 +1,300 @@
+package com.distributed.jobscheduler.worker.scheduler.client;
+
+import com.distributed.jobscheduler.common.dto.AgentCapacity;
+import com.distributed.jobscheduler.common.dto.JobDispatchBatchResult;
+import com.distributed.jobscheduler.common.dto.JobDispatchEvent;
+import com.distributed.jobscheduler.common.metrics.SchedulerMetrics;
+import com.distributed.jobscheduler.common.response.ResponseData;
+import com.distributed.jobscheduler.worker.scheduler.config.WorkerConfig;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends dispatch events to worker agents.
+ * All agents share one HTTP/2 client that keeps a multiplexed keep-alive connection per agent; the first capacity
+ * poll upgrades it from HTTP/1.1. Dispatches are asynchronous and bounded by {@code maxInFlight}, and each one goes
+ * to the agent with the most capacity left from its last advertisement.
+ */
+@Component
+@RequiredArgsConstructor
+public class AgentDispatchClient {
+
+    private static final Logger log = LoggerFactory.getLogger(AgentDispatchClient.class);
+
+    private final WorkerConfig workerConfig;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private HttpClient httpClient;
+    private ExecutorService callbackExecutor;
+    private Semaphore inFlight;
+    private List<Agent> agents;
+    private JavaType capacityType;
+    private JavaType batchResultType;
+
+    @PostConstruct
+    public void init() {
+        WorkerConfig.Dispatch config = workerConfig.getDispatch();
+        callbackExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(config.getConnectTimeoutMillis()))
+                .executor(callbackExecutor)
+                .build();
+        inFlight = new Semaphore(config.getMaxInFlight());
+        agents = config.getAgentUrls().stream().map(Agent::new).toList();
+        for (Agent agent : agents) {
+            Gauge.builder(SchedulerMetrics.AGENT_IN_FLIGHT, agent, a -> a.inFlight.get())
+                    .description("Dispatch requests awaiting a response from the agent")
+                    .tag("agent", agent.baseUrl)
+                    .register(meterRegistry);
+            Gauge.builder(SchedulerMetrics.AGENT_HEADROOM, agent,
+                            a -> a.available ? a.advertisedSlots - a.sentSinceAdvertised.get() : 0)
+                    .description("Slots the agent last advertised, less jobs sent to it since")
+                    .tag("agent", agent.baseUrl)
+                    .register(meterRegistry);
+        }
+        capacityType = objectMapper.getTypeFactory()
+                .constructParametricType(ResponseData.class, AgentCapacity.class);
+        batchResultType = objectMapper.getTypeFactory()
+                .constructParametricType(ResponseData.class, JobDispatchBatchResult.class);
+        if (agents.isEmpty()) {
+            log.warn("No worker agents configured, due jobs will stay pending");
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        callbackExecutor.shutdown();
+    }
+
+    /**
+     * Sends {@code event} to the least loaded agent. Blocks while {@code maxInFlight} dispatches are outstanding,
+     * which throttles the scan to what the agents absorb. The future completes with {@code false} when no agent
+     * took the job.
+     */
+    public CompletableFuture<Boolean> dispatch(JobDispatchEvent event) {
+        Agent agent = selectAgent(Set.of());
+        if (agent == null) {
+            log.warn("No worker agent has capacity for job {}", event.getJobId());
+            return CompletableFuture.completedFuture(false);
+        }
+
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(event);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize dispatch event for job {}", event.getJobId(), e);
+            return CompletableFuture.completedFuture(false);
+        }
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.completedFuture(false);
+        }
+
+        agent.inFlight.incrementAndGet();
+        agent.sentSinceAdvertised.incrementAndGet();
+        HttpRequest request = HttpRequest.newBuilder(agent.dispatchUri)
+                .timeout(Duration.ofMillis(workerConfig.getDispatch().getRequestTimeoutMillis()))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .handle((response, error) -> {
+                    inFlight.release();
+                    agent.inFlight.decrementAndGet();
+                    if (error != null) {
+                        agent.available = false;
+                        log.error("Failed to dispatch job {} to {}", event.getJobId(), agent.baseUrl, error);
+                        return false;
+                    }
+                    if (response.statusCode() == 429) {
+                        agent.advertisedSlots = 0;
+                        log.debug("Agent {} is at capacity, job {} not taken", agent.baseUrl, event.getJobId());
+                        return false;
+                    }
+                    if (response.statusCode() / 100 != 2) {
+                        log.error("Agent {} rejected job {} with status {}", agent.baseUrl, event.getJobId(),
+                                response.statusCode());
+                        return false;
+                    }
+                    return true;
+                });
+    }
+
+    /**
+     * Sends {@code events} in as few requests as the agents' capacity allows. Each request carries at most the
+     * chosen agent's headroom; whatever it rejects is re-routed straight away to the next agent with room. The
+     * future completes with the indexes of the accepted events.
+     */
+    public CompletableFuture<BitSet> dispatchBatch(List<JobDispatchEvent> events) {
+        List<Integer> remaining = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            remaining.add(i);
+        }
+        return routeBatch(events, remaining, new BitSet(events.size()), new HashSet<>());
+    }
+
+    private CompletableFuture<BitSet> routeBatch(List<JobDispatchEvent> events, List<Integer> remaining,
+                                                 BitSet accepted, Set<Agent> full) {
+        Agent agent = remaining.isEmpty() ? null : selectAgent(full);
+        if (agent == null) {
+            if (!remaining.isEmpty()) {
+                log.warn("No worker agent has capacity for {} of {} batched jobs", remaining.size(), events.size());
+            }
+            return CompletableFuture.completedFuture(accepted);
+        }
+
+        int sliceSize = Math.min(remaining.size(), agent.advertisedSlots - agent.sentSinceAdvertised.get());
+        List<Integer> slice = remaining.subList(0, Math.max(1, sliceSize));
+        List<Integer> unsent = remaining.subList(slice.size(), remaining.size());
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(slice.stream().map(events::get).toList());
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize a batch of {} dispatch events", slice.size(), e);
+            return CompletableFuture.completedFuture(accepted);
+        }
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.completedFuture(accepted);
+        }
+
+        agent.inFlight.incrementAndGet();
+        agent.sentSinceAdvertised.addAndGet(slice.size());
+        HttpRequest request = HttpRequest.newBuilder(agent.batchDispatchUri)
+                .timeout(Duration.ofMillis(workerConfig.getDispatch().getRequestTimeoutMillis()))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .handle((response, error) -> {
+                    inFlight.release();
+                    agent.inFlight.decrementAndGet();
+                    BitSet taken = new BitSet();
+                    if (error != null) {
+                        agent.available = false;
+                        log.error("Batch dispatch of {} jobs to {} failed", slice.size(), agent.baseUrl, error);
+                    } else if (response.statusCode() / 100 != 2) {
+                        log.error("Agent {} rejected a batch of {} jobs with status {}", agent.baseUrl, slice.size(),
+                                response.statusCode());
+                    } else {
+                        try {
+                            ResponseData<JobDispatchBatchResult> result =
+                                    objectMapper.readValue(response.body(), batchResultType);
+                            taken = result.getData().toBitSet();
+                            agent.advertisedSlots = result.getData().getAvailableSlots();
+                            agent.sentSinceAdvertised.set(0);
+                        } catch (Exception e) {
+                            log.error("Unreadable batch dispatch response from {}", agent.baseUrl, e);
+                        }
+                    }
+
+                    List<Integer> next = new ArrayList<>(remaining.size());
+                    for (int i = 0; i < slice.size(); i++) {
+                        if (taken.get(i)) {
+                            accepted.set(slice.get(i));
+                        } else {
+                            next.add(slice.get(i));
+                        }
+                    }
+                    if (!next.isEmpty()) {
+                        full.add(agent);
+                    }
+                    next.addAll(unsent);
+                    return next;
+                })
+                .thenCompose(next -> routeBatch(events, next, accepted, full));
+    }
+
+    @Scheduled(fixedDelayString = "${scheduler.worker.dispatch.capacity-poll-millis:1000}")
+    public void refreshCapacity() {
+        for (Agent agent : agents) {
+            HttpRequest request = HttpRequest.newBuilder(agent.capacityUri)
+                    .timeout(Duration.ofMillis(workerConfig.getDispatch().getConnectTimeoutMillis()))
+                    .GET()
+                    .build();
+            httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                    .whenComplete((response, error) -> {
+                        if (error != null || response.statusCode() != 200) {
+                            agent.available = false;
+                            return;
+                        }
+                        try {
+                            ResponseData<AgentCapacity> capacity = objectMapper.readValue(response.body(), capacityType);
+                            agent.advertisedSlots = capacity.getData().getAvailableSlots();
+                            agent.sentSinceAdvertised.set(0);
+                            agent.available = true;
+                        } catch (Exception e) {
+                            agent.available = false;
+                            log.warn("Unreadable capacity response from {}", agent.baseUrl, e);
+                        }
+                    });
+        }
+    }
+
+    private Agent selectAgent(Set<Agent> excluded) {
+        int maxPerAgent = workerConfig.getDispatch().getMaxInFlightPerAgent();
+        Agent best = null;
+        int bestHeadroom = 0;
+        for (Agent agent : agents) {
+            if (!agent.available || agent.inFlight.get() >= maxPerAgent || excluded.contains(agent)) {
+                continue;
+            }
+            int headroom = agent.advertisedSlots - agent.sentSinceAdvertised.get();
+            if (headroom > bestHeadroom) {
+                best = agent;
+                bestHeadroom = headroom;
+            }
+        }
+        return best;
+    }
+
+    private static final class Agent {
+        private final String baseUrl;
+        private final URI dispatchUri;
+        private final URI batchDispatchUri;
+        private final URI capacityUri;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger sentSinceAdvertised = new AtomicInteger();
+        private volatile int advertisedSlots;
+        private volatile boolean available;
+
+        private Agent(String baseUrl) {
+            this.baseUrl = baseUrl;
+            this.dispatchUri = URI.create(baseUrl + "/api/worker-agent/dispatch");
+            this.batchDispatchUri = URI.create(baseUrl + "/api/worker-agent/dispatch/batch");
+            this.capacityUri = URI.create(baseUrl + "/api/worker-agent/capacity");
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.distributed.jobscheduler.worker.scheduler.client;
+
+import com.distributed.jobscheduler.worker.scheduler.config.WorkerConfig;
+import com.distributed.jobscheduler.worker.scheduler.service.ScanStats;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Registers this worker with the scheduler coordinator and keeps it in the segment assignment with heartbeats. The
+ * coordinator pushes the worker's segment ranges to {@code /api/scheduler-worker/ranges} whenever they change.
+ */
+@Component
+@RequiredArgsConstructor
+public class CoordinatorClient {
+
+    private static final Logger log = LoggerFactory.getLogger(CoordinatorClient.class);
+
+    private final WorkerConfig workerConfig;
+    private final Environment environment;
+    private final ScanStats scanStats;
+    private final RestTemplate restTemplate = new RestTemplate();
+    private volatile boolean ready;
+    private volatile boolean registered;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        ready = true;
+        register();
+    }
+
+    @Scheduled(fixedDelayString = "${scheduler.worker.heartbeat-interval-millis:10000}")
+    public void heartbeat() {
+        if (!ready || !hasCoordinator()) {
+            return;
+        }
+        if (!registered) {
+            register();
+            return;
+        }
+        try {
+            restTemplate.postForObject(workerConfig.getCoordinatorUrl()
+                    + "/api/scheduler-workers/heartbeat?workerId={workerId}&scanMillis={scanMillis}", null,
+                    String.class, workerConfig.getWorkerId(), scanStats.getLastScanMillis());
+        } catch (RestClientException e) {
+            // The coordinator may have lost track of us; registering again is idempotent
+            log.warn("Heartbeat to coordinator failed: {}", e.getMessage());
+            registered = false;
+        }
+    }
+
+    private void register() {
+        if (!hasCoordinator()) {
+            return;
+        }
+        String url = UriComponentsBuilder.fromHttpUrl(workerConfig.getCoordinatorUrl())
+                .path("/api/scheduler-workers/register")
+                .queryParam("workerId", workerConfig.getWorkerId())
+                .queryParam("url", advertisedUrl())
+                .queryParam("capacity", workerConfig.getCapacity())
+                .encode()
+                .toUriString();
+        try {
+            restTemplate.postForObject(url, null, String.class);
+            registered = true;
+            log.info("Registered with coordinator {} as {}", workerConfig.getCoordinatorUrl(),
+                    workerConfig.getWorkerId());
+        } catch (RestClientException e) {
+            log.warn("Failed to register with coordinator {}: {}", workerConfig.getCoordinatorUrl(), e.getMessage());
+        }
+    }
+
+    private boolean hasCoordinator() {
+        return workerConfig.getCoordinatorUrl() != null && !workerConfig.getCoordinatorUrl().isBlank();
+    }
+
+    private String advertisedUrl() {
+        if (workerConfig.getAdvertisedUrl() != null && !workerConfig.getAdvertisedUrl().isBlank()) {
+            return workerConfig.getAdvertisedUrl();
+        }
+        return "http://localhost:" + environment.getProperty("local.server.port",
+                environment.getProperty("server.port", "8080"));
+    }
+}
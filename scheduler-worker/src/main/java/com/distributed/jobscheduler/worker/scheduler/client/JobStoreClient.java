@@ -0,0 +1,179 @@
+package com.distributed.jobscheduler.worker.scheduler.client;
+
+import com.distributed.jobscheduler.common.batch.JobStatusBatcher;
+import com.distributed.jobscheduler.common.dto.JobStatusUpdate;
+import com.distributed.jobscheduler.common.dto.ScheduledJobPage;
+import com.distributed.jobscheduler.common.dto.ScheduledJobResponse;
+import com.distributed.jobscheduler.common.dto.SegmentRange;
+import com.distributed.jobscheduler.common.enums.JobStatus;
+import com.distributed.jobscheduler.common.metrics.SchedulerMetrics;
+import com.distributed.jobscheduler.common.response.ResponseData;
+import com.distributed.jobscheduler.worker.scheduler.config.WorkerConfig;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Consumer;
+
+@Component
+@RequiredArgsConstructor
+public class JobStoreClient {
+
+    private static final Logger log = LoggerFactory.getLogger(JobStoreClient.class);
+    private static final ParameterizedTypeReference<ResponseData<List<ScheduledJobResponse>>> SCHEDULE_LIST_TYPE =
+            new ParameterizedTypeReference<>() {
+            };
+    private static final ParameterizedTypeReference<ResponseData<ScheduledJobPage>> SCHEDULE_PAGE_TYPE =
+            new ParameterizedTypeReference<>() {
+            };
+
+    private final WorkerConfig workerConfig;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final RestTemplate restTemplate = new RestTemplate();
+    private JobStatusBatcher statusBatcher;
+    private Timer statusFlushTimer;
+
+    @PostConstruct
+    public void init() {
+        statusFlushTimer = SchedulerMetrics.timer(meterRegistry, SchedulerMetrics.STATUS_FLUSH,
+                "Time to apply one batch of job status updates in the job store");
+        statusBatcher = new JobStatusBatcher("job-status-flush", workerConfig.getStatusFlushMillis(),
+                workerConfig.getStatusBatchSize(), this::flushJobStatuses);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        statusBatcher.close();
+    }
+
+    /**
+     * Hands every schedule due at {@code asOf} to {@code consumer} one page or one streamed row at a time, so the
+     * scan never holds the whole backlog in memory.
+     */
+    public void forEachDueSchedule(Instant asOf, List<SegmentRange> segments,
+                                   Consumer<ScheduledJobResponse> consumer) {
+        if (workerConfig.getScanFetchMode() == WorkerConfig.ScanFetchMode.STREAM) {
+            streamDueSchedules(asOf, segments, consumer);
+            return;
+        }
+        if (workerConfig.getScanFetchMode() == WorkerConfig.ScanFetchMode.CLAIM) {
+            // The lease has to outlive the wait until asOf when claiming ahead for the timing wheel
+            long leaseMillis = Math.max(0, asOf.toEpochMilli() - System.currentTimeMillis())
+                    + workerConfig.getClaimLeaseMillis();
+            List<ScheduledJobResponse> claimed;
+            do {
+                claimed = claimDueSchedules(asOf, segments, workerConfig.getScanPageSize(), leaseMillis);
+                claimed.forEach(consumer);
+            } while (claimed.size() >= workerConfig.getScanPageSize());
+            return;
+        }
+
+        String cursor = null;
+        ScheduledJobPage page;
+        do {
+            page = fetchDueSchedulePage(asOf, segments, cursor, workerConfig.getScanPageSize());
+            if (page.getItems() != null) {
+                page.getItems().forEach(consumer);
+            }
+            cursor = page.getNextCursor();
+        } while (page.isHasMore());
+    }
+
+    public ScheduledJobPage fetchDueSchedulePage(Instant asOf, List<SegmentRange> segments, String cursor,
+                                                 int limit) {
+        var builder = dueSchedulesUri("/api/job-schedules/due/page", asOf, segments)
+                .queryParam("limit", limit);
+        if (cursor != null) {
+            builder.queryParam("cursor", cursor);
+        }
+
+        ResponseData<ScheduledJobPage> response = restTemplate
+                .exchange(builder.toUriString(), HttpMethod.GET, null, SCHEDULE_PAGE_TYPE)
+                .getBody();
+        if (response == null || response.getData() == null) {
+            return ScheduledJobPage.builder().items(List.of()).build();
+        }
+        return response.getData();
+    }
+
+    public List<ScheduledJobResponse> claimDueSchedules(Instant asOf, List<SegmentRange> segments, int limit,
+                                                        long leaseMillis) {
+        String url = dueSchedulesUri("/api/job-schedules/claim", asOf, segments)
+                .queryParam("workerId", workerConfig.getWorkerId())
+                .queryParam("limit", limit)
+                .queryParam("leaseMillis", leaseMillis)
+                .toUriString();
+
+        ResponseData<List<ScheduledJobResponse>> response = restTemplate
+                .exchange(url, HttpMethod.POST, null, SCHEDULE_LIST_TYPE)
+                .getBody();
+        if (response == null || response.getData() == null) {
+            return List.of();
+        }
+        return response.getData();
+    }
+
+    public void streamDueSchedules(Instant asOf, List<SegmentRange> segments,
+                                   Consumer<ScheduledJobResponse> consumer) {
+        String url = dueSchedulesUri("/api/job-schedules/due/stream", asOf, segments).toUriString();
+        restTemplate.execute(url, HttpMethod.GET,
+                request -> request.getHeaders().setAccept(List.of(MediaType.APPLICATION_NDJSON)),
+                response -> {
+                    try (MappingIterator<ScheduledJobResponse> rows = objectMapper
+                            .readerFor(ScheduledJobResponse.class)
+                            .readValues(response.getBody())) {
+                        while (rows.hasNext()) {
+                            consumer.accept(rows.next());
+                        }
+                    }
+                    return null;
+                });
+    }
+
+    public void acknowledgeDispatches(List<Long> scheduleIds) {
+        String url = workerConfig.getJobStoreUrl() + "/api/job-schedules/acknowledgements";
+        restTemplate.postForObject(url, scheduleIds, ResponseData.class);
+    }
+
+    /**
+     * Queues the transition; it reaches the job store with the next batched flush.
+     */
+    public void updateJobStatus(Long jobId, JobStatus status) {
+        statusBatcher.submit(jobId, status);
+    }
+
+    private void flushJobStatuses(List<JobStatusUpdate> updates) {
+        long started = System.nanoTime();
+        restTemplate.put(workerConfig.getJobStoreUrl() + "/api/jobs/status/batch", updates);
+        SchedulerMetrics.recordSince(statusFlushTimer, started);
+        log.debug("Flushed {} job status updates", updates.size());
+    }
+
+    private UriComponentsBuilder dueSchedulesUri(String path, Instant asOf, List<SegmentRange> segments) {
+        var builder = UriComponentsBuilder.fromHttpUrl(workerConfig.getJobStoreUrl() + path)
+                .queryParam("asOf", asOf);
+        for (SegmentRange range : segments) {
+            if (range.isWhole()) {
+                builder.queryParam("segments", range.segment());
+            } else {
+                builder.queryParam("ranges", range.toParam());
+            }
+        }
+        return builder;
+    }
+}
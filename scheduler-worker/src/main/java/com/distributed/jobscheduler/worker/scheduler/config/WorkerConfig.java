@@ -1,9 +1,12 @@
 package com.distributed.jobscheduler.worker.scheduler.config;
 
+import com.distributed.jobscheduler.common.dto.SegmentRange;
+import com.distributed.jobscheduler.common.partition.RetentionPolicy;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Configuration
@@ -12,6 +15,69 @@ import java.util.List;
 public class WorkerConfig {
     private String workerId;
     private List<Integer> assignedSegments;
+    /**
+     * Segment ranges pushed by the coordinator; when set they replace {@code assignedSegments}. Each push replaces
+     * the whole immutable list, so the scanner and the timing wheel always read one complete assignment.
+     */
+    private volatile List<SegmentRange> assignedRanges;
     private String coordinatorUrl;
+    /** URL the coordinator pushes segment assignments to; defaults to this server on localhost. */
+    private String advertisedUrl;
+    /** Relative share of segments this worker asks the coordinator for. */
+    private int capacity = 1;
+    private long heartbeatIntervalMillis = 10000;
     private String jobStoreUrl;
+    private DispatchMode dispatchMode = DispatchMode.POLL;
+    private ScanFetchMode scanFetchMode = ScanFetchMode.PAGED;
+    private int scanPageSize = 1000;
+    private long claimLeaseMillis = 60000;
+    private int ackBatchSize = 500;
+    private long statusFlushMillis = 100;
+    private int statusBatchSize = 500;
+    private Wheel wheel = new Wheel();
+    private Dispatch dispatch = new Dispatch();
+    private RetentionPolicy retention = new RetentionPolicy();
+
+    /**
+     * What this worker scans: the ranges pushed by the coordinator, or else every assigned segment whole.
+     */
+    public List<SegmentRange> scanRanges() {
+        List<SegmentRange> ranges = assignedRanges;
+        if (ranges != null) {
+            return ranges;
+        }
+        return assignedSegments == null ? List.of() : assignedSegments.stream().map(SegmentRange::whole).toList();
+    }
+
+    public enum DispatchMode {
+        POLL,
+        TIMING_WHEEL
+    }
+
+    public enum ScanFetchMode {
+        PAGED,
+        STREAM,
+        CLAIM
+    }
+
+    @Data
+    public static class Wheel {
+        private long tickMillis = 10;
+        private int wheelSize = 512;
+        private long preloadWindowMillis = 300000;
+        private long refillIntervalMillis = 30000;
+        /** Delay before a schedule no agent took is fired again. */
+        private long retryBackoffMillis = 1000;
+    }
+
+    @Data
+    public static class Dispatch {
+        private List<String> agentUrls = new ArrayList<>();
+        private int maxInFlight = 256;
+        private int maxInFlightPerAgent = 64;
+        private int batchSize = 200;
+        private long connectTimeoutMillis = 2000;
+        private long requestTimeoutMillis = 30000;
+        private long capacityPollMillis = 1000;
+    }
 }
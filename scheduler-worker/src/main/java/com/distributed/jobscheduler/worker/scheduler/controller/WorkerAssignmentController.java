@@ -1,9 +1,15 @@
 package com.distributed.jobscheduler.worker.scheduler.controller;
 
+import com.distributed.jobscheduler.common.dto.SegmentRange;
+import com.distributed.jobscheduler.common.election.FencingToken;
 import com.distributed.jobscheduler.common.response.ResponseData;
 import com.distributed.jobscheduler.common.response.ResponseUtils;
 import com.distributed.jobscheduler.worker.scheduler.config.WorkerConfig;
+import com.distributed.jobscheduler.worker.scheduler.service.AssignmentFence;
+import com.distributed.jobscheduler.worker.scheduler.service.TimingWheelDispatchService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -14,15 +20,48 @@ import java.util.List;
 public class WorkerAssignmentController {
 
     private final WorkerConfig workerConfig;
+    private final TimingWheelDispatchService timingWheelDispatchService;
+    private final AssignmentFence assignmentFence;
 
     @PostMapping("/segments")
-    public ResponseData<String> updateSegments(@RequestBody List<Integer> segments) {
-        workerConfig.setAssignedSegments(segments);
-        return ResponseUtils.success("Segments updated");
+    public ResponseEntity<ResponseData<String>> updateSegments(
+            @RequestBody List<Integer> segments,
+            @RequestHeader(value = FencingToken.HEADER, required = false) Long fencingToken) {
+        boolean applied = assignmentFence.apply(fencingToken,
+                () -> workerConfig.setAssignedRanges(segments.stream().map(SegmentRange::whole).toList()));
+        if (!applied) {
+            return staleTerm();
+        }
+        timingWheelDispatchService.onSegmentsChanged();
+        return ResponseEntity.ok(ResponseUtils.success("Segments updated"));
+    }
+
+    @PostMapping("/ranges")
+    public ResponseEntity<ResponseData<String>> updateRanges(
+            @RequestBody List<SegmentRange> ranges,
+            @RequestHeader(value = FencingToken.HEADER, required = false) Long fencingToken) {
+        boolean applied = assignmentFence.apply(fencingToken,
+                () -> workerConfig.setAssignedRanges(List.copyOf(ranges)));
+        if (!applied) {
+            return staleTerm();
+        }
+        timingWheelDispatchService.onSegmentsChanged();
+        return ResponseEntity.ok(ResponseUtils.success("Segment ranges updated"));
+    }
+
+    @GetMapping("/ranges")
+    public ResponseData<List<SegmentRange>> getRanges() {
+        return ResponseUtils.success(workerConfig.scanRanges());
     }
 
     @GetMapping("/segments")
     public ResponseData<List<Integer>> getSegments() {
-        return ResponseUtils.success(workerConfig.getAssignedSegments());
+        return ResponseUtils.success(workerConfig.scanRanges().stream().map(SegmentRange::segment).distinct().toList());
+    }
+
+    private static ResponseEntity<ResponseData<String>> staleTerm() {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ResponseUtils.failure("Assignment comes from a replaced coordinator leader",
+                        "STALE_FENCING_TOKEN"));
     }
 }
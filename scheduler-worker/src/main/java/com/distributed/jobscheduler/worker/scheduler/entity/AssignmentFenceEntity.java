@@ -0,0 +1,25 @@
+package com.distributed.jobscheduler.worker.scheduler.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.Instant;
+
+/**
+ * Highest coordinator fencing token a worker has accepted a segment push of, kept across restarts.
+ */
+@Entity
+@Table(name = "assignment_fences")
+@Data
+public class AssignmentFenceEntity {
+
+    @Id
+    @Column(name = "worker_id")
+    private String workerId;
+
+    @Column(name = "highest_token", nullable = false)
+    private Long highestToken;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
@@ -7,7 +7,8 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.Instant;
 
 @Entity
-@Table(name = "dispatch_records")
+@Table(name = "dispatch_records",
+        indexes = @Index(name = "idx_dispatch_records_dispatch_time", columnList = "dispatch_time"))
 @Data
 public class DispatchRecordEntity {
 
@@ -24,7 +25,4 @@ public class DispatchRecordEntity {
     @Column(name = "dispatch_time", nullable = false)
     @CreationTimestamp
     private Instant dispatchTime;
-
-    @Column(columnDefinition = "TEXT")
-    private String payload;
 }
@@ -0,0 +1,29 @@
+package com.distributed.jobscheduler.worker.scheduler.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.Instant;
+
+/**
+ * Hourly dispatch count of a job, written when its day of dispatch records expires.
+ */
+@Entity
+@Table(name = "dispatch_rollups",
+        indexes = @Index(name = "idx_dispatch_rollups_job_hour", columnList = "job_id, hour_start"))
+@Data
+public class DispatchRollupEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "hour_start", nullable = false)
+    private Instant hourStart;
+
+    @Column(nullable = false)
+    private Long dispatches;
+}
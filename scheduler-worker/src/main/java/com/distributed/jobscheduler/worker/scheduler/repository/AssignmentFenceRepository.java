@@ -0,0 +1,7 @@
+package com.distributed.jobscheduler.worker.scheduler.repository;
+
+import com.distributed.jobscheduler.worker.scheduler.entity.AssignmentFenceEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface AssignmentFenceRepository extends JpaRepository<AssignmentFenceEntity, String> {
+}
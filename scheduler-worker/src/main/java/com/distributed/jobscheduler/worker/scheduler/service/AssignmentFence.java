@@ -0,0 +1,69 @@
+package com.distributed.jobscheduler.worker.scheduler.service;
+
+import com.distributed.jobscheduler.common.election.FencingToken;
+import com.distributed.jobscheduler.worker.scheduler.config.WorkerConfig;
+import com.distributed.jobscheduler.worker.scheduler.entity.AssignmentFenceEntity;
+import com.distributed.jobscheduler.worker.scheduler.repository.AssignmentFenceRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * Applies segment pushes in fencing-token order. Once a push of one coordinator term has been accepted, pushes of
+ * earlier terms are refused, so a deposed leader cannot overwrite what its successor assigned. Pushes without a
+ * token, such as manual calls, are always applied.
+ *
+ * <p>The highest accepted token is stored before the push it came with is applied, and read back on startup, so a
+ * restarted worker still refuses the terms it had already moved past.
+ */
+@Component
+@RequiredArgsConstructor
+public class AssignmentFence {
+
+    private static final Logger log = LoggerFactory.getLogger(AssignmentFence.class);
+
+    private final AssignmentFenceRepository fenceRepository;
+    private final WorkerConfig workerConfig;
+    private long highestToken = FencingToken.NONE;
+
+    @PostConstruct
+    public synchronized void init() {
+        highestToken = fenceRepository.findById(workerConfig.getWorkerId())
+                .map(AssignmentFenceEntity::getHighestToken)
+                .orElse(FencingToken.NONE);
+        if (highestToken != FencingToken.NONE) {
+            log.info("Refusing segment pushes older than term {}", highestToken);
+        }
+    }
+
+    /**
+     * Runs {@code update} and returns {@code true} unless {@code fencingToken} is older than one already accepted.
+     */
+    public synchronized boolean apply(Long fencingToken, Runnable update) {
+        if (fencingToken != null) {
+            if (fencingToken < highestToken) {
+                log.warn("Refusing segment push of term {}; term {} has already been accepted", fencingToken,
+                        highestToken);
+                return false;
+            }
+            if (fencingToken > highestToken) {
+                AssignmentFenceEntity fence = new AssignmentFenceEntity();
+                fence.setWorkerId(workerConfig.getWorkerId());
+                fence.setHighestToken(fencingToken);
+                fence.setUpdatedAt(Instant.now());
+                fenceRepository.save(fence);
+                highestToken = fencingToken;
+            }
+        }
+        update.run();
+        return true;
+    }
+
+    public synchronized long getHighestToken() {
+        return highestToken;
+    }
+}
@@ -0,0 +1,68 @@
+package com.distributed.jobscheduler.worker.scheduler.service;
+
+import com.distributed.jobscheduler.worker.scheduler.client.JobStoreClient;
+import com.distributed.jobscheduler.worker.scheduler.config.WorkerConfig;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Buffers dispatched schedule ids and acknowledges them to job-store-service in batches, which advances
+ * recurring schedules to their next occurrence.
+ */
+@Service
+@RequiredArgsConstructor
+public class DispatchAcknowledgementService {
+
+    private static final Logger log = LoggerFactory.getLogger(DispatchAcknowledgementService.class);
+
+    private final WorkerConfig workerConfig;
+    private final JobStoreClient jobStoreClient;
+
+    private final Object lock = new Object();
+    private List<Long> pending = new ArrayList<>();
+
+    public void acknowledge(Long scheduleId) {
+        List<Long> batch = null;
+        synchronized (lock) {
+            pending.add(scheduleId);
+            if (pending.size() >= workerConfig.getAckBatchSize()) {
+                batch = pending;
+                pending = new ArrayList<>();
+            }
+        }
+        if (batch != null) {
+            send(batch);
+        }
+    }
+
+    @Scheduled(fixedDelay = 1000)
+    @PreDestroy
+    public void flush() {
+        List<Long> batch;
+        synchronized (lock) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = pending;
+            pending = new ArrayList<>();
+        }
+        send(batch);
+    }
+
+    private void send(List<Long> batch) {
+        try {
+            jobStoreClient.acknowledgeDispatches(batch);
+            log.debug("Acknowledged {} dispatched schedules", batch.size());
+        } catch (Exception e) {
+            // Unacknowledged rows keep their nextRunTime and are picked up again by a later scan
+            log.error("Failed to acknowledge {} dispatched schedules", batch.size(), e);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.distributed.jobscheduler.worker.scheduler.service;
+
+import com.distributed.jobscheduler.common.partition.HourlyRollup;
+import com.distributed.jobscheduler.common.partition.TimePartitionedTable;
+import com.distributed.jobscheduler.worker.scheduler.config.WorkerConfig;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+
+@Service
+@RequiredArgsConstructor
+public class DispatchRecordRetentionService {
+
+    private static final Logger log = LoggerFactory.getLogger(DispatchRecordRetentionService.class);
+
+    private static final HourlyRollup DISPATCH_ROLLUP = new HourlyRollup("dispatch_rollups", "dispatches",
+            "COUNT(*)");
+
+    private final WorkerConfig workerConfig;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private TimePartitionedTable dispatchRecords;
+
+    @PostConstruct
+    public void init() {
+        dispatchRecords = new TimePartitionedTable(jdbcTemplate, transactionTemplate, "dispatch_records",
+                "dispatch_time", DISPATCH_ROLLUP, workerConfig.getRetention());
+        dispatchRecords.start(Instant.now());
+    }
+
+    @Scheduled(fixedDelayString = "${scheduler.worker.retention.maintenance-interval-millis:3600000}")
+    public void maintain() {
+        try {
+            int expired = dispatchRecords.maintain(Instant.now());
+            if (expired > 0) {
+                log.info("Expired {} days of dispatch records", expired);
+            }
+        } catch (Exception e) {
+            log.error("Dispatch record maintenance failed", e);
+        }
+    }
+}
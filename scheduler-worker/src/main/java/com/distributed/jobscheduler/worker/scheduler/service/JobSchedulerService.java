@@ -2,19 +2,27 @@ package com.distributed.jobscheduler.worker.scheduler.service;
 
 import com.distributed.jobscheduler.common.dto.JobDispatchEvent;
 import com.distributed.jobscheduler.common.dto.ScheduledJobResponse;
+import com.distributed.jobscheduler.common.dto.SegmentRange;
 import com.distributed.jobscheduler.common.enums.JobStatus;
+import com.distributed.jobscheduler.common.metrics.SchedulerMetrics;
+import com.distributed.jobscheduler.worker.scheduler.client.AgentDispatchClient;
+import com.distributed.jobscheduler.worker.scheduler.client.JobStoreClient;
 import com.distributed.jobscheduler.worker.scheduler.config.WorkerConfig;
-import com.distributed.jobscheduler.worker.scheduler.entity.DispatchRecordEntity;
-import com.distributed.jobscheduler.worker.scheduler.repository.DispatchRecordRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 
+import java.sql.Timestamp;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
@@ -22,67 +30,132 @@ public class JobSchedulerService {
 
     private static final Logger log = LoggerFactory.getLogger(JobSchedulerService.class);
 
+    private static final String INSERT_DISPATCH_RECORD_SQL =
+            "INSERT INTO dispatch_records (job_id, segment, dispatch_time) VALUES (?, ?, ?)";
+
     private final WorkerConfig workerConfig;
-    private final DispatchRecordRepository dispatchRecordRepository;
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final JdbcTemplate jdbcTemplate;
+    private final JobStoreClient jobStoreClient;
+    private final AgentDispatchClient agentDispatchClient;
+    private final DispatchAcknowledgementService dispatchAcknowledgementService;
+    private final ScanStats scanStats;
+    private final MeterRegistry meterRegistry;
+    private Timer scanTimer;
+
+    @PostConstruct
+    public void init() {
+        scanTimer = SchedulerMetrics.timer(meterRegistry, SchedulerMetrics.SCAN_DURATION,
+                "Time to fetch and hand off the due jobs of all assigned segments");
+    }
 
+    /**
+     * Runs without a surrounding transaction: the job store claims each page on its side before returning it, and
+     * no local connection is held while the agents are being called.
+     */
     @Scheduled(fixedRate = 60000)
-    @Transactional
     public void scanAndDispatchJobs() {
-        if (workerConfig.getAssignedSegments() == null || workerConfig.getAssignedSegments().isEmpty()) {
+        if (workerConfig.getDispatchMode() != WorkerConfig.DispatchMode.POLL) {
+            return;
+        }
+        List<SegmentRange> ranges = workerConfig.scanRanges();
+        if (ranges.isEmpty()) {
             log.debug("No segments assigned to this worker");
             return;
         }
 
-        log.info("Scanning jobs for segments: {}", workerConfig.getAssignedSegments());
+        log.info("Scanning jobs for segments: {}", ranges.stream().map(SegmentRange::toParam).toList());
+        long started = System.nanoTime();
         Instant now = Instant.now();
 
         try {
-            String baseUrl = workerConfig.getJobStoreUrl() + "/api/job-schedules/due";
-            var builder = org.springframework.web.util.UriComponentsBuilder.fromHttpUrl(baseUrl)
-                    .queryParam("asOf", now);
-            workerConfig.getAssignedSegments().forEach(segment -> builder.queryParam("segments", segment));
-
-            ScheduledJobResponse[] scheduledJobs = restTemplate.getForObject(builder.toUriString(), ScheduledJobResponse[].class);
-
-            if (scheduledJobs != null) {
-                for (ScheduledJobResponse scheduledJob : scheduledJobs) {
-                    dispatchJob(scheduledJob);
+            int batchSize = workerConfig.getDispatch().getBatchSize();
+            List<ScheduledJobResponse> batch = new ArrayList<>(batchSize);
+            jobStoreClient.forEachDueSchedule(now, ranges, schedule -> {
+                batch.add(schedule);
+                if (batch.size() >= batchSize) {
+                    dispatchBatch(List.copyOf(batch));
+                    batch.clear();
                 }
+            });
+            if (!batch.isEmpty()) {
+                dispatchBatch(batch);
             }
 
             log.info("Job scan cycle completed");
         } catch (Exception e) {
             log.error("Error during job scanning and dispatching", e);
+        } finally {
+            SchedulerMetrics.recordSince(scanTimer, started);
+            scanStats.record(started);
         }
     }
 
-    private void dispatchJob(ScheduledJobResponse scheduledJob) {
+    /**
+     * Sends one schedule to an agent; the future tells whether an agent took it.
+     */
+    public CompletableFuture<Boolean> dispatchJob(ScheduledJobResponse scheduledJob) {
+        JobDispatchEvent event = prepareDispatch(scheduledJob);
+        CompletableFuture<Boolean> outcome = agentDispatchClient.dispatch(event).thenApply(accepted -> {
+            completeDispatch(scheduledJob, accepted);
+            return accepted;
+        });
+        recordDispatches(List.of(scheduledJob));
+        return outcome;
+    }
+
+    /**
+     * Sends the schedules to the agents in batched requests; each one is acknowledged or returned to PENDING once
+     * the agents have taken or rejected it.
+     */
+    public void dispatchBatch(List<ScheduledJobResponse> scheduledJobs) {
+        List<JobDispatchEvent> events = scheduledJobs.stream().map(this::prepareDispatch).toList();
+        agentDispatchClient.dispatchBatch(events).thenAccept(accepted -> {
+            for (int i = 0; i < scheduledJobs.size(); i++) {
+                completeDispatch(scheduledJobs.get(i), accepted.get(i));
+            }
+        });
+        recordDispatches(scheduledJobs);
+    }
+
+    private JobDispatchEvent prepareDispatch(ScheduledJobResponse scheduledJob) {
         JobDispatchEvent event = JobDispatchEvent.builder()
                 .jobId(scheduledJob.getJobId())
                 .jobName(scheduledJob.getJobName())
                 .payload(scheduledJob.getPayload())
                 .scheduledTime(scheduledJob.getNextRunTime())
+                .workloadType(scheduledJob.getWorkloadType())
+                .checkpointData(scheduledJob.getCheckpointData())
                 .build();
 
         log.info("Dispatching job {}: {}", event.getJobId(), event.getJobName());
 
-        DispatchRecordEntity record = new DispatchRecordEntity();
-        record.setJobId(scheduledJob.getJobId());
-        record.setSegment(scheduledJob.getSegment());
-        record.setPayload(scheduledJob.getPayload());
-        dispatchRecordRepository.save(record);
-
-        updateJobStatus(scheduledJob.getJobId(), JobStatus.SCHEDULED);
+        jobStoreClient.updateJobStatus(scheduledJob.getJobId(), JobStatus.SCHEDULED);
+        return event;
     }
 
-    private void updateJobStatus(Long jobId, JobStatus status) {
+    /**
+     * Writes the dispatch records of a whole batch in one JDBC batch, once the requests are already in flight.
+     */
+    private void recordDispatches(List<ScheduledJobResponse> scheduledJobs) {
+        Timestamp dispatchTime = Timestamp.from(Instant.now());
         try {
-            String url = workerConfig.getJobStoreUrl() + "/api/jobs/" + jobId + "/status?status=" + status;
-            restTemplate.put(url, null);
-            log.info("Updated job {} status to {}", jobId, status);
+            jdbcTemplate.batchUpdate(INSERT_DISPATCH_RECORD_SQL, scheduledJobs, scheduledJobs.size(), (ps, job) -> {
+                ps.setLong(1, job.getJobId());
+                ps.setInt(2, job.getSegment());
+                ps.setTimestamp(3, dispatchTime);
+            });
         } catch (Exception e) {
-            log.error("Failed to update job status", e);
+            // The records only feed the rollups; losing them must not undo a dispatch that is already under way
+            log.error("Failed to record {} dispatches", scheduledJobs.size(), e);
+        }
+    }
+
+    private void completeDispatch(ScheduledJobResponse scheduledJob, boolean accepted) {
+        if (accepted) {
+            dispatchAcknowledgementService.acknowledge(scheduledJob.getScheduleId());
+        } else {
+            // Left unacknowledged, the schedule stays due and the next scan offers it again
+            jobStoreClient.updateJobStatus(scheduledJob.getJobId(), JobStatus.PENDING);
         }
     }
 }
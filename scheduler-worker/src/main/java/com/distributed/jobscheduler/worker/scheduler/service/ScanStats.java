@@ -0,0 +1,23 @@
+package com.distributed.jobscheduler.worker.scheduler.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Duration of the most recent scan of the assigned segments, reported to the coordinator with each heartbeat so it
+ * can split the segments of a worker whose scans run long.
+ */
+@Component
+public class ScanStats {
+
+    private volatile long lastScanMillis;
+
+    public void record(long startNanos) {
+        lastScanMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    public long getLastScanMillis() {
+        return lastScanMillis;
+    }
+}
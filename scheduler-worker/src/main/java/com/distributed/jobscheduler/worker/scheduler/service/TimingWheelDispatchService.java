@@ -0,0 +1,223 @@
+package com.distributed.jobscheduler.worker.scheduler.service;
+
+import com.distributed.jobscheduler.common.cron.CronSchedule;
+import com.distributed.jobscheduler.common.dto.ScheduledJobResponse;
+import com.distributed.jobscheduler.common.dto.SegmentRange;
+import com.distributed.jobscheduler.common.enums.JobFrequency;
+import com.distributed.jobscheduler.worker.scheduler.client.JobStoreClient;
+import com.distributed.jobscheduler.worker.scheduler.config.WorkerConfig;
+import com.distributed.jobscheduler.worker.scheduler.timer.HierarchicalTimingWheel;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+
+/**
+ * Preloads the schedules that come due within the preload window into a {@link HierarchicalTimingWheel} and
+ * dispatches each one as soon as its {@code nextRunTime} passes, instead of waiting for the next poll.
+ */
+@Service
+@RequiredArgsConstructor
+public class TimingWheelDispatchService {
+
+    private static final Logger log = LoggerFactory.getLogger(TimingWheelDispatchService.class);
+
+    private final WorkerConfig workerConfig;
+    private final JobStoreClient jobStoreClient;
+    private final JobSchedulerService jobSchedulerService;
+    private final ScanStats scanStats;
+
+    // scheduleId -> nextRunTime epoch millis of the occurrence currently loaded or already fired
+    private final Map<Long, Long> loadedSchedules = new ConcurrentHashMap<>();
+    private final ExecutorService dispatchExecutor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("timing-wheel-dispatch").daemon().factory());
+
+    private HierarchicalTimingWheel<ScheduledJobResponse> wheel;
+    private Thread ticker;
+    private volatile boolean running;
+    // segment -> owned ranges of it, read on every fire
+    private volatile Map<Integer, List<SegmentRange>> ownedRanges = Map.of();
+
+    @PostConstruct
+    public void start() {
+        if (workerConfig.getDispatchMode() != WorkerConfig.DispatchMode.TIMING_WHEEL) {
+            return;
+        }
+        WorkerConfig.Wheel config = workerConfig.getWheel();
+        int levelCount = HierarchicalTimingWheel.levelsFor(
+                config.getTickMillis(), config.getWheelSize(), config.getPreloadWindowMillis());
+        wheel = new HierarchicalTimingWheel<>(config.getTickMillis(), config.getWheelSize(), levelCount,
+                System.currentTimeMillis());
+        ownedRanges = byScanSegment(workerConfig.scanRanges());
+
+        running = true;
+        ticker = Thread.ofPlatform().name("timing-wheel-ticker").daemon().start(this::runTicker);
+        log.info("Timing wheel started: tick={}ms, size={}, levels={}, preloadWindow={}ms",
+                config.getTickMillis(), config.getWheelSize(), levelCount, config.getPreloadWindowMillis());
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (ticker != null) {
+            ticker.interrupt();
+        }
+        dispatchExecutor.shutdown();
+    }
+
+    /**
+     * Stops firing schedules of segments this worker no longer owns and loads the newly owned ones straight away
+     * instead of at the next refill. Schedules of segments it kept stay loaded.
+     */
+    public void onSegmentsChanged() {
+        ownedRanges = byScanSegment(workerConfig.scanRanges());
+        if (wheel != null) {
+            Thread.ofVirtual().name("timing-wheel-refill").start(this::refill);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${scheduler.worker.wheel.refill-interval-millis:30000}")
+    public synchronized void refill() {
+        if (wheel == null) {
+            return;
+        }
+        List<SegmentRange> segments = workerConfig.scanRanges();
+        if (segments.isEmpty()) {
+            loadedSchedules.clear();
+            return;
+        }
+        long started = System.nanoTime();
+
+        Instant horizon = Instant.now().plusMillis(workerConfig.getWheel().getPreloadWindowMillis());
+        try {
+            Set<Long> seen = new HashSet<>();
+            AtomicInteger added = new AtomicInteger();
+            jobStoreClient.forEachDueSchedule(horizon, segments, schedule -> {
+                seen.add(schedule.getScheduleId());
+                long runAt = schedule.getNextRunTime().toEpochMilli();
+                // Occurrences only move forward: a row not yet rescheduled must not replace one fired ahead of it
+                Long previous = loadedSchedules.putIfAbsent(schedule.getScheduleId(), runAt);
+                if (previous == null
+                        || (runAt > previous && loadedSchedules.replace(schedule.getScheduleId(), previous, runAt))) {
+                    wheel.schedule(schedule, runAt);
+                    added.incrementAndGet();
+                }
+            });
+            // Rows that left the window were rescheduled, cancelled or moved to another segment
+            evictUnseen(seen);
+            scanStats.record(started);
+            log.debug("Timing wheel refilled up to {}: {} new, {} pending", horizon, added.get(), wheel.size());
+        } catch (Exception e) {
+            log.error("Failed to refill timing wheel", e);
+        }
+    }
+
+    private void evictUnseen(Set<Long> seen) {
+        if (workerConfig.getScanFetchMode() != WorkerConfig.ScanFetchMode.CLAIM) {
+            loadedSchedules.keySet().retainAll(seen);
+            return;
+        }
+        // A claim is not returned again while this worker's lease on it lasts, which is at least the claim lease
+        // past the occurrence's run time; dropping it before then would hold the job back until the lease expires
+        long leasedAfter = System.currentTimeMillis() - workerConfig.getClaimLeaseMillis();
+        loadedSchedules.entrySet().removeIf(entry -> !seen.contains(entry.getKey()) && entry.getValue() < leasedAfter);
+    }
+
+    private void runTicker() {
+        long tickNanos = TimeUnit.MILLISECONDS.toNanos(wheel.getTickMillis());
+        while (running) {
+            try {
+                wheel.advance(System.currentTimeMillis(), this::fire);
+            } catch (Exception e) {
+                log.error("Timing wheel tick failed", e);
+            }
+            LockSupport.parkNanos(tickNanos);
+        }
+    }
+
+    private void fire(ScheduledJobResponse schedule) {
+        Long loadedRunAt = loadedSchedules.get(schedule.getScheduleId());
+        if (loadedRunAt == null || loadedRunAt != schedule.getNextRunTime().toEpochMilli()) {
+            return;
+        }
+        if (schedule.getSegment() != null && !owns(schedule)) {
+            // The segment moved to another worker, which loads the schedule itself
+            loadedSchedules.remove(schedule.getScheduleId(), loadedRunAt);
+            return;
+        }
+        if (schedule.getFrequency() == JobFrequency.CRON) {
+            scheduleNextCronOccurrence(schedule, loadedRunAt);
+        }
+        dispatchExecutor.execute(() -> {
+            try {
+                log.debug("Firing job {} {}ms after its run time", schedule.getJobId(),
+                        System.currentTimeMillis() - schedule.getNextRunTime().toEpochMilli());
+                jobSchedulerService.dispatchJob(schedule).thenAccept(accepted -> {
+                    if (!accepted) {
+                        retry(schedule);
+                    }
+                });
+            } catch (Exception e) {
+                log.error("Failed to dispatch job {}", schedule.getJobId(), e);
+            }
+        });
+    }
+
+    /**
+     * Fires a rejected schedule again after the retry backoff. The refill cannot do it: the occurrence is still
+     * loaded, so the unchanged row does not look new. A cron schedule whose next occurrence is already loaded is
+     * left to that one, whose dispatch moves the row past both.
+     */
+    private void retry(ScheduledJobResponse schedule) {
+        Long loadedRunAt = loadedSchedules.get(schedule.getScheduleId());
+        if (running && loadedRunAt != null && loadedRunAt == schedule.getNextRunTime().toEpochMilli()) {
+            wheel.schedule(schedule, System.currentTimeMillis() + workerConfig.getWheel().getRetryBackoffMillis());
+        }
+    }
+
+    /**
+     * Checks the slot stored on the row rather than the one derived from the job id: rows written before slots
+     * existed stay in slot 0 until the job store's backfill moves them, and the range scans find them there.
+     */
+    private boolean owns(ScheduledJobResponse schedule) {
+        int slot = schedule.getSlot() != null ? schedule.getSlot() : 0;
+        for (SegmentRange range : ownedRanges.getOrDefault(schedule.getSegment(), List.of())) {
+            if (range.contains(schedule.getSegment(), slot)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Map<Integer, List<SegmentRange>> byScanSegment(List<SegmentRange> ranges) {
+        return ranges.stream().collect(Collectors.groupingBy(SegmentRange::segment));
+    }
+
+    private void scheduleNextCronOccurrence(ScheduledJobResponse schedule, long firedRunAt) {
+        long now = System.currentTimeMillis();
+        long next = CronSchedule.of(schedule.getCronExpression(), schedule.getTimeZone())
+                .nextFireTime(Math.max(now, firedRunAt));
+        if (next == CronSchedule.NO_FIRE_TIME || next > now + workerConfig.getWheel().getPreloadWindowMillis()) {
+            return;
+        }
+        if (loadedSchedules.replace(schedule.getScheduleId(), firedRunAt, next)) {
+            wheel.schedule(schedule.toBuilder().nextRunTime(Instant.ofEpochMilli(next)).build(), next);
+        }
+    }
+}
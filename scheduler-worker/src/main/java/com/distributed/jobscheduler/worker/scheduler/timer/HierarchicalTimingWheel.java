@@ -0,0 +1,139 @@
+package com.distributed.jobscheduler.worker.scheduler.timer;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel in the style of the Linux kernel timer wheel.
+ * Level 0 resolves single ticks; every higher level covers {@code wheelSize} times the span of the one below
+ * and is cascaded down when the lower level wraps. Any thread may {@link #schedule}; only the ticker thread
+ * may call {@link #advance}.
+ */
+public class HierarchicalTimingWheel<T> {
+
+    private final long tickMillis;
+    private final int wheelBits;
+    private final int wheelMask;
+    private final ArrayDeque<Entry<T>>[][] levels;
+    private final Queue<Entry<T>> incoming = new ConcurrentLinkedQueue<>();
+    private final ArrayDeque<Entry<T>> ready = new ArrayDeque<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, int levelCount, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick must be positive");
+        }
+        if (wheelSize < 2 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("Wheel size must be a power of two");
+        }
+        if (levelCount < 1 || (long) Integer.numberOfTrailingZeros(wheelSize) * levelCount > 62) {
+            throw new IllegalArgumentException("Invalid number of wheel levels");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelBits = Integer.numberOfTrailingZeros(wheelSize);
+        this.wheelMask = wheelSize - 1;
+        this.levels = new ArrayDeque[levelCount][wheelSize];
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * Smallest number of levels whose combined span covers {@code horizonMillis}.
+     */
+    public static int levelsFor(long tickMillis, int wheelSize, long horizonMillis) {
+        int bits = Integer.numberOfTrailingZeros(wheelSize);
+        long horizonTicks = Math.max(1, horizonMillis / tickMillis);
+        int levelCount = 1;
+        while (levelCount * bits < 62 && (horizonTicks >>> (levelCount * bits)) > 0) {
+            levelCount++;
+        }
+        return levelCount;
+    }
+
+    public void schedule(T item, long deadlineMillis) {
+        long deadlineTick = (deadlineMillis + tickMillis - 1) / tickMillis;
+        incoming.add(new Entry<>(item, deadlineTick));
+        size.incrementAndGet();
+    }
+
+    /**
+     * Moves the wheel forward to {@code nowMillis} and hands every expired item to {@code expired}, in deadline
+     * order at tick granularity.
+     */
+    public void advance(long nowMillis, Consumer<T> expired) {
+        drainIncoming();
+        fireReady(expired);
+
+        long targetTick = nowMillis / tickMillis;
+        while (currentTick < targetTick) {
+            currentTick++;
+            for (int level = levels.length - 1; level >= 0; level--) {
+                int shift = level * wheelBits;
+                if ((currentTick & ((1L << shift) - 1)) == 0) {
+                    replaceBucket(levels[level][(int) ((currentTick >>> shift) & wheelMask)]);
+                }
+            }
+            fireReady(expired);
+        }
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    public long getTickMillis() {
+        return tickMillis;
+    }
+
+    private void drainIncoming() {
+        Entry<T> entry;
+        while ((entry = incoming.poll()) != null) {
+            place(entry);
+        }
+    }
+
+    private void fireReady(Consumer<T> expired) {
+        Entry<T> entry;
+        while ((entry = ready.poll()) != null) {
+            size.decrementAndGet();
+            expired.accept(entry.item);
+        }
+    }
+
+    private void replaceBucket(ArrayDeque<Entry<T>> bucket) {
+        if (bucket == null) {
+            return;
+        }
+        // Due entries move to the ready queue, the rest drop to a finer level or stay parked in this bucket.
+        for (int remaining = bucket.size(); remaining > 0; remaining--) {
+            place(bucket.poll());
+        }
+    }
+
+    private void place(Entry<T> entry) {
+        long delta = entry.deadlineTick - currentTick;
+        if (delta <= 0) {
+            ready.add(entry);
+            return;
+        }
+        int level = 0;
+        while (level < levels.length - 1 && (delta >>> ((level + 1) * wheelBits)) > 0) {
+            level++;
+        }
+        // Deadlines past the top level's span are parked by index and re-placed when that bucket cascades.
+        int index = (int) ((entry.deadlineTick >>> (level * wheelBits)) & wheelMask);
+        ArrayDeque<Entry<T>> bucket = levels[level][index];
+        if (bucket == null) {
+            bucket = new ArrayDeque<>();
+            levels[level][index] = bucket;
+        }
+        bucket.add(entry);
+    }
+
+    private record Entry<T>(T item, long deadlineTick) {
+    }
+}
@@ -0,0 +1,10 @@
+-- Runs before Hibernate when spring.sql.init.platform=postgresql and spring.sql.init.mode=always, so that
+-- dispatch_records is created as a partitioned table; scheduler.worker.retention.mode=NATIVE then manages its
+-- daily partitions. The partition key has to be part of the primary key.
+CREATE TABLE IF NOT EXISTS dispatch_records (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    job_id BIGINT NOT NULL,
+    segment INTEGER NOT NULL,
+    dispatch_time TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (id, dispatch_time)
+) PARTITION BY RANGE (dispatch_time);
@@ -0,0 +1,68 @@
+package com.distributed.jobscheduler.worker.scheduler.service;
+
+import com.distributed.jobscheduler.worker.scheduler.config.WorkerConfig;
+import com.distributed.jobscheduler.worker.scheduler.entity.AssignmentFenceEntity;
+import com.distributed.jobscheduler.worker.scheduler.repository.AssignmentFenceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AssignmentFenceTest {
+
+    private final Map<String, AssignmentFenceEntity> stored = new HashMap<>();
+    private final AssignmentFenceRepository repository = mock(AssignmentFenceRepository.class);
+    private final WorkerConfig workerConfig = new WorkerConfig();
+
+    @BeforeEach
+    void setUp() {
+        workerConfig.setWorkerId("worker-1");
+        when(repository.findById(anyString())).thenAnswer(call -> Optional.ofNullable(stored.get(call.getArgument(0))));
+        when(repository.save(any())).thenAnswer(call -> {
+            AssignmentFenceEntity fence = call.getArgument(0);
+            stored.put(fence.getWorkerId(), fence);
+            return fence;
+        });
+    }
+
+    @Test
+    void refusesPushesOfEarlierTerms() {
+        AssignmentFence fence = start();
+        AtomicInteger applied = new AtomicInteger();
+
+        assertThat(fence.apply(5L, applied::incrementAndGet)).isTrue();
+        assertThat(fence.apply(5L, applied::incrementAndGet)).isTrue();
+        assertThat(fence.apply(4L, applied::incrementAndGet)).isFalse();
+        assertThat(fence.apply(null, applied::incrementAndGet)).isTrue();
+
+        assertThat(applied).hasValue(3);
+        assertThat(fence.getHighestToken()).isEqualTo(5L);
+    }
+
+    @Test
+    void restartedWorkerStillRefusesTermsItMovedPast() {
+        start().apply(7L, () -> {
+        });
+
+        AssignmentFence restarted = start();
+
+        assertThat(restarted.getHighestToken()).isEqualTo(7L);
+        assertThat(restarted.apply(6L, () -> {
+        })).isFalse();
+    }
+
+    private AssignmentFence start() {
+        AssignmentFence fence = new AssignmentFence(repository, workerConfig);
+        fence.init();
+        return fence;
+    }
+}
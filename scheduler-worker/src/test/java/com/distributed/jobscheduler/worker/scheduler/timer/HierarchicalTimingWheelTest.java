@@ -0,0 +1,116 @@
+package com.distributed.jobscheduler.worker.scheduler.timer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+class HierarchicalTimingWheelTest {
+
+    private static final long TICK = 10;
+
+    @Test
+    void itemFiresOnTheFirstAdvancePastItsDeadline() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, 8, 3, 0);
+        wheel.schedule("a", 25);
+        List<String> fired = new ArrayList<>();
+
+        wheel.advance(20, fired::add);
+        assertThat(fired).isEmpty();
+
+        wheel.advance(30, fired::add);
+        assertThat(fired).containsExactly("a");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void deadlinesOnHigherLevelsCascadeDownAndFireOnTheirTick() {
+        // 8 slots per level: level 0 spans 8 ticks, level 1 64 and level 2 512
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(TICK, 8, 3, 0);
+        long[] deadlineTicks = {1, 7, 8, 9, 63, 64, 65, 100, 511, 512, 600};
+        for (long tick : deadlineTicks) {
+            wheel.schedule(tick, tick * TICK);
+        }
+
+        Map<Long, Long> firedAtTick = advanceTickByTick(wheel, 0, 700);
+
+        assertThat(firedAtTick).hasSize(deadlineTicks.length);
+        firedAtTick.forEach((deadline, tick) -> assertThat(tick).as("deadline tick %d", deadline).isEqualTo(deadline));
+    }
+
+    @Test
+    void deadlinesPastTheTopLevelAreParkedUntilTheirTurn() {
+        // A single level spans 8 ticks; later deadlines wrap and must not fire early
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(TICK, 8, 1, 0);
+        wheel.schedule(3L, 3 * TICK);
+        wheel.schedule(19L, 19 * TICK);
+        wheel.schedule(100L, 100 * TICK);
+
+        Map<Long, Long> firedAtTick = advanceTickByTick(wheel, 0, 120);
+
+        assertThat(firedAtTick).containsExactly(entry(3L, 3L), entry(19L, 19L), entry(100L, 100L));
+    }
+
+    @Test
+    void oneLargeAdvanceFiresEverySkippedDeadlineInOrder() {
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(TICK, 16, 3, 0);
+        Random random = new Random(7);
+        for (int i = 0; i < 1000; i++) {
+            long deadline = random.nextInt(50_000);
+            wheel.schedule(deadline, deadline);
+        }
+        List<Long> fired = new ArrayList<>();
+
+        // As after a long pause of the ticker: every tick in between is skipped over in one call
+        wheel.advance(60_000, fired::add);
+
+        assertThat(fired).hasSize(1000);
+        for (int i = 1; i < fired.size(); i++) {
+            assertThat(tickOf(fired.get(i))).isGreaterThanOrEqualTo(tickOf(fired.get(i - 1)));
+        }
+    }
+
+    @Test
+    void deadlineAlreadyPassedFiresOnTheNextAdvance() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, 8, 2, 1000);
+        wheel.schedule("late", 500);
+        List<String> fired = new ArrayList<>();
+
+        wheel.advance(1000, fired::add);
+
+        assertThat(fired).containsExactly("late");
+    }
+
+    @Test
+    void levelsForCoversTheHorizon() {
+        assertThat(HierarchicalTimingWheel.levelsFor(TICK, 8, 70)).isEqualTo(1);
+        assertThat(HierarchicalTimingWheel.levelsFor(TICK, 8, 80)).isEqualTo(2);
+        assertThat(HierarchicalTimingWheel.levelsFor(TICK, 8, 640)).isEqualTo(3);
+    }
+
+    @Test
+    void wheelSizeMustBeAPowerOfTwo() {
+        assertThatThrownBy(() -> new HierarchicalTimingWheel<>(TICK, 10, 2, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Map<Long, Long> advanceTickByTick(HierarchicalTimingWheel<Long> wheel, long fromTick, long toTick) {
+        Map<Long, Long> firedAtTick = new LinkedHashMap<>();
+        for (long tick = fromTick; tick <= toTick; tick++) {
+            long now = tick;
+            wheel.advance(tick * TICK, item -> firedAtTick.put(item, now));
+        }
+        return firedAtTick;
+    }
+
+    private static long tickOf(long deadlineMillis) {
+        return (deadlineMillis + TICK - 1) / TICK;
+    }
+}
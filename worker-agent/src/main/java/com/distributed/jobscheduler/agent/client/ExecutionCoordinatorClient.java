@@ -0,0 +1,69 @@
+package com.distributed.jobscheduler.agent.client;
+
+import com.distributed.jobscheduler.agent.service.JobExecutionService;
+import com.distributed.jobscheduler.common.dto.AgentCapacity;
+import com.distributed.jobscheduler.common.response.ResponseData;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Registers this agent with the execution coordinator and keeps its capacity there in step with the adaptive limit.
+ * The registration carries the URL the coordinator dispatches jobs of failed agents to.
+ */
+@Component
+@RequiredArgsConstructor
+public class ExecutionCoordinatorClient {
+
+    private static final Logger log = LoggerFactory.getLogger(ExecutionCoordinatorClient.class);
+
+    private final JobExecutionService jobExecutionService;
+    private final Environment environment;
+    private final RestTemplate restTemplate = new RestTemplate();
+    private volatile boolean registered;
+
+    @Value("${worker.agent.execution-coordinator-url}")
+    private String executionCoordinatorUrl;
+
+    @Value("${worker.agent.advertised-url:}")
+    private String advertisedUrl;
+
+    @Scheduled(fixedDelayString = "${worker.agent.heartbeat-interval-millis:1000}")
+    public void reportCapacity() {
+        AgentCapacity capacity = jobExecutionService.getCapacity();
+        String url = executionCoordinatorUrl + "/api/execution-coordinator/workers/" + capacity.getWorkerId();
+        try {
+            if (!registered) {
+                String registerUrl = UriComponentsBuilder.fromHttpUrl(url)
+                        .queryParam("capacity", capacity.getConcurrencyLimit())
+                        .queryParam("url", advertisedUrl())
+                        .encode()
+                        .toUriString();
+                restTemplate.postForObject(registerUrl, null, ResponseData.class);
+                registered = true;
+                log.info("Registered with execution coordinator, capacity {}", capacity.getConcurrencyLimit());
+                return;
+            }
+            restTemplate.postForObject(url + "/heartbeat?capacity=" + capacity.getConcurrencyLimit()
+                    + "&currentLoad=" + jobExecutionService.getCurrentLoad(), null, ResponseData.class);
+        } catch (Exception e) {
+            // Register again once the coordinator is back, it may have lost its worker table
+            registered = false;
+            log.warn("Failed to report capacity to execution coordinator: {}", e.getMessage());
+        }
+    }
+
+    private String advertisedUrl() {
+        if (advertisedUrl != null && !advertisedUrl.isBlank()) {
+            return advertisedUrl;
+        }
+        return "http://localhost:" + environment.getProperty("local.server.port",
+                environment.getProperty("server.port", "8080"));
+    }
+}
@@ -0,0 +1,16 @@
+package com.distributed.jobscheduler.agent.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "worker.agent.history")
+@Data
+public class HistoryConfig {
+    private int bufferSize = 65536;
+    private int batchSize = 500;
+    private long flushMillis = 200;
+    private int maxWriteAttempts = 3;
+    private long checkpointIntervalMillis = 200;
+}
@@ -0,0 +1,21 @@
+package com.distributed.jobscheduler.agent.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "worker.agent.limiter")
+@Data
+public class LimiterConfig {
+    private boolean enabled = true;
+    private int minLimit = 1;
+    /** Upper bound as a multiple of the configured starting limit. */
+    private int maxLimitFactor = 4;
+    private double backoffRatio = 0.9;
+    /** Back off once the window's mean run time exceeds the baseline by this factor. */
+    private double latencyTolerance = 2.0;
+    private double cpuThreshold = 0.9;
+    private double heapThreshold = 0.85;
+    private long adjustIntervalMillis = 1000;
+}
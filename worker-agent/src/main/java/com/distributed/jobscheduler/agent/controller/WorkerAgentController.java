@@ -1,26 +1,95 @@
 package com.distributed.jobscheduler.agent.controller;
 
+import com.distributed.jobscheduler.agent.dto.ExecutorStats;
+import com.distributed.jobscheduler.agent.dto.LatencyStats;
 import com.distributed.jobscheduler.agent.service.JobExecutionService;
+import com.distributed.jobscheduler.common.dto.AgentCapacity;
+import com.distributed.jobscheduler.common.dto.JobDispatchBatchResult;
 import com.distributed.jobscheduler.common.dto.JobDispatchEvent;
 import com.distributed.jobscheduler.common.response.ResponseData;
 import com.distributed.jobscheduler.common.response.ResponseUtils;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/worker-agent")
 @RequiredArgsConstructor
 public class WorkerAgentController {
 
     private final JobExecutionService jobExecutionService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping("/dispatch")
-    public ResponseData<String> dispatchJob(@Valid @RequestBody JobDispatchEvent event) {
-        jobExecutionService.executeJob(event);
-        return ResponseUtils.success("Job execution triggered");
+    public ResponseEntity<ResponseData<String>> dispatchJob(@Valid @RequestBody JobDispatchEvent event) {
+        if (!jobExecutionService.executeJob(event)) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .body(ResponseUtils.failure("Agent is at its concurrency limit", "AGENT_AT_CAPACITY"));
+        }
+        return ResponseEntity.accepted().body(ResponseUtils.success("Job queued for execution"));
+    }
+
+    /**
+     * Each event is validated on its own, so one bad event refuses only itself; see
+     * {@link JobDispatchBatchResult#getRejected()}.
+     */
+    @PostMapping(value = "/dispatch/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ResponseData<JobDispatchBatchResult>> dispatchBatch(
+            @RequestBody List<JobDispatchEvent> events) {
+        return ResponseEntity.accepted().body(ResponseUtils.success(jobExecutionService.executeBatch(events)));
+    }
+
+    /**
+     * Admits events while the body is still being read. A line that is JSON but not a valid event is refused on its
+     * own; malformed JSON ends the batch there, leaving the events after it unread and not taken.
+     */
+    @PostMapping(value = "/dispatch/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ResponseData<JobDispatchBatchResult>> dispatchBatchStream(InputStream body)
+            throws IOException {
+        JobExecutionService.BatchAdmission batch = jobExecutionService.startBatch();
+        try (MappingIterator<JobDispatchEvent> events = objectMapper.readerFor(JobDispatchEvent.class)
+                .readValues(body)) {
+            while (events.hasNextValue()) {
+                try {
+                    batch.admit(events.nextValue());
+                } catch (JsonMappingException e) {
+                    // The iterator skips the rest of this value and resumes at the next one
+                    batch.reject(e.getOriginalMessage());
+                }
+            }
+        } catch (JsonParseException e) {
+            batch.reject(e.getOriginalMessage());
+        }
+        return ResponseEntity.accepted().body(ResponseUtils.success(batch.finish()));
+    }
+
+    @GetMapping("/capacity")
+    public ResponseData<AgentCapacity> getCapacity() {
+        return ResponseUtils.success(jobExecutionService.getCapacity());
+    }
+
+    @GetMapping("/stats/scheduling-latency")
+    public ResponseData<LatencyStats> getSchedulingLatency() {
+        return ResponseUtils.success(jobExecutionService.getSchedulingLatency());
+    }
+
+    @GetMapping("/stats/executors")
+    public ResponseData<List<ExecutorStats>> getExecutorStats() {
+        return ResponseUtils.success(jobExecutionService.getExecutorStats());
     }
 }
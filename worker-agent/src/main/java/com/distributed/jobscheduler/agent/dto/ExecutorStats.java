@@ -0,0 +1,22 @@
+package com.distributed.jobscheduler.agent.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExecutorStats {
+    private String name;
+    private int maxConcurrency;
+    private int queueCapacity;
+    private int running;
+    private int queued;
+    private long completed;
+    private long rejected;
+    private LatencyStats waitTime;
+    private LatencyStats runTime;
+}
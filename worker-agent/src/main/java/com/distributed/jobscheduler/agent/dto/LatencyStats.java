@@ -0,0 +1,18 @@
+package com.distributed.jobscheduler.agent.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LatencyStats {
+    private long count;
+    private double meanMillis;
+    private long maxMillis;
+    private long p50Millis;
+    private long p99Millis;
+}
@@ -0,0 +1,65 @@
+package com.distributed.jobscheduler.agent.service;
+
+import com.distributed.jobscheduler.agent.config.LimiterConfig;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AIMD concurrency limit. Every window the limit grows by one if it was fully used, and shrinks by
+ * {@code backoffRatio} when the host is under CPU or heap pressure or when jobs ran much slower than the baseline.
+ * The baseline follows the mean run time down at once and up only slowly, so it tracks unloaded latency.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double BASELINE_RISE = 0.05;
+
+    private final LimiterConfig config;
+    private final int minLimit;
+    private final int maxLimit;
+    private final LongAdder windowSamples = new LongAdder();
+    private final LongAdder windowTotalMillis = new LongAdder();
+    private int limit;
+    private double baselineMillis;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, LimiterConfig config) {
+        this.config = config;
+        this.minLimit = Math.max(1, Math.min(config.getMinLimit(), initialLimit));
+        this.maxLimit = Math.max(initialLimit, initialLimit * config.getMaxLimitFactor());
+        this.limit = initialLimit;
+    }
+
+    public void onSample(long runMillis) {
+        windowSamples.increment();
+        windowTotalMillis.add(runMillis);
+    }
+
+    /**
+     * Closes the current window and returns the new limit.
+     */
+    public synchronized int update(int peakInFlight, HostPressure pressure) {
+        long samples = windowSamples.sumThenReset();
+        long totalMillis = windowTotalMillis.sumThenReset();
+        double meanMillis = samples == 0 ? 0 : (double) totalMillis / samples;
+
+        boolean slow = samples > 0 && baselineMillis > 0 && meanMillis > baselineMillis * config.getLatencyTolerance();
+        if (pressure.cpuLoad() > config.getCpuThreshold() || pressure.heapUsage() > config.getHeapThreshold() || slow) {
+            limit = Math.max(minLimit, (int) (limit * config.getBackoffRatio()));
+        } else if (peakInFlight >= limit) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+
+        if (samples > 0) {
+            baselineMillis = baselineMillis == 0 || meanMillis < baselineMillis
+                    ? meanMillis
+                    : baselineMillis + (meanMillis - baselineMillis) * BASELINE_RISE;
+        }
+        return limit;
+    }
+
+    public synchronized int getLimit() {
+        return limit;
+    }
+
+    public record HostPressure(double cpuLoad, double heapUsage) {
+    }
+}
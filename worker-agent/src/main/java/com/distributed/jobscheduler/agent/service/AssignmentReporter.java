@@ -0,0 +1,131 @@
+package com.distributed.jobscheduler.agent.service;
+
+import com.distributed.jobscheduler.common.dto.ExecutionAssignmentReport;
+import com.distributed.jobscheduler.common.dto.JobDispatchEvent;
+import com.distributed.jobscheduler.common.enums.JobStatus;
+import com.distributed.jobscheduler.common.response.ResponseData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tells the execution coordinator which jobs run here, so it can move them to other agents if this one dies. Reports
+ * are coalesced per job and sent in batches every {@code report-millis}: a checkpoint folds into a start that has
+ * not gone out yet, and a finish replaces both. At most {@code max-pending} jobs are held while the coordinator is
+ * unreachable; beyond that, new jobs go unreported and are counted.
+ */
+@Component
+public class AssignmentReporter {
+
+    private static final Logger log = LoggerFactory.getLogger(AssignmentReporter.class);
+
+    private final Map<Long, ExecutionAssignmentReport> pending = new ConcurrentHashMap<>();
+    private final RestTemplate restTemplate = new RestTemplate();
+    private final AtomicLong dropped = new AtomicLong();
+
+    @Value("${worker.agent.execution-coordinator-url}")
+    private String executionCoordinatorUrl;
+
+    @Value("${worker.agent.worker-id}")
+    private String workerId;
+
+    @Value("${worker.agent.assignments.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${worker.agent.assignments.max-pending:65536}")
+    private int maxPending;
+
+    public void started(JobDispatchEvent event) {
+        if (isFull(event.getJobId())) {
+            return;
+        }
+        pending.put(event.getJobId(), ExecutionAssignmentReport.builder()
+                .jobId(event.getJobId())
+                .status(JobStatus.RUNNING)
+                .checkpointData(event.getCheckpointData())
+                .dispatch(event)
+                .build());
+    }
+
+    public void checkpoint(Long jobId, String checkpointData) {
+        if (isFull(jobId)) {
+            return;
+        }
+        pending.compute(jobId, (id, report) -> report != null
+                ? report.toBuilder().checkpointData(checkpointData).build()
+                : ExecutionAssignmentReport.builder().jobId(id).status(JobStatus.RUNNING)
+                        .checkpointData(checkpointData).build());
+    }
+
+    public void finished(Long jobId, JobStatus status) {
+        // Sent even if the start never was: the coordinator may have moved the job here itself
+        if (isFull(jobId)) {
+            return;
+        }
+        pending.put(jobId, ExecutionAssignmentReport.builder().jobId(jobId).status(status).build());
+    }
+
+    @Scheduled(fixedDelayString = "${worker.agent.assignments.report-millis:500}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<ExecutionAssignmentReport> batch = new ArrayList<>(Math.min(pending.size(), batchSize));
+        for (Long jobId : pending.keySet()) {
+            ExecutionAssignmentReport report = pending.remove(jobId);
+            if (report != null) {
+                batch.add(report);
+            }
+            if (batch.size() == batchSize) {
+                if (!send(batch)) {
+                    return;
+                }
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            send(batch);
+        }
+    }
+
+    private boolean send(List<ExecutionAssignmentReport> batch) {
+        try {
+            restTemplate.postForObject(executionCoordinatorUrl + "/api/execution-coordinator/workers/{workerId}"
+                    + "/assignments", batch, ResponseData.class, workerId);
+            return true;
+        } catch (RestClientException e) {
+            for (ExecutionAssignmentReport report : batch) {
+                // A newer report wins, except that a start must not be lost to a checkpoint taken after it
+                pending.merge(report.getJobId(), report, (newer, failed) ->
+                        newer.getDispatch() == null && newer.getStatus() == JobStatus.RUNNING
+                                && failed.getDispatch() != null
+                                ? failed.toBuilder().checkpointData(newer.getCheckpointData()).build()
+                                : newer);
+            }
+            log.warn("Failed to report {} job assignments to the execution coordinator: {}", batch.size(),
+                    e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean isFull(Long jobId) {
+        if (pending.size() < maxPending || pending.containsKey(jobId)) {
+            return false;
+        }
+        long count = dropped.incrementAndGet();
+        if (count == 1 || count % 1000 == 0) {
+            log.warn("Assignment report buffer is full, {} reports dropped so far", count);
+        }
+        return true;
+    }
+}
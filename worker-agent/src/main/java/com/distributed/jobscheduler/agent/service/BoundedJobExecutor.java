@@ -0,0 +1,211 @@
+package com.distributed.jobscheduler.agent.service;
+
+import com.distributed.jobscheduler.agent.dto.ExecutorStats;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs at most {@code maxConcurrency} jobs and queues up to {@code queueCapacity} more; anything beyond that is
+ * refused at submission. The virtual variant starts a virtual thread per job that waits for a run slot, which suits
+ * jobs that mostly block on IO. The platform variant is a fixed pool for CPU-bound jobs.
+ * When a limiter is attached, {@link #adapt} resizes {@code maxConcurrency} at runtime.
+ */
+public class BoundedJobExecutor {
+
+    private final String name;
+    private final int queueCapacity;
+    private final ResizableSemaphore admission;
+    private final ResizableSemaphore runSlots;
+    private final ExecutorService executor;
+    private final AdaptiveConcurrencyLimiter limiter;
+    private volatile int maxConcurrency;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger peakRunning = new AtomicInteger();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LatencyHistogram waitTime = new LatencyHistogram();
+    private final LatencyHistogram runTime = new LatencyHistogram();
+
+    private BoundedJobExecutor(String name, int maxConcurrency, int queueCapacity, boolean virtual,
+                               AdaptiveConcurrencyLimiter limiter) {
+        if (maxConcurrency <= 0 || queueCapacity < 0) {
+            throw new IllegalArgumentException("Invalid bounds for executor " + name);
+        }
+        this.name = name;
+        this.maxConcurrency = maxConcurrency;
+        this.queueCapacity = queueCapacity;
+        this.limiter = limiter;
+        this.admission = new ResizableSemaphore(maxConcurrency + queueCapacity);
+        if (virtual) {
+            this.runSlots = new ResizableSemaphore(maxConcurrency);
+            this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-", 0).factory());
+        } else {
+            this.runSlots = null;
+            this.executor = new ThreadPoolExecutor(maxConcurrency, maxConcurrency, 0L, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(), Thread.ofPlatform().name(name + "-", 0).factory());
+        }
+    }
+
+    public static BoundedJobExecutor virtual(String name, int maxConcurrency, int queueCapacity,
+                                             AdaptiveConcurrencyLimiter limiter) {
+        return new BoundedJobExecutor(name, maxConcurrency, queueCapacity, true, limiter);
+    }
+
+    public static BoundedJobExecutor platform(String name, int maxConcurrency, int queueCapacity,
+                                              AdaptiveConcurrencyLimiter limiter) {
+        return new BoundedJobExecutor(name, maxConcurrency, queueCapacity, false, limiter);
+    }
+
+    /**
+     * Queues {@code job} and returns {@code true}, or returns {@code false} straight away when the executor is full.
+     */
+    public boolean trySubmit(Runnable job) {
+        if (!admission.tryAcquire()) {
+            rejected.increment();
+            return false;
+        }
+        long enqueuedAt = System.nanoTime();
+        queued.incrementAndGet();
+        try {
+            executor.execute(() -> run(job, enqueuedAt));
+        } catch (RejectedExecutionException e) {
+            // Shutting down: the job never reaches run(), so its permit would otherwise be lost
+            queued.decrementAndGet();
+            admission.release();
+            rejected.increment();
+            return false;
+        }
+        return true;
+    }
+
+    public int availableSlots() {
+        return Math.max(0, admission.availablePermits());
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public int getRunning() {
+        return running.get();
+    }
+
+    public int getQueued() {
+        return queued.get();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Feeds the last window to the limiter and applies the limit it returns. Jobs already admitted keep running;
+     * a lower limit only takes effect as they finish.
+     */
+    public synchronized void adapt(AdaptiveConcurrencyLimiter.HostPressure pressure) {
+        if (limiter == null) {
+            return;
+        }
+        int newLimit = limiter.update(peakRunning.getAndSet(running.get()), pressure);
+        int delta = newLimit - maxConcurrency;
+        if (delta == 0) {
+            return;
+        }
+        if (executor instanceof ThreadPoolExecutor pool) {
+            if (delta > 0) {
+                pool.setMaximumPoolSize(newLimit);
+                pool.setCorePoolSize(newLimit);
+            } else {
+                pool.setCorePoolSize(newLimit);
+                pool.setMaximumPoolSize(newLimit);
+            }
+        }
+        admission.resize(delta);
+        if (runSlots != null) {
+            runSlots.resize(delta);
+        }
+        maxConcurrency = newLimit;
+    }
+
+    public ExecutorStats stats() {
+        return ExecutorStats.builder()
+                .name(name)
+                .maxConcurrency(maxConcurrency)
+                .queueCapacity(queueCapacity)
+                .running(running.get())
+                .queued(queued.get())
+                .completed(completed.sum())
+                .rejected(rejected.sum())
+                .waitTime(waitTime.snapshot())
+                .runTime(runTime.snapshot())
+                .build();
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void run(Runnable job, long enqueuedAt) {
+        boolean holdsRunSlot = false;
+        try {
+            if (runSlots != null) {
+                runSlots.acquire();
+                holdsRunSlot = true;
+            }
+            queued.decrementAndGet();
+            peakRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            long startedAt = System.nanoTime();
+            waitTime.record(TimeUnit.NANOSECONDS.toMillis(startedAt - enqueuedAt));
+            try {
+                job.run();
+            } finally {
+                long runMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+                runTime.record(runMillis);
+                if (limiter != null) {
+                    limiter.onSample(runMillis);
+                }
+                running.decrementAndGet();
+                completed.increment();
+            }
+        } catch (InterruptedException e) {
+            queued.decrementAndGet();
+            Thread.currentThread().interrupt();
+        } finally {
+            if (holdsRunSlot) {
+                runSlots.release();
+            }
+            admission.release();
+        }
+    }
+
+    private static final class ResizableSemaphore extends Semaphore {
+
+        private ResizableSemaphore(int permits) {
+            super(permits);
+        }
+
+        /**
+         * Adds or removes permits; removed permits may leave the count negative until holders release.
+         */
+        private void resize(int delta) {
+            if (delta > 0) {
+                release(delta);
+            } else if (delta < 0) {
+                reducePermits(-delta);
+            }
+        }
+    }
+}
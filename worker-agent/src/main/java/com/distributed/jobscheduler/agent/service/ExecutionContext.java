@@ -0,0 +1,72 @@
+package com.distributed.jobscheduler.agent.service;
+
+import com.distributed.jobscheduler.common.dto.ExecutionEvent;
+import com.distributed.jobscheduler.common.dto.JobDispatchEvent;
+import com.distributed.jobscheduler.common.enums.ExecutionEventType;
+import com.distributed.jobscheduler.common.enums.JobStatus;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Handle a running job uses to find where a previous run stopped and to record its own progress.
+ */
+public class ExecutionContext {
+
+    private final ExecutionHistoryRecorder recorder;
+    private final AssignmentReporter assignmentReporter;
+    private final JobDispatchEvent event;
+    private final String workerId;
+    private final String executionKey = UUID.randomUUID().toString();
+    private final long checkpointIntervalNanos;
+    private long lastCheckpointNanos;
+
+    ExecutionContext(ExecutionHistoryRecorder recorder, AssignmentReporter assignmentReporter, JobDispatchEvent event,
+                     String workerId, long checkpointIntervalMillis) {
+        this.recorder = recorder;
+        this.assignmentReporter = assignmentReporter;
+        this.event = event;
+        this.workerId = workerId;
+        this.checkpointIntervalNanos = checkpointIntervalMillis * 1_000_000L;
+        this.lastCheckpointNanos = System.nanoTime();
+    }
+
+    /**
+     * Checkpoint of the last unfinished run of this job, or {@code null} to start from scratch.
+     */
+    public String getResumeCheckpoint() {
+        return event.getCheckpointData();
+    }
+
+    /**
+     * Records {@code data} as the point to resume from, at most once per checkpoint interval.
+     */
+    public void checkpoint(String data) {
+        long now = System.nanoTime();
+        if (now - lastCheckpointNanos < checkpointIntervalNanos) {
+            return;
+        }
+        lastCheckpointNanos = now;
+        recorder.record(newEvent(ExecutionEventType.CHECKPOINT).checkpointData(data).build());
+        assignmentReporter.checkpoint(event.getJobId(), data);
+    }
+
+    void started() {
+        recorder.record(newEvent(ExecutionEventType.STARTED).scheduledTime(event.getScheduledTime()).build());
+        assignmentReporter.started(event);
+    }
+
+    void finished(JobStatus status, String errorMessage) {
+        recorder.record(newEvent(ExecutionEventType.FINISHED).status(status).errorMessage(errorMessage).build());
+        assignmentReporter.finished(event.getJobId(), status);
+    }
+
+    private ExecutionEvent.ExecutionEventBuilder newEvent(ExecutionEventType type) {
+        return ExecutionEvent.builder()
+                .executionKey(executionKey)
+                .jobId(event.getJobId())
+                .workerId(workerId)
+                .type(type)
+                .timestamp(Instant.now());
+    }
+}
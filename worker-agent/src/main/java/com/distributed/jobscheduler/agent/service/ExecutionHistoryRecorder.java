@@ -0,0 +1,122 @@
+package com.distributed.jobscheduler.agent.service;
+
+import com.distributed.jobscheduler.agent.config.HistoryConfig;
+import com.distributed.jobscheduler.common.dto.ExecutionEvent;
+import com.distributed.jobscheduler.common.response.ResponseData;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Write-behind buffer for execution history. Jobs only ever offer to a fixed-size ring buffer, so a slow job store
+ * never slows a run down; a writer thread drains it in batches of up to {@code batchSize}, lingering up to
+ * {@code flushMillis} for a batch to fill. When the buffer is full, new events are dropped and counted.
+ */
+@Component
+@RequiredArgsConstructor
+public class ExecutionHistoryRecorder {
+
+    private static final Logger log = LoggerFactory.getLogger(ExecutionHistoryRecorder.class);
+
+    private final HistoryConfig historyConfig;
+    private final RestTemplate restTemplate = new RestTemplate();
+    private final AtomicLong dropped = new AtomicLong();
+    private ArrayBlockingQueue<ExecutionEvent> buffer;
+    private Thread writer;
+    private volatile boolean running;
+
+    @Value("${worker.agent.job-store-url}")
+    private String jobStoreUrl;
+
+    @PostConstruct
+    public void start() {
+        buffer = new ArrayBlockingQueue<>(historyConfig.getBufferSize());
+        running = true;
+        writer = Thread.ofPlatform().name("execution-history-writer").daemon().start(this::writeLoop);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    public void record(ExecutionEvent event) {
+        if (!buffer.offer(event)) {
+            long count = dropped.incrementAndGet();
+            if (count == 1 || count % 1000 == 0) {
+                log.warn("Execution history buffer is full, {} events dropped so far", count);
+            }
+        }
+    }
+
+    private void writeLoop() {
+        List<ExecutionEvent> batch = new ArrayList<>(historyConfig.getBatchSize());
+        while (running || !buffer.isEmpty()) {
+            try {
+                fillBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+                buffer.drainTo(batch, historyConfig.getBatchSize() - batch.size());
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void fillBatch(List<ExecutionEvent> batch) throws InterruptedException {
+        long flushNanos = TimeUnit.MILLISECONDS.toNanos(historyConfig.getFlushMillis());
+        ExecutionEvent first = buffer.poll(flushNanos, TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + flushNanos;
+        while (batch.size() < historyConfig.getBatchSize()) {
+            buffer.drainTo(batch, historyConfig.getBatchSize() - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= historyConfig.getBatchSize() || remaining <= 0) {
+                return;
+            }
+            ExecutionEvent next = buffer.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void write(List<ExecutionEvent> batch) {
+        String url = jobStoreUrl + "/api/job-executions/batch";
+        for (int attempt = 1; attempt <= historyConfig.getMaxWriteAttempts(); attempt++) {
+            try {
+                restTemplate.postForObject(url, batch, ResponseData.class);
+                return;
+            } catch (Exception e) {
+                log.warn("Failed to write {} execution events (attempt {}): {}", batch.size(), attempt, e.getMessage());
+                try {
+                    Thread.sleep(attempt * historyConfig.getFlushMillis());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        log.error("Dropping {} execution events after {} failed writes", batch.size(),
+                historyConfig.getMaxWriteAttempts());
+    }
+}
@@ -1,71 +1,341 @@
 package com.distributed.jobscheduler.agent.service;
 
+import com.distributed.jobscheduler.agent.config.HistoryConfig;
+import com.distributed.jobscheduler.agent.config.LimiterConfig;
+import com.distributed.jobscheduler.agent.dto.ExecutorStats;
+import com.distributed.jobscheduler.agent.dto.LatencyStats;
+import com.distributed.jobscheduler.common.batch.JobStatusBatcher;
+import com.distributed.jobscheduler.common.dto.AgentCapacity;
+import com.distributed.jobscheduler.common.dto.JobDispatchBatchResult;
 import com.distributed.jobscheduler.common.dto.JobDispatchEvent;
+import com.distributed.jobscheduler.common.dto.JobStatusUpdate;
 import com.distributed.jobscheduler.common.enums.JobStatus;
+import com.distributed.jobscheduler.common.enums.WorkloadType;
+import com.distributed.jobscheduler.common.metrics.SchedulerMetrics;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
-import java.util.concurrent.Semaphore;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class JobExecutionService {
 
     private static final Logger log = LoggerFactory.getLogger(JobExecutionService.class);
+    private static final int SIMULATED_STEPS = 4;
 
     @Value("${worker.agent.concurrency-limit:10}")
     private int concurrencyLimit;
 
+    @Value("${worker.agent.cpu-pool-size:0}")
+    private int cpuPoolSize;
+
+    @Value("${worker.agent.queue-capacity:100}")
+    private int queueCapacity;
+
     @Value("${worker.agent.worker-id}")
     private String workerId;
 
     @Value("${worker.agent.job-store-url}")
     private String jobStoreUrl;
 
-    private final Semaphore concurrencyLimiter = new Semaphore(10);
+    @Value("${worker.agent.status-flush-millis:100}")
+    private long statusFlushMillis;
+
+    @Value("${worker.agent.status-batch-size:500}")
+    private int statusBatchSize;
+
+    @Value("${worker.agent.simulated-job-millis:1000}")
+    private long simulatedJobMillis;
+
+    private final LimiterConfig limiterConfig;
+    private final HistoryConfig historyConfig;
+    private final ExecutionHistoryRecorder historyRecorder;
+    private final AssignmentReporter assignmentReporter;
+    private final MeterRegistry meterRegistry;
+    private final Validator validator;
     private final RestTemplate restTemplate = new RestTemplate();
+    private final LatencyHistogram schedulingLatency = new LatencyHistogram();
+    private final Set<String> heldOccurrences = ConcurrentHashMap.newKeySet();
+    private BoundedJobExecutor ioExecutor;
+    private BoundedJobExecutor cpuExecutor;
+    private JobStatusBatcher statusBatcher;
+    private Timer submitTimer;
+    private Timer dispatchLagTimer;
+    private Timer statusFlushTimer;
 
-    public void executeJob(JobDispatchEvent event) {
-        try {
-            if (!concurrencyLimiter.tryAcquire()) {
-                log.warn("Concurrency limit reached. Job {} cannot be executed now", event.getJobId());
-                return;
+    @PostConstruct
+    public void init() {
+        statusBatcher = new JobStatusBatcher("job-status-flush", statusFlushMillis, statusBatchSize,
+                this::flushJobStatuses);
+        int cpuThreads = cpuPoolSize > 0 ? cpuPoolSize : Runtime.getRuntime().availableProcessors();
+        ioExecutor = BoundedJobExecutor.virtual("job-io", concurrencyLimit, queueCapacity,
+                limiterConfig.isEnabled() ? new AdaptiveConcurrencyLimiter(concurrencyLimit, limiterConfig) : null);
+        cpuExecutor = BoundedJobExecutor.platform("job-cpu", cpuThreads, queueCapacity,
+                limiterConfig.isEnabled() ? new AdaptiveConcurrencyLimiter(cpuThreads, limiterConfig) : null);
+
+        submitTimer = SchedulerMetrics.timer(meterRegistry, SchedulerMetrics.JOB_SUBMIT,
+                "Time to admit a dispatched job to its executor");
+        dispatchLagTimer = SchedulerMetrics.lagTimer(meterRegistry, SchedulerMetrics.DISPATCH_LAG,
+                "Delay between a job's scheduled time and the start of its run");
+        statusFlushTimer = SchedulerMetrics.timer(meterRegistry, SchedulerMetrics.STATUS_FLUSH,
+                "Time to apply one batch of job status updates in the job store");
+        registerExecutorGauges(ioExecutor);
+        registerExecutorGauges(cpuExecutor);
+    }
+
+    @Scheduled(fixedDelayString = "${worker.agent.limiter.adjust-interval-millis:1000}")
+    public void adaptLimits() {
+        AdaptiveConcurrencyLimiter.HostPressure pressure = readHostPressure();
+        ioExecutor.adapt(pressure);
+        cpuExecutor.adapt(pressure);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ioExecutor.shutdown();
+        cpuExecutor.shutdown();
+        statusBatcher.close();
+    }
+
+    /**
+     * Queues the job on the executor for its workload type. Returns {@code false} without queueing it when that
+     * executor is full, so the dispatcher can place the job elsewhere.
+     */
+    public boolean executeJob(JobDispatchEvent event) {
+        boolean accepted = submit(event);
+        if (!accepted) {
+            log.warn("Concurrency limit reached. Job {} cannot be executed now", event.getJobId());
+        }
+        return accepted;
+    }
+
+    /**
+     * Queues every valid event its executor has room for. Bits of events that were invalid or did not fit are left
+     * clear.
+     */
+    public JobDispatchBatchResult executeBatch(List<JobDispatchEvent> events) {
+        BatchAdmission batch = startBatch();
+        events.forEach(batch::admit);
+        return batch.finish();
+    }
+
+    /**
+     * Starts a batch whose events are admitted one at a time as they are read, so a streamed batch does not have to
+     * be buffered before its first job is queued.
+     */
+    public BatchAdmission startBatch() {
+        return new BatchAdmission();
+    }
+
+    public AgentCapacity getCapacity() {
+        return AgentCapacity.builder()
+                .workerId(workerId)
+                .concurrencyLimit(ioExecutor.getMaxConcurrency() + cpuExecutor.getMaxConcurrency())
+                .queueCapacity(ioExecutor.getQueueCapacity() + cpuExecutor.getQueueCapacity())
+                .availableSlots(availableSlots())
+                .build();
+    }
+
+    /**
+     * Jobs admitted and not yet finished, running or queued; above {@code concurrencyLimit} when jobs are waiting.
+     */
+    public int getCurrentLoad() {
+        return ioExecutor.getRunning() + ioExecutor.getQueued() + cpuExecutor.getRunning() + cpuExecutor.getQueued();
+    }
+
+    public LatencyStats getSchedulingLatency() {
+        return schedulingLatency.snapshot();
+    }
+
+    public List<ExecutorStats> getExecutorStats() {
+        return List.of(ioExecutor.stats(), cpuExecutor.stats());
+    }
+
+    /**
+     * Queues the run unless this agent already holds the same occurrence of the job, which a dispatcher resends when
+     * it lost the response to the first dispatch; a resent occurrence counts as taken.
+     */
+    private boolean submit(JobDispatchEvent event) {
+        String occurrence = event.getJobId() + "@" + event.getScheduledTime();
+        if (!heldOccurrences.add(occurrence)) {
+            return true;
+        }
+        long started = System.nanoTime();
+        boolean accepted = executorFor(event).trySubmit(() -> {
+            try {
+                runJob(event);
+            } finally {
+                heldOccurrences.remove(occurrence);
             }
+        });
+        SchedulerMetrics.recordSince(submitTimer, started);
+        if (!accepted) {
+            heldOccurrences.remove(occurrence);
+        }
+        return accepted;
+    }
 
+    private void runJob(JobDispatchEvent event) {
+        ExecutionContext context = new ExecutionContext(historyRecorder, assignmentReporter, event, workerId,
+                historyConfig.getCheckpointIntervalMillis());
+        try {
             log.info("Executing job {}: {}", event.getJobId(), event.getJobName());
 
+            if (event.getScheduledTime() != null) {
+                long lagMillis = System.currentTimeMillis() - event.getScheduledTime().toEpochMilli();
+                schedulingLatency.record(lagMillis);
+                dispatchLagTimer.record(Math.max(0, lagMillis), TimeUnit.MILLISECONDS);
+            }
             updateJobStatus(event.getJobId(), JobStatus.RUNNING);
+            context.started();
 
-            simulateJobExecution(event);
+            simulateJobExecution(event, context);
 
             updateJobStatus(event.getJobId(), JobStatus.COMPLETED);
+            context.finished(JobStatus.COMPLETED, null);
 
             log.info("Job {} completed successfully", event.getJobId());
 
         } catch (Exception e) {
             log.error("Job {} failed: {}", event.getJobId(), e.getMessage());
             updateJobStatus(event.getJobId(), JobStatus.FAILED);
-        } finally {
-            concurrencyLimiter.release();
+            context.finished(JobStatus.FAILED, e.getMessage());
         }
     }
 
-    private void simulateJobExecution(JobDispatchEvent event) throws InterruptedException {
+    private String violationsOf(JobDispatchEvent event) {
+        if (event == null) {
+            return "Event is required";
+        }
+        Set<ConstraintViolation<JobDispatchEvent>> violations = validator.validate(event);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream().map(ConstraintViolation::getMessage).sorted().collect(Collectors.joining("; "));
+    }
+
+    private void registerExecutorGauges(BoundedJobExecutor executor) {
+        Gauge.builder(SchedulerMetrics.AGENT_RUNNING, executor, BoundedJobExecutor::getRunning)
+                .description("Jobs currently running on the executor")
+                .tag("executor", executor.getName())
+                .register(meterRegistry);
+        Gauge.builder(SchedulerMetrics.AGENT_QUEUED, executor, BoundedJobExecutor::getQueued)
+                .description("Admitted jobs waiting for a run slot")
+                .tag("executor", executor.getName())
+                .register(meterRegistry);
+        Gauge.builder(SchedulerMetrics.AGENT_LIMIT, executor, BoundedJobExecutor::getMaxConcurrency)
+                .description("Current concurrency limit of the executor")
+                .tag("executor", executor.getName())
+                .register(meterRegistry);
+    }
+
+    private BoundedJobExecutor executorFor(JobDispatchEvent event) {
+        return event.getWorkloadType() == WorkloadType.CPU_BOUND ? cpuExecutor : ioExecutor;
+    }
+
+    private AdaptiveConcurrencyLimiter.HostPressure readHostPressure() {
+        double cpuLoad = 0;
+        if (ManagementFactory.getOperatingSystemMXBean() instanceof com.sun.management.OperatingSystemMXBean os) {
+            cpuLoad = Math.max(0, os.getCpuLoad());
+        }
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        long heapMax = heap.getMax() > 0 ? heap.getMax() : heap.getCommitted();
+        return new AdaptiveConcurrencyLimiter.HostPressure(cpuLoad, (double) heap.getUsed() / heapMax);
+    }
+
+    private int availableSlots() {
+        return ioExecutor.availableSlots() + cpuExecutor.availableSlots();
+    }
+
+    private void simulateJobExecution(JobDispatchEvent event, ExecutionContext context) throws InterruptedException {
         log.debug("Processing job {} payload: {}", event.getJobId(), event.getPayload());
-        Thread.sleep(1000);
+        int firstStep = 0;
+        String resumeFrom = context.getResumeCheckpoint();
+        if (resumeFrom != null && resumeFrom.startsWith("step=")) {
+            firstStep = Integer.parseInt(resumeFrom.substring("step=".length()));
+            log.info("Resuming job {} from step {}", event.getJobId(), firstStep);
+        }
+        for (int step = firstStep; step < SIMULATED_STEPS; step++) {
+            Thread.sleep(simulatedJobMillis / SIMULATED_STEPS);
+            context.checkpoint("step=" + (step + 1));
+        }
     }
 
     private void updateJobStatus(Long jobId, JobStatus status) {
-        try {
-            String url = jobStoreUrl + "/api/jobs/" + jobId + "/status?status=" + status;
-            restTemplate.put(url, null);
-            log.debug("Updated job {} status to {}", jobId, status);
-        } catch (Exception e) {
-            log.error("Failed to update job status", e);
+        statusBatcher.submit(jobId, status);
+    }
+
+    private void flushJobStatuses(List<JobStatusUpdate> updates) {
+        long started = System.nanoTime();
+        restTemplate.put(jobStoreUrl + "/api/jobs/status/batch", updates);
+        SchedulerMetrics.recordSince(statusFlushTimer, started);
+        log.debug("Flushed {} job status updates", updates.size());
+    }
+
+    /**
+     * Events of one batched dispatch, numbered in the order they are admitted.
+     */
+    public final class BatchAdmission {
+
+        private final BitSet accepted = new BitSet();
+        private final Map<Integer, String> rejected = new TreeMap<>();
+        private int size;
+
+        private BatchAdmission() {
+        }
+
+        /**
+         * Queues {@code event} if it is valid and its executor has room for it.
+         */
+        public void admit(JobDispatchEvent event) {
+            int index = size++;
+            String violations = violationsOf(event);
+            if (violations != null) {
+                rejected.put(index, violations);
+                return;
+            }
+            if (submit(event)) {
+                accepted.set(index);
+            }
+        }
+
+        /**
+         * Counts an event that could not be read as refused for {@code reason}.
+         */
+        public void reject(String reason) {
+            rejected.put(size++, reason);
+        }
+
+        public JobDispatchBatchResult finish() {
+            if (!rejected.isEmpty()) {
+                log.warn("Rejected {} of {} batched jobs as invalid", rejected.size(), size);
+            }
+            if (accepted.cardinality() + rejected.size() < size) {
+                log.warn("Concurrency limit reached. Accepted {} of {} batched jobs", accepted.cardinality(), size);
+            }
+            return JobDispatchBatchResult.of(size, accepted, rejected, availableSlots());
         }
     }
 }
@@ -0,0 +1,61 @@
+package com.distributed.jobscheduler.agent.service;
+
+import com.distributed.jobscheduler.agent.dto.LatencyStats;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Millisecond latency histogram with power-of-two buckets, so percentiles are upper bounds within a factor of two.
+ */
+public class LatencyHistogram {
+
+    private static final int BUCKETS = 40;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalMillis = new LongAdder();
+    private final LongAccumulator maxMillis = new LongAccumulator(Math::max, 0);
+
+    public void record(long latencyMillis) {
+        long millis = Math.max(0, latencyMillis);
+        int bucket = Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(millis));
+        buckets.incrementAndGet(bucket);
+        count.increment();
+        totalMillis.add(millis);
+        maxMillis.accumulate(millis);
+    }
+
+    public LatencyStats snapshot() {
+        long total = count.sum();
+        return LatencyStats.builder()
+                .count(total)
+                .meanMillis(total == 0 ? 0 : (double) totalMillis.sum() / total)
+                .maxMillis(maxMillis.get())
+                .p50Millis(percentile(0.50))
+                .p99Millis(percentile(0.99))
+                .build();
+    }
+
+    private long percentile(double quantile) {
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(quantile * total);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return i == 0 ? 0 : Math.min((1L << i) - 1, maxMillis.get());
+            }
+        }
+        return maxMillis.get();
+    }
+}